@@ -92,15 +92,15 @@ def preprocess_landmarks(landmarks):
     return landmarks_array
 
 
-def predict_gesture(landmarks_array):
+def score_frame(landmarks_array):
     """
-    Predict gesture from preprocessed landmarks
+    Score one preprocessed frame without applying the confidence threshold
     
     Args:
         landmarks_array: numpy array of shape (1, 63)
     
     Returns:
-        tuple: (prediction, confidence) or (None, None) if confidence < threshold
+        tuple: (prediction, confidence)
     """
     if scaler is None or model is None:
         raise RuntimeError("Models not loaded")
@@ -109,12 +109,25 @@ def predict_gesture(landmarks_array):
     scaled_data = scaler.transform(landmarks_array)
     
     # Predict
-    prediction = model.predict(scaled_data)[0]
     probabilities = model.predict_proba(scaled_data)[0]
-    max_confidence = np.max(probabilities)
+    best = int(np.argmax(probabilities))
+    return str(model.classes_[best]).lower(), float(probabilities[best])
+
+
+def predict_gesture(landmarks_array):
+    """
+    Predict gesture from preprocessed landmarks
+    
+    Args:
+        landmarks_array: numpy array of shape (1, 63)
     
-    if max_confidence >= CONFIDENCE_THRESHOLD:
-        return str(prediction).lower(), float(max_confidence)
+    Returns:
+        tuple: (prediction, confidence) or (None, None) if confidence < threshold
+    """
+    prediction, confidence = score_frame(landmarks_array)
+    
+    if confidence >= CONFIDENCE_THRESHOLD:
+        return prediction, confidence
     
     return None, None
 
@@ -174,9 +187,14 @@ def predict():
             },
             ... (more frames)
         ],
-        "current_text": "xin ch"
+        "current_text": "xin ch",
+        "include_frames": false   (optional)
     }
     
+    With "include_frames": true the per-frame top prediction is returned as
+    "frame_predictions" (null for unusable frames, no confidence threshold applied)
+    and voting is left to the caller.
+    
     Response:
     {
         "final_sentence": "xin chào",
@@ -220,32 +238,39 @@ def predict():
                 'error': '"current_text" must be a string'
             }), 400
         
+        include_frames = bool(data.get('include_frames', False))
+        
         # Process each frame
         valid_predictions = []
+        frame_predictions = []
         
-        for frame_idx, frame in enumerate(frames):
+        for frame in frames:
+            scored = None
             try:
                 # Validate frame structure
-                if 'landmarks' not in frame:
-                    continue
-                
-                landmarks = frame['landmarks']
-                
-                # Preprocess landmarks (normalize by wrist)
-                landmarks_array = preprocess_landmarks(landmarks)
-                
-                # Predict gesture
-                prediction, confidence = predict_gesture(landmarks_array)
-                
-                if prediction is not None:
-                    valid_predictions.append((prediction, confidence))
+                if 'landmarks' in frame:
+                    # Preprocess landmarks (normalize by wrist), then predict gesture
+                    scored = score_frame(preprocess_landmarks(frame['landmarks']))
+            except Exception:
+                # Skip invalid frames or frames with errors
+                scored = None
             
-            except ValueError as e:
-                # Skip invalid frames
-                continue
-            except Exception as e:
-                # Skip frames with errors
-                continue
+            if include_frames:
+                frame_predictions.append(
+                    {'label': scored[0], 'confidence': scored[1]} if scored is not None else None
+                )
+            
+            if scored is not None and scored[1] >= CONFIDENCE_THRESHOLD:
+                valid_predictions.append(scored)
+        
+        if include_frames:
+            # Thresholding and voting are done by the caller
+            return jsonify({
+                'success': True,
+                'frame_predictions': frame_predictions,
+                'frames_processed': len(frames),
+                'valid_predictions': len(valid_predictions)
+            }), 200
         
         # Voting: Find most common character
         if not valid_predictions:
@@ -0,0 +1,156 @@
+"""
+Build the syllable trigram language model used by the Java accent restorer
+(backend: ai.diacritics.engine=jvm).
+
+Input: a UTF-8 corpus of correctly accented Vietnamese text, one sentence per line.
+Output: a compact binary file read by com.capstone.vsl.accent.NgramModel.
+
+Format (big-endian):
+    int    magic 0x56534C4E ("VSLN"), int version (2)
+    float  log10 probability of an unknown syllable
+    float  log10 back-off weight (stupid back-off)
+    int    V, then V x (unsigned short length + UTF-8 bytes)  syllable vocabulary
+           (ids 0, 1, 2 are <s>, </s>, <unk>)
+    float  V x log10 P(w)                                     unigrams
+    table  log10 P(w | v),   key = v << 21 | w                bigrams
+    table  log10 P(w | u v), key = u << 42 | v << 21 | w      trigrams
+
+A table is a prebuilt open-addressing hash table that the backend memory-maps and probes
+in place (LongFloatTable.java):
+    int count, int capacity (power of two), long[capacity] keys, float[capacity] values
+Empty slots hold -2^63; the home slot is SplitMix64(key) & (capacity - 1), linear probing.
+
+A SHA-256 checksum is written next to the model (<output>.sha256); the backend artifact
+store only activates a model whose checksum matches.
+
+Usage:
+    python src/training/build_ngram.py corpus.txt [output_path] [min_count]
+N-grams seen fewer than min_count times are dropped (default 1).
+Default output: models/vi-syllable-ngram.bin
+
+To hot-deploy a new model to a running backend, copy it to
+<ai.artifacts.dir>/vi-syllable-ngram/<version>.bin first and its .sha256 second
+(version = any integer greater than the current one, e.g. a timestamp).
+"""
+import hashlib
+import math
+import os
+import re
+import struct
+import sys
+from collections import Counter
+
+script_dir = os.path.dirname(os.path.abspath(__file__))
+project_root = os.path.dirname(os.path.dirname(script_dir))
+DEFAULT_OUTPUT = os.path.join(project_root, 'models', 'vi-syllable-ngram.bin')
+
+MAGIC = 0x56534C4E
+VERSION = 2
+ID_BITS = 21
+BACKOFF = 0.4
+SPECIAL = ['<s>', '</s>', '<unk>']
+EMPTY = -(1 << 63)
+MASK64 = (1 << 64) - 1
+
+SYLLABLE = re.compile(r'[^\W\d_]+', re.UNICODE)
+
+
+def mix(key):
+    """SplitMix64 finalizer, same as LongFloatTable.slot() in the backend."""
+    h = key & MASK64
+    h = ((h ^ (h >> 30)) * 0xbf58476d1ce4e5b9) & MASK64
+    h = ((h ^ (h >> 27)) * 0x94d049bb133111eb) & MASK64
+    return h ^ (h >> 31)
+
+
+def write_table(f, entries):
+    capacity = 4
+    while capacity < 2 * len(entries):
+        capacity <<= 1
+    mask = capacity - 1
+    keys = [EMPTY] * capacity
+    values = [0.0] * capacity
+    for key, log_prob in entries:
+        slot = mix(key) & mask
+        while keys[slot] != EMPTY:
+            slot = (slot + 1) & mask
+        keys[slot] = key
+        values[slot] = log_prob
+    f.write(struct.pack('>ii', len(entries), capacity))
+    f.write(struct.pack(f'>{capacity}q', *keys))
+    f.write(struct.pack(f'>{capacity}f', *values))
+
+
+def write_checksum(path):
+    digest = hashlib.sha256()
+    with open(path, 'rb') as f:
+        for chunk in iter(lambda: f.read(1 << 20), b''):
+            digest.update(chunk)
+    with open(path + '.sha256', 'w', encoding='ascii') as f:
+        f.write(f"{digest.hexdigest()}  {os.path.basename(path)}\n")
+
+
+def sentences(path):
+    with open(path, encoding='utf-8') as f:
+        for line in f:
+            syllables = SYLLABLE.findall(line.lower())
+            if syllables:
+                yield syllables
+
+
+def build(corpus_path, output_path, min_count):
+    unigrams, bigrams, trigrams = Counter(), Counter(), Counter()
+    for syllables in sentences(corpus_path):
+        padded = ['<s>', '<s>'] + syllables + ['</s>']
+        unigrams.update(padded[2:])
+        for i in range(2, len(padded)):
+            bigrams[(padded[i - 1], padded[i])] += 1
+            trigrams[(padded[i - 2], padded[i - 1], padded[i])] += 1
+
+    vocab = SPECIAL + sorted(w for w in unigrams if w not in SPECIAL)
+    if len(vocab) >= 1 << ID_BITS:
+        raise ValueError(f"Vocabulary too large: {len(vocab)}")
+    ids = {w: i for i, w in enumerate(vocab)}
+    total = sum(unigrams.values())
+
+    # Context counts for conditional probabilities
+    context1 = Counter()
+    for (v, _), c in bigrams.items():
+        context1[v] += c
+    context2 = Counter()
+    for (u, v, _), c in trigrams.items():
+        context2[(u, v)] += c
+
+    unk_log_prob = math.log10(0.5 / total)
+    uni_probs = [unk_log_prob] * len(vocab)
+    for w, c in unigrams.items():
+        uni_probs[ids[w]] = math.log10(c / total)
+
+    bi_entries = [((ids[v] << ID_BITS) | ids[w], math.log10(c / context1[v]))
+                  for (v, w), c in bigrams.items() if c >= min_count]
+    tri_entries = [((ids[u] << (2 * ID_BITS)) | (ids[v] << ID_BITS) | ids[w], math.log10(c / context2[(u, v)]))
+                   for (u, v, w), c in trigrams.items() if c >= min_count]
+
+    with open(output_path, 'wb') as f:
+        f.write(struct.pack('>ii', MAGIC, VERSION))
+        f.write(struct.pack('>ff', unk_log_prob, math.log10(BACKOFF)))
+        f.write(struct.pack('>i', len(vocab)))
+        for w in vocab:
+            encoded = w.encode('utf-8')
+            f.write(struct.pack('>H', len(encoded)))
+            f.write(encoded)
+        f.write(struct.pack(f'>{len(vocab)}f', *uni_probs))
+        write_table(f, bi_entries)
+        write_table(f, tri_entries)
+    write_checksum(output_path)
+
+    print(f"Vocabulary: {len(vocab)}, bigrams: {len(bi_entries)}, trigrams: {len(tri_entries)} -> {output_path}")
+
+
+if __name__ == '__main__':
+    if len(sys.argv) < 2:
+        print(__doc__)
+        sys.exit(1)
+    build(sys.argv[1],
+          sys.argv[2] if len(sys.argv) > 2 else DEFAULT_OUTPUT,
+          int(sys.argv[3]) if len(sys.argv) > 3 else 1)
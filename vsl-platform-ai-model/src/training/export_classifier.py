@@ -0,0 +1,75 @@
+"""
+Export the trained scaler + MLP to a portable JSON file for the Java backend.
+
+The backend can run gesture recognition in-process (ai.recognition.engine=jvm)
+instead of calling /predict. It needs exactly what app.py uses:
+- StandardScaler mean_ / scale_
+- MLPClassifier coefs_ / intercepts_, activation, out_activation_, classes_
+
+Layer weights are written row-major as [outputs][inputs] (transposed from
+sklearn's coefs_) so that each output neuron is a contiguous dot product.
+
+Usage:
+    python src/training/export_classifier.py [output_path]
+Default output: models/gesture-classifier.json
+
+A SHA-256 checksum is written next to the file (<output>.sha256). To hot-deploy to a
+running backend, copy the file to <ai.artifacts.dir>/gesture-classifier/<version>.json
+first and its .sha256 second (version = any integer greater than the current one).
+"""
+import hashlib
+import json
+import os
+import sys
+
+import joblib
+
+script_dir = os.path.dirname(os.path.abspath(__file__))
+project_root = os.path.dirname(os.path.dirname(script_dir))
+
+MODEL_PATH = os.path.join(project_root, 'models', 'model_mlp.pkl')
+SCALER_PATH = os.path.join(project_root, 'models', 'scaler.pkl')
+DEFAULT_OUTPUT = os.path.join(project_root, 'models', 'gesture-classifier.json')
+
+
+def export(output_path):
+    scaler = joblib.load(SCALER_PATH)
+    model = joblib.load(MODEL_PATH)
+
+    layers = []
+    for coefs, intercepts in zip(model.coefs_, model.intercepts_):
+        inputs, outputs = coefs.shape
+        layers.append({
+            'inputs': int(inputs),
+            'outputs': int(outputs),
+            'weights': coefs.T.astype(float).ravel().tolist(),
+            'bias': intercepts.astype(float).tolist(),
+        })
+
+    artifact = {
+        'format': 'vsl-mlp',
+        'version': 1,
+        'classes': [str(c).lower() for c in model.classes_],
+        'scaler': {
+            'mean': scaler.mean_.astype(float).tolist(),
+            'scale': scaler.scale_.astype(float).tolist(),
+        },
+        'hidden_activation': model.activation,
+        'output_activation': model.out_activation_,
+        'layers': layers,
+    }
+
+    with open(output_path, 'w', encoding='utf-8') as f:
+        json.dump(artifact, f)
+
+    digest = hashlib.sha256()
+    with open(output_path, 'rb') as f:
+        digest.update(f.read())
+    with open(output_path + '.sha256', 'w', encoding='ascii') as f:
+        f.write(f"{digest.hexdigest()}  {os.path.basename(output_path)}\n")
+
+    print(f"Exported {len(layers)} layers, {len(artifact['classes'])} classes -> {output_path}")
+
+
+if __name__ == '__main__':
+    export(sys.argv[1] if len(sys.argv) > 1 else DEFAULT_OUTPUT)
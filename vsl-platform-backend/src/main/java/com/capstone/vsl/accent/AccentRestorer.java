@@ -0,0 +1,346 @@
+package com.capstone.vsl.accent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Restores Vietnamese diacritics with a beam search over the accented forms of each syllable,
+ * scored by a syllable trigram {@link NgramModel}.
+ *
+ * - Text is split into letter runs (syllables) and everything else (spaces, digits,
+ *   punctuation), which is copied through unchanged
+ * - A syllable that already carries diacritics is kept as typed, but still gives context
+ * - A syllable with no known accented form is kept as typed
+ * - The case of every letter is preserved ("Xin CHAO" -> "Xin CHÀO")
+ *
+ * Hypotheses ending in the same two syllables are recombined (Viterbi over trigram states);
+ * at most beamWidth states survive each position.
+ *
+ * Incremental mode (prefixCacheSize > 0): while signing, the client resends the whole
+ * accumulated text after every new character, so consecutive requests share all but the last
+ * syllable or two. The beams of a decoded text only depend on the syllables up to their
+ * position, so they are cached under a hash of that syllable prefix; a request re-expands only
+ * the syllables after the longest cached prefix and backtracks through the cached beams.
+ * The result is identical to a full decode. Only the beam expansion (the n-gram scoring, which
+ * dominates) is limited to the new syllables; tokenizing, hashing the syllable prefixes and
+ * backtracking still walk the whole text, so a request stays linear in its length, with a much
+ * smaller constant.
+ *
+ * Thread-safe: cached beams are immutable, everything else is local to a call.
+ */
+public final class AccentRestorer {
+
+    /**
+     * Cached prefixes are looked up this many syllables back from the end of the text
+     * (the last syllable is being typed, or one was deleted).
+     */
+    private static final int PREFIX_LOOKBACK = 2;
+
+    private final NgramModel model;
+    private final int beamWidth;
+    private final int prefixCacheSize;
+    private final Map<Long, Prefix> prefixes;
+
+    public AccentRestorer(NgramModel model, int beamWidth) {
+        this(model, beamWidth, 0);
+    }
+
+    /**
+     * @param prefixCacheSize max number of cached prefix decodings, 0 to disable incremental mode
+     */
+    public AccentRestorer(NgramModel model, int beamWidth, int prefixCacheSize) {
+        if (beamWidth < 1) {
+            throw new IllegalArgumentException("Beam width must be at least 1");
+        }
+        this.model = model;
+        this.beamWidth = beamWidth;
+        this.prefixCacheSize = prefixCacheSize;
+        this.prefixes = prefixCacheSize > 0 ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * @param text raw text, typically without diacritics
+     * @return text with diacritics restored
+     */
+    public String restore(String text) {
+        var tokens = tokenize(text);
+        var syllables = new ArrayList<String>();
+        for (var token : tokens) {
+            if (token.syllable) {
+                syllables.add(token.text.toLowerCase());
+            }
+        }
+        if (syllables.isEmpty()) {
+            return text;
+        }
+
+        var words = decode(syllables);
+
+        var out = new StringBuilder(text.length());
+        var s = 0;
+        for (var token : tokens) {
+            if (!token.syllable) {
+                out.append(token.text);
+                continue;
+            }
+            var id = words[s++];
+            out.append(id == NgramModel.UNK ? token.text : applyCase(token.text, model.syllable(id)));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Beam search over candidate ids; returns the best id per (lower-case) syllable.
+     */
+    private int[] decode(List<String> syllables) {
+        var n = syllables.size();
+        var steps = new Beam[n + 1];
+        steps[0] = Beam.START;
+
+        long[] hashes = null;
+        var reused = 0;
+        if (prefixes != null) {
+            hashes = prefixHashes(syllables);
+            reused = reuseCachedPrefix(syllables, hashes, steps);
+        }
+        for (int t = reused; t < n; t++) {
+            steps[t + 1] = expand(steps[t], candidates(syllables.get(t)));
+        }
+        if (prefixes != null && reused < n) {
+            remember(syllables, hashes, steps);
+        }
+
+        // Close the sentence and pick the best final state
+        var last = steps[n];
+        var best = 0;
+        var bestScore = Float.NEGATIVE_INFINITY;
+        for (int h = 0; h < last.size; h++) {
+            var score = last.score[h] + model.score(last.prev[h], last.word[h], NgramModel.EOS);
+            if (score > bestScore) {
+                bestScore = score;
+                best = h;
+            }
+        }
+
+        var words = new int[n];
+        for (int t = n; t > 0; t--) {
+            words[t - 1] = steps[t].word[best];
+            best = steps[t].parent[best];
+        }
+        return words;
+    }
+
+    private Beam expand(Beam from, int[] candidates) {
+        var next = new Beam(from.size * candidates.length);
+        for (int p = 0; p < from.size; p++) {
+            var u = from.prev[p];
+            var v = from.word[p];
+            for (var w : candidates) {
+                next.offer(v, w, from.score[p] + model.score(u, v, w), p);
+            }
+        }
+        next.prune(beamWidth);
+        return next;
+    }
+
+    /**
+     * Copy the beams of the longest cached prefix of the syllables into steps.
+     *
+     * @return number of syllables whose beams were reused
+     */
+    private int reuseCachedPrefix(List<String> syllables, long[] hashes, Beam[] steps) {
+        var n = syllables.size();
+        for (int t = n; t >= Math.max(1, n - PREFIX_LOOKBACK); t--) {
+            var prefix = prefixes.get(hashes[t]);
+            if (prefix != null && prefix.matches(syllables, t)) {
+                System.arraycopy(prefix.steps, 1, steps, 1, t);
+                return t;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Cache the beams of a decoded text under its full syllable sequence (next character
+     * starts a new syllable) and under all but its last syllable (next character extends it).
+     */
+    private void remember(List<String> syllables, long[] hashes, Beam[] steps) {
+        if (prefixes.size() >= prefixCacheSize) {
+            evictPrefixes();
+        }
+        var n = syllables.size();
+        var prefix = new Prefix(syllables.toArray(String[]::new), steps);
+        prefixes.put(hashes[n], prefix);
+        if (n > 1) {
+            prefixes.put(hashes[n - 1], prefix);
+        }
+    }
+
+    /**
+     * Drop arbitrary entries until the cache is back under 90% of its capacity.
+     */
+    private void evictPrefixes() {
+        var target = (int) (prefixCacheSize * 0.9);
+        var iterator = prefixes.keySet().iterator();
+        while (prefixes.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * hashes[t] identifies the first t syllables.
+     */
+    private static long[] prefixHashes(List<String> syllables) {
+        var hashes = new long[syllables.size() + 1];
+        for (int t = 0; t < syllables.size(); t++) {
+            var h = hashes[t] * 0x9E3779B97F4A7C15L + syllables.get(t).hashCode();
+            hashes[t + 1] = h ^ (h >>> 29);
+        }
+        return hashes;
+    }
+
+    private int[] candidates(String syllable) {
+        if (VietnameseText.hasDiacritics(syllable)) {
+            return new int[]{model.id(syllable)};
+        }
+        var candidates = model.candidates(VietnameseText.fold(syllable));
+        return candidates.length > 0 ? candidates : new int[]{NgramModel.UNK};
+    }
+
+    /**
+     * Copy the letter case of the typed syllable onto the restored one.
+     */
+    private static String applyCase(String typed, String restored) {
+        if (typed.length() != restored.length()) {
+            return restored;
+        }
+        var out = restored.toCharArray();
+        for (int i = 0; i < out.length; i++) {
+            if (Character.isUpperCase(typed.charAt(i))) {
+                out[i] = Character.toUpperCase(out[i]);
+            }
+        }
+        return new String(out);
+    }
+
+    static List<Token> tokenize(String text) {
+        var tokens = new ArrayList<Token>();
+        var start = 0;
+        while (start < text.length()) {
+            var letters = Character.isLetter(text.charAt(start));
+            var end = start + 1;
+            while (end < text.length() && Character.isLetter(text.charAt(end)) == letters) {
+                end++;
+            }
+            tokens.add(new Token(text.substring(start, end), letters));
+            start = end;
+        }
+        return tokens;
+    }
+
+    record Token(String text, boolean syllable) {
+    }
+
+    /**
+     * Decoded syllables and their beams (steps[t] = beam after the first t syllables).
+     */
+    private record Prefix(String[] syllables, Beam[] steps) {
+
+        private boolean matches(List<String> other, int length) {
+            if (syllables.length < length) {
+                return false;
+            }
+            for (int t = 0; t < length; t++) {
+                if (!syllables[t].equals(other.get(t))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Hypotheses at one position: trigram state (prev, word), log10 score and back-pointer
+     * into the previous position. Not modified once pruned, so beams can be shared between
+     * requests.
+     */
+    private static final class Beam {
+
+        private static final Beam START = start();
+
+        private int[] prev;
+        private int[] word;
+        private float[] score;
+        private int[] parent;
+        private int size;
+
+        private Beam(int capacity) {
+            prev = new int[capacity];
+            word = new int[capacity];
+            score = new float[capacity];
+            parent = new int[capacity];
+        }
+
+        private static Beam start() {
+            var beam = new Beam(1);
+            beam.offer(NgramModel.BOS, NgramModel.BOS, 0f, -1);
+            return beam;
+        }
+
+        /**
+         * Add a hypothesis, or improve the existing one with the same state (recombination).
+         */
+        private void offer(int v, int w, float s, int from) {
+            for (int h = 0; h < size; h++) {
+                if (word[h] == w && prev[h] == v) {
+                    if (s > score[h]) {
+                        score[h] = s;
+                        parent[h] = from;
+                    }
+                    return;
+                }
+            }
+            prev[size] = v;
+            word[size] = w;
+            score[size] = s;
+            parent[size] = from;
+            size++;
+        }
+
+        /**
+         * Keep the best width hypotheses (partial selection sort; beams are small).
+         */
+        private void prune(int width) {
+            if (size > width) {
+                for (int i = 0; i < width; i++) {
+                    var best = i;
+                    for (int h = i + 1; h < size; h++) {
+                        if (score[h] > score[best]) {
+                            best = h;
+                        }
+                    }
+                    swap(i, best);
+                }
+                size = width;
+            }
+            if (prev.length > size) {
+                // Trim so cached beams keep only the surviving hypotheses
+                prev = Arrays.copyOf(prev, size);
+                word = Arrays.copyOf(word, size);
+                score = Arrays.copyOf(score, size);
+                parent = Arrays.copyOf(parent, size);
+            }
+        }
+
+        private void swap(int a, int b) {
+            var p = prev[a]; prev[a] = prev[b]; prev[b] = p;
+            var w = word[a]; word[a] = word[b]; word[b] = w;
+            var s = score[a]; score[a] = score[b]; score[b] = s;
+            var f = parent[a]; parent[a] = parent[b]; parent[b] = f;
+        }
+    }
+}
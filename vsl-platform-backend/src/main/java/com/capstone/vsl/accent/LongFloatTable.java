@@ -0,0 +1,87 @@
+package com.capstone.vsl.accent;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Read-only open-addressing hash table from long keys to float values, laid out in a
+ * {@link ByteBuffer} exactly as written by build_ngram.py:
+ *
+ *     int count, int capacity (power of two), long[capacity] keys, float[capacity] values
+ *
+ * Empty slots hold {@link #EMPTY}; collisions are resolved by linear probing. The table is
+ * built offline, so a memory-mapped model file is used in place: opening it costs nothing,
+ * and lookups read the key and value slots directly (12 bytes per slot, no boxing).
+ */
+final class LongFloatTable {
+
+    static final long EMPTY = Long.MIN_VALUE;
+    private static final int HEADER_BYTES = 8;
+
+    private final ByteBuffer buffer;
+    private final int count;
+    private final int mask;
+    private final int keysOffset;
+    private final int valuesOffset;
+
+    private LongFloatTable(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.count = buffer.getInt(offset);
+        var capacity = buffer.getInt(offset + 4);
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1 || count < 0 || count >= capacity) {
+            throw new IllegalArgumentException("Invalid n-gram table: count " + count + ", capacity " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.keysOffset = offset + HEADER_BYTES;
+        this.valuesOffset = keysOffset + capacity * Long.BYTES;
+        if ((long) valuesOffset + (long) capacity * Float.BYTES > buffer.limit()) {
+            throw new IllegalArgumentException("Truncated n-gram table");
+        }
+    }
+
+    /**
+     * View of the table stored at the given offset of the buffer.
+     */
+    static LongFloatTable at(ByteBuffer buffer, int offset) {
+        return new LongFloatTable(buffer, offset);
+    }
+
+    /**
+     * @return the value for the key, or missing if absent
+     */
+    float get(long key, float missing) {
+        var slot = slot(key, mask);
+        while (true) {
+            var k = buffer.getLong(keysOffset + slot * Long.BYTES);
+            if (k == key) {
+                return buffer.getFloat(valuesOffset + slot * Float.BYTES);
+            }
+            if (k == EMPTY) {
+                return missing;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    int size() {
+        return count;
+    }
+
+    /**
+     * Offset of the first byte after the table.
+     */
+    int end() {
+        return valuesOffset + (mask + 1) * Float.BYTES;
+    }
+
+    /**
+     * Home slot of a key. n-gram keys are packed ids with highly regular low bits,
+     * so they go through the SplitMix64 finalizer (mirrored in build_ngram.py).
+     */
+    static int slot(long key, int mask) {
+        var h = key;
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        h ^= h >>> 31;
+        return (int) h & mask;
+    }
+}
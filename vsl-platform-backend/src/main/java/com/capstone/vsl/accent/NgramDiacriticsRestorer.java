@@ -0,0 +1,124 @@
+package com.capstone.vsl.accent;
+
+import com.capstone.vsl.artifact.ArtifactHandle;
+import com.capstone.vsl.artifact.ArtifactStore;
+import com.capstone.vsl.integration.DiacriticsRestorer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * N-gram Diacritics Restorer
+ * Restores accents in-process with a syllable trigram model instead of calling the Python
+ * /fix-diacritics endpoint. Enabled with ai.diacritics.engine=jvm.
+ *
+ * The model is built with vsl-platform-ai-model/src/training/build_ngram.py and served by the
+ * {@link ArtifactStore} (artifact ai.diacritics.artifact, ".bin"): it is memory-mapped and
+ * used in place, and new versions are swapped in while running. Results are cached by input
+ * text (bounded by ai.diacritics.cache-size): clients resend the same short phrases, and a
+ * hit skips decoding entirely. Entries restored by an older model version count as misses.
+ *
+ * Texts that only grew by a character or a syllable since an earlier request (the recognize
+ * page resends the accumulated text) are decoded incrementally from the cached beams of the
+ * shared prefix, see {@link AccentRestorer}; ai.diacritics.incremental.prefix-cache-size=0
+ * turns this off.
+ *
+ * Metrics: vsl.diacritics.cache.requests{result=hit|miss}, vsl.diacritics.cache.size
+ */
+@Component
+@ConditionalOnProperty(name = "ai.diacritics.engine", havingValue = "jvm")
+@RequiredArgsConstructor
+@Slf4j
+public class NgramDiacriticsRestorer implements DiacriticsRestorer {
+
+    private final ArtifactStore artifactStore;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Cached> cache = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Value("${ai.diacritics.artifact:vi-syllable-ngram}")
+    private String artifactName;
+
+    @Value("${ai.diacritics.beam-width:8}")
+    private int beamWidth;
+
+    @Value("${ai.diacritics.cache-size:10000}")
+    private int cacheSize;
+
+    @Value("${ai.diacritics.incremental.prefix-cache-size:2000}")
+    private int prefixCacheSize;
+
+    private ArtifactHandle<AccentRestorer> restorer;
+
+    /**
+     * Loads the model at startup; a missing or broken model fails the startup
+     * rather than the first request.
+     */
+    @PostConstruct
+    public void init() {
+        restorer = artifactStore.register(artifactName, "bin", artifact -> {
+            var model = NgramModel.of(artifact.buffer());
+            log.info("Opened syllable n-gram model {} version {} ({} syllables, {} n-grams)",
+                    artifact.name(), artifact.version(), model.vocabularySize(), model.ngramCount());
+            return new AccentRestorer(model, beamWidth, prefixCacheSize);
+        });
+
+        FunctionCounter.builder("vsl.diacritics.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("Diacritics result cache lookups")
+                .register(meterRegistry);
+        FunctionCounter.builder("vsl.diacritics.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("Diacritics result cache lookups")
+                .register(meterRegistry);
+        Gauge.builder("vsl.diacritics.cache.size", cache, Map::size)
+                .description("Number of cached diacritics results")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String restore(String rawText) {
+        try (var lease = restorer.acquire()) {
+            var cached = cache.get(rawText);
+            if (cached != null && cached.version() == lease.version()) {
+                hits.increment();
+                return cached.text();
+            }
+            misses.increment();
+
+            var restored = lease.get().restore(rawText);
+            if (cache.size() >= cacheSize) {
+                evict();
+            }
+            cache.put(rawText, new Cached(lease.version(), restored));
+            return restored;
+        }
+    }
+
+    /**
+     * Drop arbitrary entries until the cache is back under 90% of its capacity.
+     */
+    private void evict() {
+        var target = (int) (cacheSize * 0.9);
+        var iterator = cache.keySet().iterator();
+        while (cache.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record Cached(long version, String text) {
+    }
+}
@@ -0,0 +1,161 @@
+package com.capstone.vsl.accent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Syllable trigram language model with stupid back-off, in the binary format written by
+ * vsl-platform-ai-model/src/training/build_ngram.py.
+ *
+ * Syllables are mapped to int ids; unigram, bigram and trigram log-probabilities are read in
+ * place from the model buffer (usually a memory-mapped file, see
+ * {@link com.capstone.vsl.artifact.ArtifactStore}). The n-gram tables are prebuilt
+ * {@link LongFloatTable}s keyed by the ids packed into one long (21 bits per id), so opening
+ * a model only decodes the vocabulary, however many n-grams it has.
+ *
+ * For decoding, every syllable is also indexed by its diacritic-free form: the candidates of
+ * "ban" are the ids of "ban", "bán", "bàn", "bạn", "bản", ...
+ *
+ * Immutable after creation; safe to share between threads.
+ */
+public final class NgramModel {
+
+    static final int MAGIC = 0x56534C4E;
+    static final int VERSION = 2;
+    static final int ID_BITS = 21;
+    static final int BOS = 0;
+    static final int EOS = 1;
+    static final int UNK = 2;
+
+    private static final float MISSING = Float.NaN;
+    private static final int[] NO_CANDIDATES = new int[0];
+
+    private final ByteBuffer buffer;
+    private final String[] vocabulary;
+    private final Map<String, Integer> ids;
+    private final Map<String, int[]> candidates;
+    private final int unigramsOffset;
+    private final LongFloatTable bigrams;
+    private final LongFloatTable trigrams;
+    private final float unknownLogProb;
+    private final float backoff;
+
+    private NgramModel(ByteBuffer buffer) {
+        this.buffer = buffer;
+        var in = buffer.duplicate();
+        if (in.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not an n-gram model file");
+        }
+        var version = in.getInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported n-gram model version: " + version);
+        }
+        this.unknownLogProb = in.getFloat();
+        this.backoff = in.getFloat();
+
+        var size = in.getInt();
+        if (size <= UNK || size >= 1 << ID_BITS) {
+            throw new IllegalArgumentException("Invalid vocabulary size: " + size);
+        }
+        this.vocabulary = new String[size];
+        for (int i = 0; i < size; i++) {
+            var bytes = new byte[Short.toUnsignedInt(in.getShort())];
+            in.get(bytes);
+            vocabulary[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        this.unigramsOffset = in.position();
+        this.bigrams = LongFloatTable.at(buffer, unigramsOffset + size * Float.BYTES);
+        this.trigrams = LongFloatTable.at(buffer, bigrams.end());
+
+        this.ids = new HashMap<>(size * 2);
+        var grouped = new HashMap<String, List<Integer>>();
+        for (int id = UNK + 1; id < size; id++) {
+            ids.put(vocabulary[id], id);
+            grouped.computeIfAbsent(VietnameseText.fold(vocabulary[id]), k -> new ArrayList<>()).add(id);
+        }
+        this.candidates = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((folded, list) -> candidates.put(folded,
+                list.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    /**
+     * Open a model stored in a buffer, from its position to its limit. The buffer is used
+     * in place and must not be modified afterwards.
+     *
+     * @throws IllegalArgumentException if the buffer is not a supported model file
+     */
+    public static NgramModel of(ByteBuffer buffer) {
+        try {
+            return new NgramModel(buffer.slice().order(ByteOrder.BIG_ENDIAN));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated n-gram model file", e);
+        }
+    }
+
+    /**
+     * Read a model from a stream into a heap buffer (tests and classpath resources).
+     */
+    public static NgramModel read(InputStream stream) throws IOException {
+        return of(ByteBuffer.wrap(stream.readAllBytes()));
+    }
+
+    /**
+     * log10 score of w following (u, v), backing off to bigram and unigram estimates.
+     */
+    public float score(int u, int v, int w) {
+        if (w == UNK) {
+            return unknownLogProb;
+        }
+        var trigram = trigrams.get(key(u, v, w), MISSING);
+        if (!Float.isNaN(trigram)) {
+            return trigram;
+        }
+        var bigram = bigrams.get(key(v, w), MISSING);
+        if (!Float.isNaN(bigram)) {
+            return backoff + bigram;
+        }
+        return 2 * backoff + buffer.getFloat(unigramsOffset + w * Float.BYTES);
+    }
+
+    /**
+     * @return ids of all accented forms of a syllable (empty if the syllable is unknown)
+     */
+    public int[] candidates(String foldedSyllable) {
+        return candidates.getOrDefault(foldedSyllable, NO_CANDIDATES);
+    }
+
+    /**
+     * @return id of an exact (lower-case) syllable, or {@link #UNK}
+     */
+    public int id(String syllable) {
+        return ids.getOrDefault(syllable, UNK);
+    }
+
+    public String syllable(int id) {
+        return vocabulary[id];
+    }
+
+    public int vocabularySize() {
+        return vocabulary.length;
+    }
+
+    public int ngramCount() {
+        return bigrams.size() + trigrams.size();
+    }
+
+    static long key(int v, int w) {
+        return ((long) v << ID_BITS) | w;
+    }
+
+    static long key(int u, int v, int w) {
+        return ((long) u << (2 * ID_BITS)) | ((long) v << ID_BITS) | w;
+    }
+}
@@ -0,0 +1,64 @@
+package com.capstone.vsl.accent;
+
+import java.text.Normalizer;
+
+/**
+ * Diacritic folding for Vietnamese: maps every accented Latin letter to its bare ASCII
+ * base letter (ầ -> a, đ -> d). Used to find the accented candidates of a syllable.
+ *
+ * The mapping is precomputed into a lookup table at class load, so folding is a plain
+ * array lookup per character instead of a Unicode normalization per call.
+ */
+public final class VietnameseText {
+
+    private static final char FIRST = 'À';
+    private static final char LAST = 'ỿ';
+    private static final char[] BASE = new char[LAST - FIRST + 1];
+
+    static {
+        for (char c = FIRST; c <= LAST; c++) {
+            var decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            var base = decomposed.charAt(0);
+            BASE[c - FIRST] = base < 0x80 && Character.isLetter(base) ? Character.toLowerCase(base) : 0;
+        }
+        BASE['đ' - FIRST] = 'd';
+        BASE['Đ' - FIRST] = 'd';
+    }
+
+    private VietnameseText() {
+    }
+
+    /**
+     * @return lower-case ASCII form of the syllable (diacritics removed)
+     */
+    public static String fold(String syllable) {
+        var out = new char[syllable.length()];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = foldChar(syllable.charAt(i));
+        }
+        return new String(out);
+    }
+
+    /**
+     * @return true if the syllable contains at least one accented letter
+     */
+    public static boolean hasDiacritics(String syllable) {
+        for (int i = 0; i < syllable.length(); i++) {
+            var c = syllable.charAt(i);
+            if (c >= FIRST && c <= LAST && BASE[c - FIRST] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static char foldChar(char c) {
+        if (c < 0x80) {
+            return Character.toLowerCase(c);
+        }
+        if (c >= FIRST && c <= LAST && BASE[c - FIRST] != 0) {
+            return BASE[c - FIRST];
+        }
+        return Character.toLowerCase(c);
+    }
+}
@@ -0,0 +1,157 @@
+package com.capstone.vsl.artifact;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Handle to the active version of one artifact, obtained from {@link ArtifactStore#register}.
+ *
+ * Requests {@link #acquire()} a lease on the current version and close it when done:
+ *
+ *     try (var lease = handle.acquire()) {
+ *         return lease.get().restore(text);
+ *     }
+ *
+ * A new version is swapped in atomically; the old one is reference counted and retired only
+ * after the last in-flight lease on it is closed, so a request never sees a model change
+ * half-way through. Retired mappings are released by the garbage collector.
+ *
+ * @param <T> loaded model type
+ */
+@Slf4j
+public final class ArtifactHandle<T> {
+
+    private final String name;
+    private final String extension;
+    private final ArtifactLoader<T> loader;
+    private final AtomicReference<Version<T>> current = new AtomicReference<>();
+
+    ArtifactHandle(String name, String extension, ArtifactLoader<T> loader) {
+        this.name = name;
+        this.extension = extension;
+        this.loader = loader;
+    }
+
+    /**
+     * Lease the current version. Never blocks; the lease must be closed.
+     *
+     * @throws IllegalStateException if no version has been loaded
+     */
+    public Lease<T> acquire() {
+        while (true) {
+            var version = current.get();
+            if (version == null) {
+                throw new IllegalStateException("Artifact not loaded: " + name);
+            }
+            // Fails only if the version was retired between get() and retain(); retry on the new one
+            if (version.retain()) {
+                return new Lease<>(version);
+            }
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return version number of the active version, or -1 if none is loaded
+     */
+    public long version() {
+        var version = current.get();
+        return version == null ? -1 : version.artifact.version();
+    }
+
+    String extension() {
+        return extension;
+    }
+
+    ArtifactLoader<T> loader() {
+        return loader;
+    }
+
+    /**
+     * Make a loaded version the current one and drop the store's reference to the previous one.
+     */
+    void install(MappedArtifact artifact, T value) {
+        var previous = current.getAndSet(new Version<>(artifact, value));
+        if (previous != null) {
+            previous.release();
+        }
+    }
+
+    /**
+     * A lease on one version; closing it more than once has no effect.
+     */
+    public static final class Lease<T> implements AutoCloseable {
+        private final Version<T> version;
+        private boolean closed;
+
+        private Lease(Version<T> version) {
+            this.version = version;
+        }
+
+        public T get() {
+            return version.value;
+        }
+
+        public long version() {
+            return version.artifact.version();
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                version.release();
+            }
+        }
+    }
+
+    /**
+     * A loaded version and its reference count: one reference held by the handle while the
+     * version is current, plus one per open lease. Once the count reaches zero it stays zero.
+     */
+    private static final class Version<T> {
+        private final MappedArtifact artifact;
+        private final T value;
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        private Version(MappedArtifact artifact, T value) {
+            this.artifact = artifact;
+            this.value = value;
+        }
+
+        private boolean retain() {
+            while (true) {
+                var count = references.get();
+                if (count == 0) {
+                    return false;
+                }
+                if (references.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private void release() {
+            if (references.decrementAndGet() == 0) {
+                retire();
+            }
+        }
+
+        private void retire() {
+            if (value instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close artifact {} version {}: {}",
+                            artifact.name(), artifact.version(), e.getMessage());
+                }
+            }
+            log.info("Retired artifact {} version {}", artifact.name(), artifact.version());
+        }
+    }
+}
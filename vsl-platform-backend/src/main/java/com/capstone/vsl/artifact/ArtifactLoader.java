@@ -0,0 +1,19 @@
+package com.capstone.vsl.artifact;
+
+import java.io.IOException;
+
+/**
+ * Turns a mapped artifact into the object that serves requests (a model, a decoder, ...).
+ * Implementations should read from the mapping in place rather than copy it to the heap.
+ *
+ * @param <T> loaded model type; if it is {@link AutoCloseable} it is closed when its
+ *            version is retired
+ */
+@FunctionalInterface
+public interface ArtifactLoader<T> {
+
+    /**
+     * @throws IllegalArgumentException if the file is not a valid artifact
+     */
+    T load(MappedArtifact artifact) throws IOException;
+}
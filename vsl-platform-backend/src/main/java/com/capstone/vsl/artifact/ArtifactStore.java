@@ -0,0 +1,246 @@
+package com.capstone.vsl.artifact;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+/**
+ * Model Artifact Store
+ * Serves backend-side model files (classifier weights, n-gram tables, ...) from
+ * memory-mapped, checksummed, versioned files, and hot-swaps new versions.
+ *
+ * Layout under ai.artifacts.dir, for an artifact "name" with extension "ext":
+ * - name/&lt;version&gt;.ext plus name/&lt;version&gt;.ext.sha256 (sha256sum format);
+ *   the highest version whose checksum file exists is active. Copy the model first and the
+ *   checksum last: a version without its checksum is treated as still being copied
+ * - name.ext (optionally with name.ext.sha256) as version 0, when there is no name/ directory
+ *
+ * Files are mapped with {@link FileChannel#map} and never copied to the heap by the store,
+ * so startup cost does not grow with model size beyond the checksum pass (which also
+ * pre-faults the pages). New versions are picked up every ai.artifacts.poll-interval-ms;
+ * a version that fails to map, verify or load is logged and skipped, and the next newest one
+ * is tried (at startup) or the active one keeps serving. A rejected version is not retried
+ * (nor re-hashed) until its file or checksum file changes.
+ *
+ * Metrics: vsl.artifact.version{name}, vsl.artifact.reloads{name,result=success|failure}
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArtifactStore {
+
+    private static final Pattern VERSION_FILE = Pattern.compile("(\\d{1,18})\\.(.+)");
+
+    private final MeterRegistry meterRegistry;
+    private final List<ArtifactHandle<?>> handles = new CopyOnWriteArrayList<>();
+    // Versions that failed to load, by file, with the state of the files when they failed
+    private final Map<Path, Fingerprint> rejected = new ConcurrentHashMap<>();
+
+    @Value("${ai.artifacts.dir:models}")
+    private Path directory;
+
+    @Value("${ai.artifacts.verify-checksum:true}")
+    private boolean verifyChecksum;
+
+    /**
+     * Load the newest valid version of an artifact and keep it up to date.
+     *
+     * @param name      artifact name
+     * @param extension file extension without the dot (e.g. "bin")
+     * @param loader    turns the mapped file into the served object
+     * @throws IllegalStateException if no valid version can be loaded
+     */
+    public <T> ArtifactHandle<T> register(String name, String extension, ArtifactLoader<T> loader) {
+        var handle = new ArtifactHandle<>(name, extension, loader);
+        var candidates = candidates(name, extension);
+        if (candidates.isEmpty()) {
+            throw new IllegalStateException("No artifact " + name + " in " + directory.toAbsolutePath());
+        }
+        if (!loadNewest(handle, candidates)) {
+            throw new IllegalStateException("No valid version of artifact " + name + " in "
+                    + directory.toAbsolutePath() + " (tried " + candidates.size() + ")");
+        }
+
+        Gauge.builder("vsl.artifact.version", handle, ArtifactHandle::version)
+                .tag("name", name)
+                .description("Active version of a model artifact")
+                .register(meterRegistry);
+        handles.add(handle);
+        return handle;
+    }
+
+    /**
+     * Swap in newer versions of all registered artifacts.
+     */
+    @Scheduled(
+            initialDelayString = "${ai.artifacts.poll-interval-ms:30000}",
+            fixedDelayString = "${ai.artifacts.poll-interval-ms:30000}")
+    public void reload() {
+        for (var handle : handles) {
+            var newer = candidates(handle.name(), handle.extension()).stream()
+                    .filter(candidate -> candidate.version() > handle.version())
+                    .toList();
+            if (!newer.isEmpty() && loadNewest(handle, newer)) {
+                reloads(handle.name(), "success").increment();
+            }
+        }
+    }
+
+    /**
+     * Load the first candidate that maps, verifies and loads, skipping ones already rejected
+     * in the same state.
+     *
+     * @param candidates newest first
+     * @return true if one was loaded
+     */
+    private <T> boolean loadNewest(ArtifactHandle<T> handle, List<Candidate> candidates) {
+        for (var candidate : candidates) {
+            var fingerprint = fingerprint(candidate);
+            if (fingerprint.equals(rejected.get(candidate.path()))) {
+                continue;
+            }
+            try {
+                load(handle, candidate);
+                rejected.remove(candidate.path());
+                return true;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Skipping artifact {} version {}: {}", handle.name(), candidate.version(), e.getMessage());
+                reloads(handle.name(), "failure").increment();
+                rejected.put(candidate.path(), fingerprint);
+            }
+        }
+        return false;
+    }
+
+    private <T> void load(ArtifactHandle<T> handle, Candidate candidate) throws IOException {
+        var start = System.nanoTime();
+        var artifact = map(handle.name(), candidate);
+        var value = handle.loader().load(artifact);
+        handle.install(artifact, value);
+        log.info("Loaded artifact {} version {} ({} bytes, sha256 {}) in {} ms",
+                handle.name(), artifact.version(), artifact.size(), artifact.sha256(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private MappedArtifact map(String name, Candidate candidate) throws IOException {
+        try (var channel = FileChannel.open(candidate.path(), StandardOpenOption.READ)) {
+            var size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Artifact larger than 2 GB: " + candidate.path());
+            }
+            // The mapping stays valid after the channel is closed
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            var sha256 = verifyChecksum ? sha256(buffer.duplicate()) : "unverified";
+            if (verifyChecksum && candidate.checksum() != null) {
+                var expected = Files.readString(candidate.checksum(), StandardCharsets.US_ASCII).strip().split("\\s+")[0];
+                if (!expected.equalsIgnoreCase(sha256)) {
+                    throw new IllegalArgumentException("Checksum mismatch for " + candidate.path()
+                            + ": expected " + expected + ", got " + sha256);
+                }
+            }
+            return new MappedArtifact(name, candidate.version(), candidate.path(), buffer, sha256);
+        }
+    }
+
+    /**
+     * @return the complete versions of an artifact, newest first
+     */
+    private List<Candidate> candidates(String name, String extension) {
+        var versions = directory.resolve(name);
+        if (!Files.isDirectory(versions)) {
+            var file = directory.resolve(name + "." + extension);
+            if (!Files.isRegularFile(file)) {
+                return List.of();
+            }
+            var checksum = checksumFile(file);
+            return List.of(new Candidate(0, file, Files.isRegularFile(checksum) ? checksum : null));
+        }
+
+        var candidates = new ArrayList<Candidate>();
+        try (var files = Files.list(versions)) {
+            for (var file : (Iterable<Path>) files::iterator) {
+                var matcher = VERSION_FILE.matcher(file.getFileName().toString());
+                if (!matcher.matches() || !matcher.group(2).equals(extension)) {
+                    continue;
+                }
+                var checksum = checksumFile(file);
+                if (!Files.isRegularFile(checksum)) {
+                    continue;
+                }
+                candidates.add(new Candidate(Long.parseLong(matcher.group(1)), file, checksum));
+            }
+        } catch (IOException e) {
+            log.warn("Failed to list artifact directory {}: {}", versions, e.getMessage());
+        }
+        candidates.sort(Comparator.comparingLong(Candidate::version).reversed());
+        return candidates;
+    }
+
+    /**
+     * Cheap identity of a version's files (no hashing), to tell whether a rejected version
+     * was replaced since. A file that cannot be read gets an empty fingerprint.
+     */
+    private static Fingerprint fingerprint(Candidate candidate) {
+        try {
+            var checksum = candidate.checksum() != null
+                    ? Files.readString(candidate.checksum(), StandardCharsets.US_ASCII).strip()
+                    : "";
+            return new Fingerprint(checksum, Files.size(candidate.path()),
+                    Files.getLastModifiedTime(candidate.path()).toMillis());
+        } catch (IOException e) {
+            return new Fingerprint("", -1, -1);
+        }
+    }
+
+    private static Path checksumFile(Path file) {
+        return file.resolveSibling(file.getFileName() + ".sha256");
+    }
+
+    private static String sha256(ByteBuffer buffer) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update(buffer);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private Counter reloads(String name, String result) {
+        return Counter.builder("vsl.artifact.reloads")
+                .tag("name", name)
+                .tag("result", result)
+                .description("Artifact versions swapped in or rejected")
+                .register(meterRegistry);
+    }
+
+    private record Candidate(long version, Path path, Path checksum) {
+    }
+
+    private record Fingerprint(String checksum, long size, long modifiedMillis) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.capstone.vsl.artifact;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * One version of a model file, memory-mapped read-only.
+ *
+ * @param name    artifact name (e.g. "vi-syllable-ngram")
+ * @param version version number (0 for an unversioned file)
+ * @param path    mapped file
+ * @param sha256  hex checksum of the file contents
+ */
+public record MappedArtifact(String name, long version, Path path, ByteBuffer buffer, String sha256) {
+
+    /**
+     * @return a new view of the mapping (position 0, independent position/limit)
+     */
+    @Override
+    public ByteBuffer buffer() {
+        return buffer.duplicate();
+    }
+
+    public int size() {
+        return buffer.capacity();
+    }
+}
@@ -1,29 +1,105 @@
 package com.capstone.vsl.config;
 
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Async Configuration
- * Configures thread pool for asynchronous Elasticsearch synchronization
+ * Configures thread pools for asynchronous Elasticsearch synchronization,
+ * for classifying the character windows of a gesture sequence in parallel
+ * and for blocking AI calls of asynchronous endpoints
  */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    /**
+     * Runs the @Async Elasticsearch index updates ({@link com.capstone.vsl.service.ElasticsearchSyncService}).
+     * The pool size limits concurrent updates to protect Elasticsearch; in virtual-thread mode the
+     * pool threads are virtual. Beyond the queue capacity updates are rejected, never blocking the
+     * (request) thread that submits them: the entry stays elastic_synced=false.
+     */
     @Bean(name = "elasticsearchSyncExecutor")
-    public Executor elasticsearchSyncExecutor() {
+    public Executor elasticsearchSyncExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${elasticsearch.sync.max-concurrency:16}") int maxConcurrency,
+            @Value("${elasticsearch.sync.queue-capacity:100}") int queueCapacity) {
         var executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
-        executor.setQueueCapacity(100);
+        if (virtualThreads) {
+            executor.setCorePoolSize(maxConcurrency);
+            executor.setMaxPoolSize(maxConcurrency);
+            executor.setThreadFactory(Thread.ofVirtual().name("es-sync-", 0).factory());
+        } else {
+            executor.setCorePoolSize(2);
+            executor.setMaxPoolSize(5);
+        }
+        executor.setQueueCapacity(queueCapacity);
         executor.setThreadNamePrefix("es-sync-");
+        executor.setTaskDecorator(AsyncConfig::withRequestContext);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Runs the per-window classifications of /api/vsl/predict-sequence.
+     * When the queue is full the request thread classifies the window itself (back-pressure).
+     * Platform threads in both modes: the in-process engine is CPU-bound, the pool size is the
+     * parallelism.
+     */
+    @Bean(name = "recognitionExecutor")
+    public Executor recognitionExecutor(
+            @Value("${ai.recognition.sequence.parallelism:4}") int parallelism,
+            @Value("${ai.recognition.sequence.queue-capacity:500}") int queueCapacity) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("recognition-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(AsyncConfig::withRequestContext);
         executor.initialize();
         return executor;
     }
-}
 
+    /**
+     * Runs blocking AI calls (legacy model endpoints on RestClient) off the servlet threads,
+     * one virtual thread per call: a call waiting up to its timeout costs no platform thread.
+     */
+    @Bean(name = "blockingAiExecutor")
+    public Executor blockingAiExecutor() {
+        var executor = new SimpleAsyncTaskExecutor("blocking-ai-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(AsyncConfig::withRequestContext);
+        return executor;
+    }
+
+    /**
+     * Carry the submitting thread's MDC (request id) over to the pool thread.
+     */
+    private static Runnable withRequestContext(Runnable task) {
+        var context = MDC.getCopyOfContextMap();
+        return () -> {
+            var previous = MDC.getCopyOfContextMap();
+            if (context != null) {
+                MDC.setContextMap(context);
+            }
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    MDC.setContextMap(previous);
+                } else {
+                    MDC.clear();
+                }
+            }
+        };
+    }
+}
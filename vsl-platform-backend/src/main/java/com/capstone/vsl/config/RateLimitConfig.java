@@ -0,0 +1,45 @@
+package com.capstone.vsl.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.DataSourceInitializer;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * Rate Limit Configuration
+ * Registers the rate-limit.* policy properties
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    public static final String JDBC_SCHEMA_SCRIPT = "db/rate-limit-bucket.sql";
+
+    /**
+     * Creates or upgrades the rate_limit_bucket table of the jdbc backend on startup
+     * (schema-script mode: the project has no migration tool, JPA owns the other tables)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "rate-limit.backend", havingValue = "jdbc")
+    public DataSourceInitializer rateLimitSchemaInitializer(DataSource dataSource) {
+        var initializer = new DataSourceInitializer();
+        initializer.setDataSource(dataSource);
+        initializer.setDatabasePopulator(jdbcSchemaPopulator());
+        return initializer;
+    }
+
+    /**
+     * The script is a single PL/pgSQL block, so it must not be split at semicolons.
+     */
+    public static ResourceDatabasePopulator jdbcSchemaPopulator() {
+        var populator = new ResourceDatabasePopulator(new ClassPathResource(JDBC_SCHEMA_SCRIPT));
+        populator.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+        return populator;
+    }
+}
@@ -0,0 +1,80 @@
+package com.capstone.vsl.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Rate Limit Properties
+ * Route policies and adaptive throttling settings bound from rate-limit.*
+ *
+ * Example:
+ * rate-limit.policies[0].name=ai-predict
+ * rate-limit.policies[0].pattern=/api/vsl/predict
+ * rate-limit.policies[0].key=USER
+ * rate-limit.policies[0].capacity=10
+ * rate-limit.policies[0].refill-tokens=10
+ * rate-limit.policies[0].refill-period=1s
+ * rate-limit.policies[0].adaptive=true
+ *
+ * @param policies route policies, matched most specific pattern first
+ * @param adaptive load thresholds that tighten adaptive policies
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+        List<Policy> policies,
+        @DefaultValue Adaptive adaptive
+) {
+
+    public RateLimitProperties {
+        policies = policies != null ? List.copyOf(policies) : List.of();
+    }
+
+    /**
+     * How callers are grouped into buckets.
+     * USER: one bucket per authenticated user id (falls back to IP for anonymous callers).
+     * IP: one bucket per client IP.
+     */
+    public enum KeyType {
+        USER,
+        IP
+    }
+
+    /**
+     * @param name          unique policy name, also used as bucket key prefix
+     * @param pattern       path pattern: literal segments, "*" (one segment), trailing "**" (rest of path)
+     * @param role          only apply to callers with this role (USER, ADMIN, ANONYMOUS); empty = everyone
+     * @param key           bucket grouping
+     * @param capacity      bucket capacity
+     * @param refillTokens  tokens added per refill period
+     * @param refillPeriod  refill period
+     * @param adaptive      charge more tokens per request while the AI service is overloaded
+     */
+    public record Policy(
+            String name,
+            String pattern,
+            String role,
+            @DefaultValue("IP") KeyType key,
+            long capacity,
+            long refillTokens,
+            @DefaultValue("1s") Duration refillPeriod,
+            boolean adaptive
+    ) {
+    }
+
+    /**
+     * @param enabled           turn adaptive throttling on/off
+     * @param latencyThreshold  AI call latency (moving average) above which limits tighten
+     * @param inFlightThreshold concurrent AI calls above which limits tighten
+     * @param maxCost           upper bound for the tokens charged per request
+     */
+    public record Adaptive(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("2s") Duration latencyThreshold,
+            @DefaultValue("20") int inFlightThreshold,
+            @DefaultValue("5") int maxCost
+    ) {
+    }
+}
@@ -1,19 +1,39 @@
 package com.capstone.vsl.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+import java.util.concurrent.Executors;
+
 /**
  * RestClient Configuration
  * Provides RestClient bean for HTTP communication with Python AI models
+ *
+ * Requests go through the JDK HttpClient (JdkClientHttpRequestFactory): a blocking call
+ * parks the calling virtual thread instead of pinning it, and connections are pooled.
+ * In virtual-thread mode the client's own tasks run on virtual threads as well.
  */
 @Configuration
 public class RestClientConfig {
 
+    @Bean("outboundHttpClient")
+    public HttpClient outboundHttpClient(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        var builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1);
+        if (virtualThreads) {
+            builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        return builder.build();
+    }
+
     @Bean
-    public RestClient.Builder restClientBuilder() {
-        return RestClient.builder();
+    public RestClient.Builder restClientBuilder(@Qualifier("outboundHttpClient") HttpClient outboundHttpClient) {
+        return RestClient.builder()
+                .requestFactory(new JdkClientHttpRequestFactory(outboundHttpClient));
     }
 }
-
@@ -0,0 +1,13 @@
+package com.capstone.vsl.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration
+ * Enables @Scheduled background jobs (e.g. rate-limit bucket cleanup)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
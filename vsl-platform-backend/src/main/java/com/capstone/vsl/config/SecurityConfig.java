@@ -3,8 +3,10 @@ package com.capstone.vsl.config;
 import com.capstone.vsl.security.JwtAuthenticationFilter;
 import com.capstone.vsl.security.RateLimitingFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod; // <--- QUAN TRỌNG: Import cái này
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -14,9 +16,11 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -86,13 +90,44 @@ public class SecurityConfig {
         
         // 4. Credentials & Exposed Headers
         corsConfig.setAllowCredentials(true);
-        corsConfig.setExposedHeaders(List.of("Authorization"));
+        corsConfig.setExposedHeaders(List.of("Authorization", "X-Next-Cursor", "X-Total-Count", "X-Request-Id"));
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", corsConfig);
         return source;
     }
 
+    /**
+     * /actuator/prometheus: HTTP basic with the scrape account (metrics.scrape.*) only.
+     * The source address proves nothing behind a reverse proxy, so there is no network allowlist;
+     * without a configured password the endpoint is closed.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain prometheusFilterChain(
+            HttpSecurity http,
+            @Value("${metrics.scrape.username:prometheus}") String username,
+            @Value("${metrics.scrape.password:}") String password) throws Exception {
+        http
+            .securityMatcher("/actuator/prometheus")
+            .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .httpBasic(basic -> { });
+
+        if (password.isBlank()) {
+            http.authorizeHttpRequests(auth -> auth.anyRequest().denyAll());
+        } else {
+            var scraper = User.withUsername(username)
+                    .password(passwordEncoder().encode(password))
+                    .roles("METRICS")
+                    .build();
+            http
+                .userDetailsService(new InMemoryUserDetailsManager(scraper))
+                .authorizeHttpRequests(auth -> auth.anyRequest().hasRole("METRICS"));
+        }
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -110,11 +145,16 @@ public class SecurityConfig {
                 .requestMatchers("/api/spelling/**").permitAll()             // Đã sửa
                 .requestMatchers("/api/dictionary/search/**").permitAll()    // QUAN TRỌNG: Sửa dòng này để Healthcheck qua được
                 .requestMatchers("/api/dictionary/detail/**").permitAll()    // Đã sửa
+                .requestMatchers("/api/dictionary/trending").permitAll()
                 .requestMatchers("/api/vsl/**").permitAll() // VSL gesture recognition endpoints
 
                 
                 // Swagger UI
                 .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
+
+                // Actuator (metrics are admin-only, Prometheus scrape: see prometheusFilterChain)
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 
                 // --- PRIVATE ENDPOINTS ---
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")           // Đã sửa
@@ -125,8 +165,9 @@ public class SecurityConfig {
             )
             
             .authenticationProvider(authenticationProvider())
-            .addFilterBefore(rateLimitingFilter, UsernamePasswordAuthenticationFilter.class)
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            // Rate limiting needs the authenticated user (per-user / per-role policies)
+            .addFilterAfter(rateLimitingFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
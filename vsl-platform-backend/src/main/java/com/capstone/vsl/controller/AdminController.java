@@ -43,6 +43,8 @@ import java.util.List;
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminController {
 
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     private final AdminService adminService;
 
     // ==================== User Management ====================
@@ -240,22 +242,30 @@ public class AdminController {
     // ==================== Contribution Management ====================
 
     /**
-     * GET /api/admin/contributions?status=PENDING
-     * View contributions by status
+     * GET /api/admin/contributions?status=PENDING&page=0&size=50
+     * View one page of contributions by status, newest first
+     * The total number of matching contributions is returned in the X-Total-Count header
      *
      * @param status Contribution status (PENDING, APPROVED, REJECTED). Defaults to PENDING
+     * @param page page index (0-based)
+     * @param size page size (max 100)
      * @return List of contributions with the specified status
      */
     @GetMapping("/contributions")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<List<ContributionDTO>>> getContributions(
-            @RequestParam(defaultValue = "PENDING") ContributionStatus status) {
+            @RequestParam(defaultValue = "PENDING") ContributionStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
         try {
-            var contributions = adminService.getContributionsByStatus(status);
-            return ResponseEntity.ok(ApiResponse.success(
-                    String.format("Retrieved %d %s contributions", contributions.size(), status),
-                    contributions
-            ));
+            var contributions = adminService.getContributionsByStatus(status, page, size);
+            return ResponseEntity.ok()
+                    .header(TOTAL_COUNT_HEADER, String.valueOf(contributions.getTotalElements()))
+                    .body(ApiResponse.success(
+                            String.format("Retrieved %d of %d %s contributions",
+                                    contributions.getNumberOfElements(), contributions.getTotalElements(), status),
+                            contributions.getContent()
+                    ));
         } catch (Exception e) {
             log.error("Failed to get contributions: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
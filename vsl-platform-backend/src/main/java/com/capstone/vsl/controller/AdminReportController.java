@@ -26,20 +26,28 @@ public class AdminReportController {
     private final ReportService reportService;
 
     /**
-     * GET /api/admin/reports
-     * Get all reports (ADMIN only)
+     * GET /api/admin/reports?page=0&size=50
+     * Get one page of all reports, newest first (ADMIN only)
+     * The total number of reports is returned in the X-Total-Count header
      *
-     * @return List of all reports
+     * @param page page index (0-based)
+     * @param size page size (max 100)
+     * @return List of reports
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<ReportDTO>>> getAllReports() {
+    public ResponseEntity<ApiResponse<List<ReportDTO>>> getAllReports(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
         try {
             log.info("Admin fetching all reports");
-            var reports = reportService.getAllReports();
-            return ResponseEntity.ok(ApiResponse.success(
-                    String.format("Found %d report(s)", reports.size()),
-                    reports
-            ));
+            var reports = reportService.getAllReports(page, size);
+            return ResponseEntity.ok()
+                    .header(AdminController.TOTAL_COUNT_HEADER, String.valueOf(reports.getTotalElements()))
+                    .body(ApiResponse.success(
+                            String.format("Found %d of %d report(s)",
+                                    reports.getNumberOfElements(), reports.getTotalElements()),
+                            reports.getContent()
+                    ));
         } catch (Exception e) {
             log.error("Failed to get all reports: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -48,20 +56,28 @@ public class AdminReportController {
     }
 
     /**
-     * GET /api/admin/reports/open
-     * Get all open reports (ADMIN only)
+     * GET /api/admin/reports/open?page=0&size=50
+     * Get one page of open reports, newest first (ADMIN only)
+     * The total number of open reports is returned in the X-Total-Count header
      *
+     * @param page page index (0-based)
+     * @param size page size (max 100)
      * @return List of open reports
      */
     @GetMapping("/open")
-    public ResponseEntity<ApiResponse<List<ReportDTO>>> getOpenReports() {
+    public ResponseEntity<ApiResponse<List<ReportDTO>>> getOpenReports(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
         try {
             log.info("Admin fetching open reports");
-            var reports = reportService.getOpenReports();
-            return ResponseEntity.ok(ApiResponse.success(
-                    String.format("Found %d open report(s)", reports.size()),
-                    reports
-            ));
+            var reports = reportService.getOpenReports(page, size);
+            return ResponseEntity.ok()
+                    .header(AdminController.TOTAL_COUNT_HEADER, String.valueOf(reports.getTotalElements()))
+                    .body(ApiResponse.success(
+                            String.format("Found %d of %d open report(s)",
+                                    reports.getNumberOfElements(), reports.getTotalElements()),
+                            reports.getContent()
+                    ));
         } catch (Exception e) {
             log.error("Failed to get open reports: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -61,7 +61,7 @@ public class AuthController {
             UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
 
             // Generate JWT token
-            String token = jwtUtils.generateToken(userPrincipal.getUsername());
+            String token = jwtUtils.generateToken(userPrincipal);
 
             // Fetch full user entity to get profile fields
             var user = userRepository.findByUsername(userPrincipal.getUsername())
@@ -135,10 +135,10 @@ public class AuthController {
                     .address(registerRequest.getAddress())
                     .build();
 
-            userRepository.save(user);
+            user = userRepository.save(user);
 
             // Generate JWT token for immediate login
-            String token = jwtUtils.generateToken(user.getUsername());
+            String token = jwtUtils.generateToken(UserPrincipal.create(user));
 
             // Build response with all profile fields
             var authResponse = AuthResponse.builder()
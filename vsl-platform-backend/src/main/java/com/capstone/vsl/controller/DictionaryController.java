@@ -2,12 +2,15 @@ package com.capstone.vsl.controller;
 
 import com.capstone.vsl.dto.ApiResponse;
 import com.capstone.vsl.dto.DictionaryDTO;
+import com.capstone.vsl.security.UserPrincipal;
 import com.capstone.vsl.service.DictionaryService;
+import com.capstone.vsl.service.UserFeatureService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -23,6 +26,7 @@ import java.util.List;
 public class DictionaryController {
 
     private final DictionaryService dictionaryService;
+    private final UserFeatureService userFeatureService;
 
     /**
      * GET /api/dictionary/search
@@ -80,6 +84,33 @@ public class DictionaryController {
         }
     }
 
+    /**
+     * GET /api/dictionary/trending
+     * Get the most looked-up dictionary entries right now (time-decayed popularity)
+     * Default: 10 entries
+     *
+     * @param limit Number of entries to retrieve (default 10, max 100)
+     * @return List of trending dictionary entries
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<DictionaryDTO>>> getTrending(
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            if (limit <= 0 || limit > 100) {
+                limit = 10;
+            }
+            var results = dictionaryService.getTrendingWords(limit);
+            return ResponseEntity.ok(ApiResponse.success(
+                    String.format("Found %d trending word(s)", results.size()),
+                    results
+            ));
+        } catch (Exception e) {
+            log.error("Failed to get trending dictionary words: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to get trending dictionary words: " + e.getMessage()));
+        }
+    }
+
     /**
      * GET /api/dictionary/list
      * Get all dictionary entries (for admin listing)
@@ -103,12 +134,20 @@ public class DictionaryController {
 
     /**
      * GET /api/dictionary/{id}
-     * Get detailed dictionary entry by ID (public)
+     * Get detailed dictionary entry by ID
+     * When the caller is logged in, the lookup is recorded in their search history
+     * (asynchronously, with the optional search query that led to the word).
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<DictionaryDTO>> getById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<DictionaryDTO>> getById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String query,
+            Authentication authentication) {
         try {
             var dto = dictionaryService.getWordById(id);
+            if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+                userFeatureService.logSearchHistory(query != null ? query : dto.getWord(), id, principal.getId());
+            }
             return ResponseEntity.ok(ApiResponse.success("Dictionary word retrieved", dto));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
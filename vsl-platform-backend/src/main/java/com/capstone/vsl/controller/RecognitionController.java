@@ -2,21 +2,34 @@ package com.capstone.vsl.controller;
 
 import com.capstone.vsl.dto.ApiResponse;
 import com.capstone.vsl.integration.GestureIntegrationService;
+import com.capstone.vsl.integration.GestureSequenceService;
 import com.capstone.vsl.integration.dto.GestureInputDTO;
+import com.capstone.vsl.integration.dto.GestureSequenceInputDTO;
+import com.capstone.vsl.integration.dto.SequenceEventDTO;
 import com.capstone.vsl.integration.exception.AiServiceUnavailableException;
 import com.capstone.vsl.integration.exception.ExternalServiceException;
+import com.capstone.vsl.util.Futures;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Recognition Controller
  * Handles gesture recognition requests from clients
+ * AI-bound endpoints are asynchronous (CompletableFuture), so slow AI calls do not hold
+ * servlet threads
  */
 @RestController
 @RequestMapping("/api/vsl")
@@ -25,6 +38,11 @@ import java.util.Map;
 public class RecognitionController {
 
     private final GestureIntegrationService gestureIntegrationService;
+    private final GestureSequenceService gestureSequenceService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${ai.recognition.sequence.timeout-ms:60000}")
+    private long sequenceTimeoutMs;
 
     /**
      * POST /api/vsl/recognize
@@ -36,50 +54,99 @@ public class RecognitionController {
      * 3. Python service handles: Gesture Recognition + Accent Restoration internally
      * 4. Java returns Final Vietnamese text with accents
      *
+     * Asynchronous: the servlet thread is released while the AI call is in flight
+     *
      * @param input Gesture input with landmarks and current text context (validated)
      * @return Recognized Vietnamese text with accents
      */
     @PostMapping("/predict")
-    public ResponseEntity<ApiResponse<String>> recognize(@Valid @RequestBody GestureInputDTO input) {
+    public CompletableFuture<ResponseEntity<ApiResponse<String>>> recognize(@Valid @RequestBody GestureInputDTO input) {
         var startTime = System.currentTimeMillis();
-        
-        try {
-            log.info("Received recognition request with {} frames", 
-                    input.frames() != null ? input.frames().size() : 0);
-
-            var result = gestureIntegrationService.processGesture(input);
-            
-            var executionTime = System.currentTimeMillis() - startTime;
-            log.info("Recognition completed in {} ms", executionTime);
-
-            return ResponseEntity.ok(ApiResponse.success(
-                    String.format("Recognition completed in %d ms", executionTime),
-                    result
-            ));
-
-        } catch (IllegalArgumentException e) {
-            var executionTime = System.currentTimeMillis() - startTime;
-            log.warn("Invalid input received (execution time: {} ms): {}", executionTime, e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.error("Invalid input: " + e.getMessage()));
-        } catch (AiServiceUnavailableException e) {
-            var executionTime = System.currentTimeMillis() - startTime;
-            log.error("AI service unavailable (execution time: {} ms): {}", executionTime, e.getMessage());
-            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
-                    .body(ApiResponse.error("AI Service is offline: " + e.getMessage()));
-        } catch (ExternalServiceException e) {
-            var executionTime = System.currentTimeMillis() - startTime;
-            log.error("External service error (execution time: {} ms): {} - Status: {}", 
-                    executionTime, e.getMessage(), e.getStatusCode());
-            return ResponseEntity.status(e.getStatusCode())
-                    .body(ApiResponse.error("External service error: " + e.getMessage()));
-        } catch (Exception e) {
-            var executionTime = System.currentTimeMillis() - startTime;
-            log.error("Unexpected error during recognition (execution time: {} ms): {}", 
-                    executionTime, e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Recognition failed: " + e.getMessage()));
-        }
+        log.debug("Received recognition request with {} frames",
+                input.frames() != null ? input.frames().size() : 0);
+
+        return gestureIntegrationService.processGesture(input)
+                .thenApply(result -> {
+                    var executionTime = System.currentTimeMillis() - startTime;
+                    log.debug("Recognition completed in {} ms", executionTime);
+
+                    return ResponseEntity.ok(ApiResponse.success(
+                            String.format("Recognition completed in %d ms", executionTime),
+                            result
+                    ));
+                })
+                .exceptionally(error -> recognitionError(Futures.unwrap(error), startTime));
+    }
+
+    private ResponseEntity<ApiResponse<String>> recognitionError(Throwable error, long startTime) {
+        var executionTime = System.currentTimeMillis() - startTime;
+        return switch (error) {
+            case IllegalArgumentException e -> {
+                log.warn("Invalid input received (execution time: {} ms): {}", executionTime, e.getMessage());
+                yield ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(ApiResponse.error("Invalid input: " + e.getMessage()));
+            }
+            case AiServiceUnavailableException e -> {
+                log.error("AI service unavailable (execution time: {} ms): {}", executionTime, e.getMessage());
+                yield ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .body(ApiResponse.error("AI Service is offline: " + e.getMessage()));
+            }
+            case ExternalServiceException e -> {
+                log.error("External service error (execution time: {} ms): {} - Status: {}",
+                        executionTime, e.getMessage(), e.getStatusCode());
+                yield ResponseEntity.status(e.getStatusCode())
+                        .body(ApiResponse.error("External service error: " + e.getMessage()));
+            }
+            default -> {
+                log.error("Unexpected error during recognition (execution time: {} ms): {}",
+                        executionTime, error.getMessage(), error);
+                yield ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(ApiResponse.error("Recognition failed: " + error.getMessage()));
+            }
+        };
+    }
+
+    /**
+     * POST /api/vsl/predict-sequence
+     * Recognize a whole word signed as one continuous stream of frames
+     *
+     * The stream is segmented into character windows server-side and the windows are
+     * classified in parallel. The response is NDJSON (application/x-ndjson), one
+     * {@link SequenceEventDTO} per line, written as soon as each character is known:
+     *   {"type":"character","index":0,"startFrame":12,"endFrame":31,"character":"x","confidence":0.93}
+     *   ...
+     *   {"type":"done","text":"xin","segments":3}
+     * Invalid input (empty or too many frames) is rejected with a regular 400 ApiResponse.
+     *
+     * @param input Continuous stream of hand frames (validated)
+     * @return NDJSON stream of recognition events
+     */
+    @PostMapping("/predict-sequence")
+    public ResponseEntity<ResponseBodyEmitter> recognizeSequence(@Valid @RequestBody GestureSequenceInputDTO input) {
+        log.debug("Received sequence recognition request with {} frames", input.frames().size());
+
+        var emitter = new ResponseBodyEmitter(sequenceTimeoutMs);
+        var recognition = gestureSequenceService.recognize(input.frames(), event -> {
+            try {
+                emitter.send(objectMapper.writeValueAsString(event) + "\n", MediaType.APPLICATION_NDJSON);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        recognition.whenComplete((ignored, error) -> {
+            if (error == null) {
+                emitter.complete();
+            } else {
+                log.debug("Sequence recognition stopped: {}", error.getMessage());
+                emitter.completeWithError(error);
+            }
+        });
+        emitter.onTimeout(() -> recognition.cancel(false));
+        emitter.onError(error -> recognition.cancel(false));
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(emitter);
     }
 
     /**
@@ -87,50 +154,56 @@ public class RecognitionController {
      * Add Vietnamese diacritics to raw text
      * Receives raw Vietnamese text (without diacritics) and returns with diacritics
      *
+     * Asynchronous: the servlet thread is released while the AI call is in flight
+     *
      * @param request Object with "text" field containing raw Vietnamese text
      * @return Vietnamese text with proper diacritics
      */
     @PostMapping("/fix-diacritics")
-    public ResponseEntity<ApiResponse<String>> fixDiacritics(@RequestBody Map<String, String> request) {
+    public CompletableFuture<ResponseEntity<ApiResponse<String>>> fixDiacritics(@RequestBody Map<String, String> request) {
         var startTime = System.currentTimeMillis();
-        
-        try {
-            String rawText = request.get("text");
-            if (rawText == null || rawText.isBlank()) {
-                return ResponseEntity.badRequest()
-                        .body(ApiResponse.error("Text field is required and cannot be empty"));
-            }
 
-            log.info("Received fix-diacritics request for text: '{}'", rawText);
-
-            // Call AI service to add diacritics
-            var fixedText = gestureIntegrationService.fixDiacritics(rawText);
-            
-            var executionTime = System.currentTimeMillis() - startTime;
-            log.info("Diacritics restoration completed in {} ms. Original: '{}' → Fixed: '{}'", 
-                    executionTime, rawText, fixedText);
-
-            return ResponseEntity.ok(ApiResponse.success(
-                    String.format("Diacritics restoration completed in %d ms", executionTime),
-                    fixedText
-            ));
-
-        } catch (AiServiceUnavailableException e) {
-            var executionTime = System.currentTimeMillis() - startTime;
-            log.error("AI service unavailable (execution time: {} ms): {}", executionTime, e.getMessage());
-            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
-                    .body(ApiResponse.error("AI Service is offline: " + e.getMessage()));
-        } catch (ExternalServiceException e) {
-            var executionTime = System.currentTimeMillis() - startTime;
-            log.error("External service error (execution time: {} ms): {}", executionTime, e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
-                    .body(ApiResponse.error("External service error: " + e.getMessage()));
-        } catch (Exception e) {
-            var executionTime = System.currentTimeMillis() - startTime;
-            log.error("Unexpected error during diacritics restoration (execution time: {} ms): {}", 
-                    executionTime, e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Diacritics restoration failed: " + e.getMessage()));
+        String rawText = request.get("text");
+        if (rawText == null || rawText.isBlank()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Text field is required and cannot be empty")));
         }
+
+        log.debug("Received fix-diacritics request for text of length {}", rawText.length());
+
+        // Call AI service to add diacritics
+        return gestureIntegrationService.fixDiacritics(rawText)
+                .thenApply(fixedText -> {
+                    var executionTime = System.currentTimeMillis() - startTime;
+                    log.debug("Diacritics restoration completed in {} ms", executionTime);
+
+                    return ResponseEntity.ok(ApiResponse.success(
+                            String.format("Diacritics restoration completed in %d ms", executionTime),
+                            fixedText
+                    ));
+                })
+                .exceptionally(error -> diacriticsError(Futures.unwrap(error), startTime));
+    }
+
+    private ResponseEntity<ApiResponse<String>> diacriticsError(Throwable error, long startTime) {
+        var executionTime = System.currentTimeMillis() - startTime;
+        return switch (error) {
+            case AiServiceUnavailableException e -> {
+                log.error("AI service unavailable (execution time: {} ms): {}", executionTime, e.getMessage());
+                yield ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .body(ApiResponse.error("AI Service is offline: " + e.getMessage()));
+            }
+            case ExternalServiceException e -> {
+                log.error("External service error (execution time: {} ms): {}", executionTime, e.getMessage());
+                yield ResponseEntity.status(HttpStatus.BAD_GATEWAY)
+                        .body(ApiResponse.error("External service error: " + e.getMessage()));
+            }
+            default -> {
+                log.error("Unexpected error during diacritics restoration (execution time: {} ms): {}",
+                        executionTime, error.getMessage(), error);
+                yield ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(ApiResponse.error("Diacritics restoration failed: " + error.getMessage()));
+            }
+        };
     }
 }
@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -36,8 +37,7 @@ public class UserFavoriteController {
             @PathVariable Long wordId,
             Authentication authentication) {
         try {
-            var username = extractUsername(authentication);
-            var added = favoriteService.toggleFavorite(wordId, username);
+            var added = favoriteService.toggleFavorite(wordId, extractUserId(authentication));
             var message = added ? "Favorite added successfully" : "Favorite removed successfully";
 
             var payload = Map.<String, Object>of(
@@ -63,8 +63,7 @@ public class UserFavoriteController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         try {
-            var username = extractUsername(authentication);
-            var favoritesPage = favoriteService.getFavorites(username, page, size);
+            var favoritesPage = favoriteService.getFavorites(extractUserId(authentication), page, size);
             var favoritesList = favoritesPage.getContent();
             return ResponseEntity.ok(ApiResponse.success("Favorites retrieved", favoritesList));
         } catch (IllegalArgumentException e) {
@@ -83,8 +82,7 @@ public class UserFavoriteController {
             @PathVariable Long wordId,
             Authentication authentication) {
         try {
-            var username = extractUsername(authentication);
-            var isFavorite = favoriteService.checkStatus(wordId, username);
+            var isFavorite = favoriteService.checkStatus(wordId, extractUserId(authentication));
             var payload = Map.<String, Object>of(
                     "wordId", wordId,
                     "isFavorite", isFavorite
@@ -101,9 +99,37 @@ public class UserFavoriteController {
         }
     }
 
-    private String extractUsername(Authentication authentication) {
+    /**
+     * GET /api/user/favorites/check?wordIds=1,2,3
+     * Favorite status for a whole result list in one round trip.
+     *
+     * @param wordIds dictionary entry ids (at most 200)
+     * @return the ids among wordIds that the user has favorited
+     */
+    @GetMapping("/check")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> checkFavoriteStatuses(
+            @RequestParam List<Long> wordIds,
+            Authentication authentication) {
+        try {
+            var favoriteIds = favoriteService.checkStatuses(wordIds, extractUserId(authentication));
+            var payload = Map.<String, Object>of(
+                    "favoriteIds", favoriteIds
+            );
+            return ResponseEntity.ok(ApiResponse.success("Status retrieved", payload));
+        } catch (IllegalArgumentException e) {
+            log.warn("Failed to check favorite statuses: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Unexpected error while checking favorite statuses", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to check favorite status: " + e.getMessage()));
+        }
+    }
+
+    private Long extractUserId(Authentication authentication) {
         var userPrincipal = (UserPrincipal) authentication.getPrincipal();
-        return userPrincipal.getUsername();
+        return userPrincipal.getId();
     }
 }
 
@@ -35,30 +35,43 @@ import java.util.List;
 @PreAuthorize("isAuthenticated()")
 public class UserInteractionController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final UserFeatureService userFeatureService;
     private final ContributionService contributionService;
 
     /**
      * GET /api/user/history
-     * Get user's search history
+     * Get one page of the user's search history, newest first
      * Requires authentication (USER or ADMIN role)
      *
-     * @param authentication Current authentication (to get username)
+     * The cursor for the next page is returned in the X-Next-Cursor header
+     * (absent on the last page).
+     *
+     * @param cursor Value of X-Next-Cursor from the previous page (omit for the first page)
+     * @param size Page size (default 50, max 100)
+     * @param authentication Current authentication (to get user id)
      * @return List of search history entries
      */
     @GetMapping("/history")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ApiResponse<List<SearchHistoryDTO>>> getHistory(Authentication authentication) {
+    public ResponseEntity<ApiResponse<List<SearchHistoryDTO>>> getHistory(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int size,
+            Authentication authentication) {
         try {
             var userPrincipal = (UserPrincipal) authentication.getPrincipal();
-            var username = userPrincipal.getUsername();
 
-            log.info("Retrieving search history for user: {}", username);
-            var history = userFeatureService.getUserSearchHistory(username);
+            log.info("Retrieving search history for user: {}", userPrincipal.getUsername());
+            var page = userFeatureService.getUserSearchHistory(userPrincipal.getId(), cursor, size);
 
-            return ResponseEntity.ok(ApiResponse.success(
-                    String.format("Retrieved %d history entries", history.size()),
-                    history
+            var response = ResponseEntity.ok();
+            if (page.nextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.nextCursor().toString());
+            }
+            return response.body(ApiResponse.success(
+                    String.format("Retrieved %d history entries", page.items().size()),
+                    page.items()
             ));
         } catch (IllegalArgumentException e) {
             log.warn("Invalid request to get history: {}", e.getMessage());
@@ -80,10 +93,9 @@ public class UserInteractionController {
     public ResponseEntity<ApiResponse<String>> clearHistory(Authentication authentication) {
         try {
             var userPrincipal = (UserPrincipal) authentication.getPrincipal();
-            var username = userPrincipal.getUsername();
 
-            log.info("Clearing search history for user: {}", username);
-            userFeatureService.clearUserSearchHistory(username);
+            log.info("Clearing search history for user: {}", userPrincipal.getUsername());
+            userFeatureService.clearUserSearchHistory(userPrincipal.getId());
 
             return ResponseEntity.ok(ApiResponse.success("Search history cleared", "OK"));
         } catch (IllegalArgumentException e) {
@@ -0,0 +1,12 @@
+package com.capstone.vsl.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated result.
+ *
+ * @param items      entries of this page
+ * @param nextCursor cursor for the next page, or null if this is the last page
+ */
+public record CursorPage<T>(List<T> items, Long nextCursor) {
+}
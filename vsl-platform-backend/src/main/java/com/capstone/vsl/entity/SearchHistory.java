@@ -9,7 +9,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "search_history")
+@Table(name = "search_history", indexes = {
+        // Cursor pagination and retention compaction walk a user's rows by id
+        @Index(name = "idx_search_history_user_id_id", columnList = "user_id, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,33 @@
+package com.capstone.vsl.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Periodic snapshot of the most popular dictionary words.
+ * Written by WordPopularityService; used to warm the in-memory ranking after a restart.
+ */
+@Entity
+@Table(name = "word_popularity")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WordPopularity {
+
+    @Id
+    @Column(name = "dictionary_id")
+    private Long dictionaryId;
+
+    // Time-decayed lookup score at updatedAt
+    @Column(nullable = false)
+    private Double score;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,97 @@
+package com.capstone.vsl.integration;
+
+import com.capstone.vsl.util.Futures;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * AI Call Coalescer
+ * Single-flight for AI calls: concurrent calls with the same payload share one upstream call.
+ *
+ * Retries, double-submits and several open tabs send the same frame window or the same
+ * text at the same time. The first caller (leader) starts the call; callers arriving with
+ * the same key while it is in flight share the leader's future and get the same result or
+ * the same exception. Nothing is cached: the key is released as soon as the call completes.
+ *
+ * Keys are content hashes of the request payload, built by the caller.
+ *
+ * Metrics: vsl.ai.coalesced{operation} (calls answered by another caller's in-flight call),
+ * vsl.ai.coalescer.inflight (distinct calls in flight)
+ */
+@Component
+public class AiCallCoalescer {
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> coalescedCounters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ai.coalescing.enabled:true}")
+    private boolean enabled;
+
+    public AiCallCoalescer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("vsl.ai.coalescer.inflight", inFlight, Map::size)
+                .description("Distinct AI calls currently in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Start the call, or join an identical call that is already in flight.
+     *
+     * Every caller gets its own dependent future, so a caller that gives up (cancels, times
+     * out) does not cancel the shared call for the others.
+     *
+     * @param operation AI operation, e.g. "predict" or "fix-diacritics" (part of the key)
+     * @param key       content hash of the request payload
+     * @param call      starts the upstream call, invoked only if this caller leads
+     * @return result of the (shared) call; failures are the leader's exception
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> execute(String operation, String key, Supplier<CompletableFuture<T>> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        var flightKey = operation + ":" + key;
+        var flight = new CompletableFuture<Object>();
+        var existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            counterFor(operation).increment();
+            return (CompletableFuture<T>) existing.copy();
+        }
+
+        CompletableFuture<T> upstream;
+        try {
+            upstream = Objects.requireNonNull(call.get(), "AI call returned no future");
+        } catch (Throwable e) {
+            // Anything thrown here must still complete the flight, or followers wait forever
+            upstream = CompletableFuture.failedFuture(e);
+        }
+        upstream.whenComplete((result, error) -> {
+            inFlight.remove(flightKey, flight);
+            if (error != null) {
+                flight.completeExceptionally(Futures.unwrap(error));
+            } else {
+                flight.complete(result);
+            }
+        });
+        return (CompletableFuture<T>) flight.copy();
+    }
+
+    private Counter counterFor(String operation) {
+        return coalescedCounters.computeIfAbsent(operation, ignored ->
+                Counter.builder("vsl.ai.coalesced")
+                        .description("AI calls answered by an identical call already in flight")
+                        .tag("operation", operation)
+                        .register(meterRegistry));
+    }
+}
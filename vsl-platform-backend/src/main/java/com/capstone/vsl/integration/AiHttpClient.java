@@ -0,0 +1,115 @@
+package com.capstone.vsl.integration;
+
+import com.capstone.vsl.integration.exception.AiServiceUnavailableException;
+import com.capstone.vsl.integration.exception.ExternalServiceException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * AI HTTP Client
+ * Non-blocking JSON client for the unified Python AI service.
+ *
+ * Built on the JDK HttpClient (sendAsync): no thread waits while a call is in flight,
+ * so thousands of concurrent AI calls cost sockets, not threads.
+ *
+ * Errors complete the future exceptionally, mapped like the former blocking RestClient calls:
+ * - connection refused, timeout, I/O error: {@link AiServiceUnavailableException}
+ * - 5xx: {@link ExternalServiceException} with the upstream status
+ * - other non-2xx, unreadable body: {@link ExternalServiceException} with 500
+ */
+@Component
+@Slf4j
+public class AiHttpClient {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+
+    @Value("${ai.service.url:http://localhost:5000}")
+    private String aiServiceUrl;
+
+    @Value("${ai.service.timeout:10000}")
+    private int timeoutMs;
+
+    public AiHttpClient(@Qualifier("aiServiceHttpClient") HttpClient httpClient, ObjectMapper objectMapper) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * POST a JSON body to the AI service.
+     *
+     * @param path         endpoint path, e.g. "/predict"
+     * @param body         request body, serialized with the application ObjectMapper
+     * @param responseType type of the JSON response body
+     * @return future of the deserialized response body (never null)
+     */
+    public <T> CompletableFuture<T> post(String path, Object body, Class<T> responseType) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(aiServiceUrl + path))
+                    .timeout(Duration.ofMillis(timeoutMs))
+                    .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                    .header("Accept", MediaType.APPLICATION_JSON_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(new ExternalServiceException(
+                    "Failed to serialize AI service request: " + e.getMessage(),
+                    HttpStatus.INTERNAL_SERVER_ERROR.value(), e));
+        }
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    if (error != null) {
+                        throw unavailable(path, error instanceof CompletionException ? error.getCause() : error);
+                    }
+                    return readBody(path, response, responseType);
+                });
+    }
+
+    private <T> T readBody(String path, HttpResponse<byte[]> response, Class<T> responseType) {
+        var status = response.statusCode();
+        if (status >= 500) {
+            log.error("AI Service returned server error on {}: {}", path, status);
+            throw new ExternalServiceException("AI Service error: " + status, status);
+        }
+        if (status < 200 || status >= 300) {
+            log.error("AI Service returned unexpected status on {}: {}", path, status);
+            throw new ExternalServiceException("AI Service error: " + status,
+                    HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+
+        T body;
+        try {
+            body = objectMapper.readValue(response.body(), responseType);
+        } catch (IOException e) {
+            throw new ExternalServiceException("AI Service returned an unreadable response: " + e.getMessage(),
+                    HttpStatus.INTERNAL_SERVER_ERROR.value(), e);
+        }
+        if (body == null) {
+            throw new ExternalServiceException("AI Service returned null response",
+                    HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+        return body;
+    }
+
+    private static AiServiceUnavailableException unavailable(String path, Throwable error) {
+        log.error("AI Service is unavailable ({}): {}", path, error.toString());
+        return new AiServiceUnavailableException("AI Service is offline", error);
+    }
+}
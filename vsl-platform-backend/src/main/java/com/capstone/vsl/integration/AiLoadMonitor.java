@@ -0,0 +1,93 @@
+package com.capstone.vsl.integration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI Load Monitor
+ * Tracks how loaded the Python AI service currently is, as seen from the gateway:
+ * - in-flight calls (queue depth on our side)
+ * - exponentially weighted moving average of call latency
+ *
+ * Used by adaptive rate-limit policies to tighten AI limits under load.
+ *
+ * Metrics: vsl.ai.inflight, vsl.ai.latency.ewma (ms),
+ * vsl.ai.request{operation, outcome} (timer with percentile histogram)
+ */
+@Component
+public class AiLoadMonitor {
+
+    // Weight of the newest sample; ~the last 10 calls dominate the average
+    private static final double ALPHA = 0.2;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong latencyEwmaBits = new AtomicLong(Double.doubleToLongBits(0.0));
+    private final Map<String, Timer> requestTimers = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public AiLoadMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("vsl.ai.inflight", inFlight, AtomicInteger::get)
+                .description("AI service calls currently in flight")
+                .register(meterRegistry);
+        Gauge.builder("vsl.ai.latency.ewma", this, AiLoadMonitor::latencyEwmaMs)
+                .description("Moving average of AI service call latency in milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Mark the start of an AI service call.
+     *
+     * @return start timestamp to pass to {@link #end(long)}
+     */
+    public long begin() {
+        inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Mark the end of an AI service call (successful or not).
+     *
+     * @param startNanos value returned by {@link #begin()}
+     * @param operation  AI endpoint, e.g. "predict" or "fix-diacritics"
+     * @param success    whether the call returned a usable result
+     */
+    public void end(long startNanos, String operation, boolean success) {
+        inFlight.decrementAndGet();
+        var elapsedNanos = System.nanoTime() - startNanos;
+        timerFor(operation, success).record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        var sampleMs = elapsedNanos / 1_000_000.0;
+        latencyEwmaBits.updateAndGet(bits -> {
+            var current = Double.longBitsToDouble(bits);
+            return Double.doubleToLongBits(current + ALPHA * (sampleMs - current));
+        });
+    }
+
+    private Timer timerFor(String operation, boolean success) {
+        var outcome = success ? "success" : "error";
+        return requestTimers.computeIfAbsent(operation + ":" + outcome, ignored ->
+                Timer.builder("vsl.ai.request")
+                        .description("Calls from the gateway to the Python AI service")
+                        .tag("operation", operation)
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public double latencyEwmaMs() {
+        return Double.longBitsToDouble(latencyEwmaBits.get());
+    }
+}
@@ -0,0 +1,34 @@
+package com.capstone.vsl.integration;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Diacritics Restorer
+ * Adds Vietnamese accents to raw (unaccented) text.
+ *
+ * Selected with ai.diacritics.engine:
+ * - python (default): {@link PythonDiacriticsRestorer}, calls the AI service /fix-diacritics endpoint
+ * - jvm: {@link com.capstone.vsl.accent.NgramDiacriticsRestorer}, syllable n-gram model in-process
+ */
+public interface DiacriticsRestorer {
+
+    /**
+     * @param rawText raw Vietnamese text
+     * @return text with diacritics restored
+     */
+    String restore(String rawText);
+
+    /**
+     * Non-blocking variant used by the request path (see {@link GestureClassifier#classifyAsync}).
+     *
+     * @param rawText raw Vietnamese text
+     * @return future of the text with diacritics restored
+     */
+    default CompletableFuture<String> restoreAsync(String rawText) {
+        try {
+            return CompletableFuture.completedFuture(restore(rawText));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.capstone.vsl.integration;
+
+import com.capstone.vsl.integration.dto.GestureInputDTO;
+import com.capstone.vsl.integration.dto.GesturePrediction;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Gesture Classifier
+ * Turns a window of hand frames into one recognized character.
+ *
+ * Selected with ai.recognition.engine:
+ * - python (default): {@link PythonGestureClassifier}, calls the AI service /predict endpoint
+ * - jvm: {@link com.capstone.vsl.recognition.JvmGestureClassifier}, runs the exported MLP in-process
+ */
+public interface GestureClassifier {
+
+    /**
+     * @param input validated gesture input (non-empty frames)
+     * @return voted prediction over the frames
+     * @throws IllegalArgumentException if no frame produced a confident prediction
+     */
+    GesturePrediction classify(GestureInputDTO input);
+
+    /**
+     * Non-blocking variant used by the request path. In-process engines compute on the
+     * calling thread and return a completed future; remote engines return while the call
+     * is in flight.
+     *
+     * @param input validated gesture input (non-empty frames)
+     * @return future of the voted prediction; failures are the exceptions of {@link #classify}
+     */
+    default CompletableFuture<GesturePrediction> classifyAsync(GestureInputDTO input) {
+        try {
+            return CompletableFuture.completedFuture(classify(input));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -1,34 +1,37 @@
 package com.capstone.vsl.integration;
 
-import com.capstone.vsl.integration.dto.AiResponseDTO;
 import com.capstone.vsl.integration.dto.GestureInputDTO;
-import com.capstone.vsl.integration.exception.AiServiceUnavailableException;
-import com.capstone.vsl.integration.exception.ExternalServiceException;
+import com.capstone.vsl.integration.dto.GesturePrediction;
+import com.capstone.vsl.integration.dto.HandFrameDTO;
+import com.capstone.vsl.recognition.LandmarkFeatures;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.ResourceAccessException;
-import org.springframework.web.client.RestClient;
 
-import java.util.Map;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Gesture Integration Service
  * Acts as a Gateway/Proxy to the unified Python AI Service
  * 
  * Architecture:
- * - Single API call to unified Python service
- * - Python service handles: Gesture Recognition + Accent Restoration internally
- * - Returns final Vietnamese text with accents
+ * - Gesture recognition goes through the configured {@link GestureClassifier}
+ *   (Python /predict by default, or the in-process JVM engine)
+ * - Accent restoration goes through the configured {@link DiacriticsRestorer}
+ *   (Python /fix-diacritics by default, or the in-process n-gram engine)
  * 
  * Features:
+ * - Non-blocking: results are CompletableFutures, no thread waits on a remote AI call
  * - Robust error handling with timeouts
- * - Comprehensive logging
+ * - Payloads are only logged at DEBUG (hot path)
+ * - Identical concurrent calls share one upstream call ({@link AiCallCoalescer}),
+ *   keyed by the SHA-256 of the payload
  * - Simple gateway pattern (no orchestration logic)
  */
 @Service
@@ -36,169 +39,132 @@ import java.util.Map;
 @Slf4j
 public class GestureIntegrationService {
 
-    @Qualifier("aiRestClient")
-    private final RestClient aiRestClient;
+    private final AiLoadMonitor aiLoadMonitor;
+    private final AiCallCoalescer aiCallCoalescer;
+    private final GestureClassifier gestureClassifier;
+    private final DiacriticsRestorer diacriticsRestorer;
 
     /**
-     * Process gesture input through the unified AI pipeline
+     * Process gesture input through the configured gesture classifier
      * 
-     * Pipeline (handled by Python service):
+     * Pipeline:
      * 1. Validate input
-     * 2. Process landmarks -> Recognize gesture
-     * 3. Apply accent restoration to current_text + new character
-     * 4. Return final Vietnamese text with accents
+     * 2. Process landmarks -> Recognize gesture per frame
+     * 3. Vote across frames above the confidence threshold
+     * 4. Return the recognized character (the client accumulates the text)
      *
      * @param input Gesture input with landmarks and current text context
-     * @return Final corrected Vietnamese text
-     * @throws IllegalArgumentException if input is invalid
-     * @throws AiServiceUnavailableException if AI service is offline
-     * @throws ExternalServiceException if external service returns error
+     * @return Future of the recognized character; fails with
+     *         IllegalArgumentException if input is invalid,
+     *         AiServiceUnavailableException if AI service is offline,
+     *         ExternalServiceException if external service returns error
      */
-    public String processGesture(GestureInputDTO input) {
+    public CompletableFuture<String> processGesture(GestureInputDTO input) {
+        return classify(input).thenApply(GesturePrediction::label);
+    }
+
+    /**
+     * Classify one window of frames through the configured gesture classifier
+     * Non-blocking: returns while a remote call is in flight
+     *
+     * @param input Gesture input with landmarks
+     * @return Future of the voted prediction (label, confidence, frame counts); fails with
+     *         IllegalArgumentException if input is invalid or no frame is confident,
+     *         AiServiceUnavailableException if AI service is offline,
+     *         ExternalServiceException if external service returns error
+     */
+    public CompletableFuture<GesturePrediction> classify(GestureInputDTO input) {
         // Validation
         if (input.frames() == null || input.frames().isEmpty()) {
-            throw new IllegalArgumentException("Frames cannot be empty");
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Frames cannot be empty"));
         }
 
         var frameCount = input.frames().size();
         var currentText = input.currentText() != null ? input.currentText() : "";
-        log.info("Received gesture request with [{}] frames, current_text: '{}'", frameCount, currentText);
-
-        // Prepare request body matching Python API format
-        var requestBody = Map.of(
-                "frames", input.frames(),
-                "current_text", currentText
-        );
-
-        try {
-            log.debug("Calling unified AI service with {} frames", frameCount);
+        log.debug("Received gesture request with {} frames, current_text length {}", frameCount, currentText.length());
 
-            ResponseEntity<AiResponseDTO> response = aiRestClient.post()
-                    .uri("/predict")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(requestBody)
-                    .retrieve()
-                    .toEntity(AiResponseDTO.class);
-
-            var responseBody = response.getBody();
-            
-            // Validate response
-            if (responseBody == null) {
-                throw new ExternalServiceException("AI Service returned null response", 
-                        HttpStatus.INTERNAL_SERVER_ERROR.value());
-            }
-
-            // Check if request was successful
-            if (Boolean.FALSE.equals(responseBody.success()) || responseBody.error() != null) {
-                var errorMsg = responseBody.error() != null 
-                        ? responseBody.error() 
-                        : "AI Service returned unsuccessful response";
-                log.error("AI Service error: {}", errorMsg);
-                throw new ExternalServiceException("AI Service error: " + errorMsg, 
-                        HttpStatus.INTERNAL_SERVER_ERROR.value());
-            }
+        return aiCallCoalescer.execute("predict", windowKey(input.frames(), currentText),
+                () -> callClassifier(input));
+    }
 
-            // Extract predicted word (new character only)
-            if (responseBody.predictedWord() == null || responseBody.predictedWord().trim().isEmpty()) {
-                throw new ExternalServiceException("AI Service returned empty predicted_word", 
-                        HttpStatus.INTERNAL_SERVER_ERROR.value());
+    private CompletableFuture<GesturePrediction> callClassifier(GestureInputDTO input) {
+        var callStart = aiLoadMonitor.begin();
+        return gestureClassifier.classifyAsync(input).whenComplete((prediction, error) -> {
+            if (error == null) {
+                log.debug("Gesture classifier returned: '{}' (confidence: {}, valid frames: {}/{})",
+                        prediction.label(),
+                        prediction.confidence(),
+                        prediction.validPredictions(),
+                        prediction.framesProcessed());
             }
-
-            var predictedWord = responseBody.predictedWord().trim();
-            log.info("Unified AI service returned: '{}' (confidence: {}, raw_char: '{}')\n", 
-                    predictedWord, 
-                    responseBody.confidence(), 
-                    responseBody.rawChar());
-
-            return predictedWord;
-
-        } catch (ResourceAccessException e) {
-            log.error("AI Service is unavailable: {}", e.getMessage());
-            throw new AiServiceUnavailableException("AI Service is offline", e);
-        } catch (HttpServerErrorException e) {
-            log.error("AI Service returned server error: {} - {}", 
-                    e.getStatusCode(), e.getMessage());
-            throw new ExternalServiceException(
-                    "AI Service error: " + e.getStatusCode(), 
-                    e.getStatusCode().value(), 
-                    e);
-        } catch (ExternalServiceException e) {
-            // Re-throw as-is
-            throw e;
-        } catch (Exception e) {
-            log.error("Failed to call AI Service: {}", e.getMessage(), e);
-            throw new ExternalServiceException(
-                    "Failed to process gesture recognition: " + e.getMessage(),
-                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                    e);
-        }
+            aiLoadMonitor.end(callStart, "predict", error == null);
+        });
     }
 
     /**
      * Fix Vietnamese diacritics for raw text
-     * Calls Python AI service to add proper Vietnamese accents
+     * Delegates to the configured {@link DiacriticsRestorer}
+     * (Python /fix-diacritics by default, or the in-process n-gram engine)
      *
      * @param rawText Raw Vietnamese text without diacritics
-     * @return Text with proper Vietnamese diacritics
-     * @throws AiServiceUnavailableException if AI service is offline
-     * @throws ExternalServiceException if external service returns error
+     * @return Future of the text with proper Vietnamese diacritics; fails with
+     *         AiServiceUnavailableException if AI service is offline,
+     *         ExternalServiceException if external service returns error
      */
-    public String fixDiacritics(String rawText) {
-        log.info("Fixing diacritics for text: '{}'", rawText);
+    public CompletableFuture<String> fixDiacritics(String rawText) {
+        log.debug("Fixing diacritics for text of length {}", rawText.length());
 
-        // Prepare request body for diacritics endpoint
-        var requestBody = Map.of(
-                "text", rawText
-        );
-
-        try {
-            log.debug("Calling AI service /fix-diacritics endpoint");
-
-            ResponseEntity<Map> response = aiRestClient.post()
-                    .uri("/fix-diacritics")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(requestBody)
-                    .retrieve()
-                    .toEntity(Map.class);
+        return aiCallCoalescer.execute("fix-diacritics", textKey(rawText), () -> callRestorer(rawText));
+    }
 
-            var responseBody = response.getBody();
-            
-            // Validate response
-            if (responseBody == null) {
-                throw new ExternalServiceException("AI Service returned null response for diacritics", 
-                        HttpStatus.INTERNAL_SERVER_ERROR.value());
+    private CompletableFuture<String> callRestorer(String rawText) {
+        var callStart = aiLoadMonitor.begin();
+        return diacriticsRestorer.restoreAsync(rawText).whenComplete((fixedText, error) -> {
+            if (error == null) {
+                log.debug("Diacritics fixed: '{}' → '{}'", rawText, fixedText);
             }
+            aiLoadMonitor.end(callStart, "fix-diacritics", error == null);
+        });
+    }
 
-            // Extract fixed text from response
-            Object fixedTextObj = responseBody.get("fixed_text");
-            if (fixedTextObj == null) {
-                log.warn("AI Service did not return fixed_text, returning original text");
-                return rawText;
+    /**
+     * SHA-256 over the exact landmark values of the window (and the text context), so only
+     * bit-identical windows share a call.
+     */
+    private static String windowKey(List<HandFrameDTO> frames, String currentText) {
+        var digest = sha256();
+        var buffer = ByteBuffer.allocate(4 + 12 * LandmarkFeatures.LANDMARKS);
+        for (var frame : frames) {
+            var landmarks = frame != null ? frame.landmarks() : null;
+            var count = landmarks != null ? landmarks.size() : -1;
+            if (4 + 12 * count > buffer.capacity()) {
+                buffer = ByteBuffer.allocate(4 + 12 * count);
             }
+            buffer.clear().putInt(count);
+            for (int i = 0; i < count; i++) {
+                var landmark = landmarks.get(i);
+                if (landmark == null) {
+                    buffer.putFloat(Float.NaN).putFloat(Float.NaN).putFloat(Float.NaN);
+                } else {
+                    buffer.putFloat(landmark.x()).putFloat(landmark.y()).putFloat(landmark.z());
+                }
+            }
+            digest.update(buffer.array(), 0, buffer.position());
+        }
+        digest.update(currentText.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().withoutPadding().encodeToString(digest.digest());
+    }
 
-            String fixedText = fixedTextObj.toString().trim();
-            log.info("Diacritics fixed: '{}' → '{}'", rawText, fixedText);
-            return fixedText;
+    private static String textKey(String text) {
+        var digest = sha256().digest(text.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().withoutPadding().encodeToString(digest);
+    }
 
-        } catch (ResourceAccessException e) {
-            log.error("AI Service is unavailable: {}", e.getMessage());
-            throw new AiServiceUnavailableException("AI Service is offline", e);
-        } catch (HttpServerErrorException e) {
-            log.error("AI Service returned server error: {} - {}", 
-                    e.getStatusCode(), e.getMessage());
-            throw new ExternalServiceException(
-                    "AI Service error: " + e.getStatusCode(), 
-                    e.getStatusCode().value(), 
-                    e);
-        } catch (ExternalServiceException e) {
-            // Re-throw as-is
-            throw e;
-        } catch (Exception e) {
-            log.error("Failed to fix diacritics: {}", e.getMessage(), e);
-            throw new ExternalServiceException(
-                    "Failed to fix diacritics: " + e.getMessage(),
-                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                    e);
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
 }
@@ -0,0 +1,175 @@
+package com.capstone.vsl.integration;
+
+import com.capstone.vsl.integration.dto.GestureInputDTO;
+import com.capstone.vsl.integration.dto.HandFrameDTO;
+import com.capstone.vsl.integration.dto.SequenceEventDTO;
+import com.capstone.vsl.recognition.FrameSegmenter;
+import com.capstone.vsl.util.Futures;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Gesture Sequence Service
+ * Recognizes whole words signed as one continuous stream of frames.
+ *
+ * Pipeline:
+ * 1. Segment the stream into character windows at pauses in hand motion ({@link FrameSegmenter})
+ * 2. Classify the windows in parallel, each through {@link GestureIntegrationService#classify}
+ *    (configured engine, AI load metrics). At most max-in-flight windows of a request are in
+ *    flight: window i + max-in-flight starts when window i completes, so one long stream
+ *    cannot fan out into hundreds of concurrent remote calls, and cancelling stops the rest.
+ *    Windows are started on the recognition executor, which runs the in-process engine;
+ *    remote calls only occupy it while being sent
+ * 3. Emit one event per window as soon as it and all earlier windows are done, so the
+ *    client receives characters in signing order while later windows are still running
+ * 4. Emit a final "done" event with the recognized text
+ */
+@Service
+@Slf4j
+public class GestureSequenceService {
+
+    private final GestureIntegrationService gestureIntegrationService;
+    private final Executor recognitionExecutor;
+
+    @Value("${ai.recognition.sequence.motion-threshold:0.1}")
+    private double motionThreshold;
+
+    @Value("${ai.recognition.sequence.min-frames:5}")
+    private int minFrames;
+
+    @Value("${ai.recognition.sequence.max-frames-per-character:30}")
+    private int maxFramesPerCharacter;
+
+    @Value("${ai.recognition.sequence.max-frames:3600}")
+    private int maxFrames;
+
+    @Value("${ai.recognition.sequence.max-in-flight:8}")
+    private int maxInFlight;
+
+    private FrameSegmenter segmenter;
+
+    public GestureSequenceService(GestureIntegrationService gestureIntegrationService,
+                                  @Qualifier("recognitionExecutor") Executor recognitionExecutor) {
+        this.gestureIntegrationService = gestureIntegrationService;
+        this.recognitionExecutor = recognitionExecutor;
+    }
+
+    @PostConstruct
+    public void init() {
+        segmenter = new FrameSegmenter(new FrameSegmenter.Settings(motionThreshold, minFrames, maxFramesPerCharacter));
+    }
+
+    /**
+     * Recognize a frame stream, delivering events to the sink in order from executor threads.
+     * If the sink throws (client gone) or the returned future is cancelled, windows that
+     * have not started yet are not classified (at most max-in-flight calls are still running).
+     *
+     * @param frames continuous stream of hand frames
+     * @param sink   receives the window events and the final "done" event
+     * @return completes after the "done" event has been delivered
+     * @throws IllegalArgumentException if the stream is empty or too long
+     */
+    public CompletableFuture<Void> recognize(List<HandFrameDTO> frames, Consumer<SequenceEventDTO> sink) {
+        if (frames == null || frames.isEmpty()) {
+            throw new IllegalArgumentException("Frames cannot be empty");
+        }
+        if (frames.size() > maxFrames) {
+            throw new IllegalArgumentException("Too many frames: " + frames.size() + " (max " + maxFrames + ")");
+        }
+
+        var segments = segmenter.segment(frames);
+        log.debug("Segmented {} frames into {} character windows", frames.size(), segments.size());
+
+        var cancelled = new AtomicBoolean();
+        var pending = new ArrayList<CompletableFuture<SequenceEventDTO>>(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            pending.add(new CompletableFuture<>());
+        }
+        var window = Math.max(1, maxInFlight);
+        for (int i = 0; i < Math.min(window, segments.size()); i++) {
+            start(i, window, segments, frames, pending, cancelled);
+        }
+
+        // Deliver in window order: each step waits for its own window and the previous step
+        var text = new StringBuilder();
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        for (var next : pending) {
+            chain = chain.thenCompose(ignored -> next).thenAccept(event -> {
+                if (cancelled.get()) {
+                    return;
+                }
+                if (event.character() != null) {
+                    text.append(event.character());
+                }
+                sink.accept(event);
+            });
+        }
+        var result = chain.thenRun(() -> {
+            if (!cancelled.get()) {
+                sink.accept(SequenceEventDTO.done(text.toString(), segments.size()));
+            }
+        });
+        result.whenComplete((ignored, error) -> {
+            if (error != null) {
+                cancelled.set(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Start window index; when it completes, start window index + window (sliding window).
+     */
+    private void start(int index, int window, List<FrameSegmenter.Segment> segments, List<HandFrameDTO> frames,
+                       List<CompletableFuture<SequenceEventDTO>> pending, AtomicBoolean cancelled) {
+        CompletableFuture.supplyAsync(() -> classify(index, segments.get(index), frames, cancelled), recognitionExecutor)
+                .thenCompose(Function.identity())
+                .whenComplete((event, error) -> {
+                    var next = index + window;
+                    if (next < segments.size()) {
+                        start(next, window, segments, frames, pending, cancelled);
+                    }
+                    if (error != null) {
+                        pending.get(index).completeExceptionally(error);
+                    } else {
+                        pending.get(index).complete(event);
+                    }
+                });
+    }
+
+    /**
+     * Classify one window; failures become "skipped" / "error" events, never a failed future.
+     * A window whose recognition was cancelled before it started completes with null.
+     */
+    private CompletableFuture<SequenceEventDTO> classify(int index, FrameSegmenter.Segment segment,
+                                                         List<HandFrameDTO> frames, AtomicBoolean cancelled) {
+        if (cancelled.get()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        var window = new GestureInputDTO(frames.subList(segment.start(), segment.end()));
+        return gestureIntegrationService.classify(window).handle((prediction, error) -> {
+            if (error == null) {
+                return SequenceEventDTO.character(index, segment.start(), segment.end(),
+                        prediction.label(), prediction.confidence());
+            }
+            var cause = Futures.unwrap(error);
+            if (cause instanceof IllegalArgumentException) {
+                return SequenceEventDTO.skipped(index, segment.start(), segment.end());
+            }
+            log.warn("Failed to classify window {} (frames {}-{}): {}",
+                    index, segment.start(), segment.end(), cause.getMessage());
+            return SequenceEventDTO.error(index, segment.start(), segment.end(), cause.getMessage());
+        });
+    }
+}
@@ -0,0 +1,49 @@
+package com.capstone.vsl.integration;
+
+import com.capstone.vsl.util.Futures;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Python Diacritics Restorer
+ * Restores accents by calling the unified Python AI service (/fix-diacritics).
+ * Calls are non-blocking ({@link AiHttpClient}); {@link #restore} waits for the result.
+ */
+@Component
+@ConditionalOnProperty(name = "ai.diacritics.engine", havingValue = "python", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class PythonDiacriticsRestorer implements DiacriticsRestorer {
+
+    private final AiHttpClient aiHttpClient;
+
+    @Override
+    public String restore(String rawText) {
+        return Futures.join(restoreAsync(rawText));
+    }
+
+    @Override
+    public CompletableFuture<String> restoreAsync(String rawText) {
+        // Prepare request body for diacritics endpoint
+        var requestBody = Map.of(
+                "text", rawText
+        );
+
+        log.debug("Calling AI service /fix-diacritics endpoint");
+        return aiHttpClient.post("/fix-diacritics", requestBody, Map.class)
+                .thenApply(responseBody -> {
+                    // Extract fixed text from response
+                    Object fixedTextObj = responseBody.get("fixed_text");
+                    if (fixedTextObj == null) {
+                        log.warn("AI Service did not return fixed_text, returning original text");
+                        return rawText;
+                    }
+                    return fixedTextObj.toString().trim();
+                });
+    }
+}
@@ -0,0 +1,128 @@
+package com.capstone.vsl.integration;
+
+import com.capstone.vsl.integration.dto.AiResponseDTO;
+import com.capstone.vsl.integration.dto.FramePredictionDTO;
+import com.capstone.vsl.integration.dto.GestureInputDTO;
+import com.capstone.vsl.integration.dto.GesturePrediction;
+import com.capstone.vsl.integration.exception.ExternalServiceException;
+import com.capstone.vsl.recognition.FrameVoter;
+import com.capstone.vsl.util.Futures;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Python Gesture Classifier
+ * Classifies gestures by calling the unified Python AI service (/predict).
+ *
+ * Scaling and MLP inference happen in the Python service. The per-frame predictions are
+ * requested ("include_frames") and the confidence threshold and mode vote are applied here
+ * with {@link FrameVoter}, so both engines share one voting implementation and one threshold
+ * (ai.recognition.confidence-threshold). Older AI service versions that ignore
+ * "include_frames" still work: their voted result is used as-is.
+ *
+ * Calls are non-blocking ({@link AiHttpClient}); {@link #classify} waits for the result.
+ */
+@Component
+@ConditionalOnProperty(name = "ai.recognition.engine", havingValue = "python", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class PythonGestureClassifier implements GestureClassifier {
+
+    private final AiHttpClient aiHttpClient;
+
+    @Value("${ai.recognition.confidence-threshold:0.7}")
+    private float confidenceThreshold;
+
+    @Override
+    public GesturePrediction classify(GestureInputDTO input) {
+        return Futures.join(classifyAsync(input));
+    }
+
+    @Override
+    public CompletableFuture<GesturePrediction> classifyAsync(GestureInputDTO input) {
+        var frameCount = input.frames().size();
+        var currentText = input.currentText() != null ? input.currentText() : "";
+
+        // Prepare request body matching Python API format
+        var requestBody = Map.of(
+                "frames", input.frames(),
+                "current_text", currentText,
+                "include_frames", true
+        );
+
+        log.debug("Calling unified AI service with {} frames", frameCount);
+        return aiHttpClient.post("/predict", requestBody, AiResponseDTO.class)
+                .thenApply(responseBody -> toPrediction(responseBody, frameCount));
+    }
+
+    private GesturePrediction toPrediction(AiResponseDTO responseBody, int frameCount) {
+        // Check if request was successful
+        if (Boolean.FALSE.equals(responseBody.success()) || responseBody.error() != null) {
+            var errorMsg = responseBody.error() != null
+                    ? responseBody.error()
+                    : "AI Service returned unsuccessful response";
+            log.error("AI Service error: {}", errorMsg);
+            throw new ExternalServiceException("AI Service error: " + errorMsg,
+                    HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+
+        if (responseBody.framePredictions() != null) {
+            return vote(responseBody.framePredictions());
+        }
+
+        // Extract predicted word (new character only)
+        if (responseBody.predictedWord() == null || responseBody.predictedWord().trim().isEmpty()) {
+            throw new ExternalServiceException("AI Service returned empty predicted_word",
+                    HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+
+        return new GesturePrediction(
+                responseBody.predictedWord().trim(),
+                responseBody.confidence() != null ? responseBody.confidence() : 0.0,
+                responseBody.framesProcessed() != null ? responseBody.framesProcessed() : frameCount,
+                responseBody.validPredictions() != null ? responseBody.validPredictions() : 0
+        );
+    }
+
+    /**
+     * Threshold and mode vote over the per-frame predictions of the AI service.
+     * Labels are mapped to small indices on the fly (a window has a handful of distinct labels).
+     */
+    private GesturePrediction vote(List<FramePredictionDTO> framePredictions) {
+        var labels = new ArrayList<String>();
+        var voter = new FrameVoter(framePredictions.size(),
+                new FrameVoter.Policy(confidenceThreshold, false, 0, 1.0f));
+
+        for (var prediction : framePredictions) {
+            if (prediction == null || prediction.label() == null || prediction.confidence() == null) {
+                voter.skip();
+                continue;
+            }
+            var index = labels.indexOf(prediction.label());
+            if (index < 0) {
+                index = labels.size();
+                labels.add(prediction.label());
+            }
+            voter.offer(index, prediction.confidence().floatValue(), 0);
+        }
+
+        if (voter.winner() < 0) {
+            throw new IllegalArgumentException("No valid predictions (all frames below confidence threshold)");
+        }
+        return new GesturePrediction(
+                labels.get(voter.winner()),
+                voter.winnerConfidence(),
+                framePredictions.size(),
+                voter.validVotes()
+        );
+    }
+}
@@ -7,14 +7,16 @@ import com.capstone.vsl.dto.GestureToTextResponse;
 import com.capstone.vsl.integration.exception.AccentCorrectionException;
 import com.capstone.vsl.integration.exception.GestureRecognitionException;
 import com.capstone.vsl.integration.exception.PythonServiceException;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.web.client.HttpClientErrorException;
@@ -24,6 +26,8 @@ import org.springframework.web.client.RestClient;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
 
 /**
  * Python Integration Service
@@ -31,10 +35,10 @@ import java.io.IOException;
  * - Model 1: Gesture Recognition (localhost:5000)
  * - Model 2: Accent Correction (localhost:5001)
  * 
- * Uses Java 21 RestClient for HTTP communication.
+ * Uses Java 21 RestClient for HTTP communication (JDK HttpClient underneath, one client per
+ * model with the model's timeout). Calls block; callers run them on virtual threads.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class PythonIntegrationService {
 
@@ -51,22 +55,34 @@ public class PythonIntegrationService {
     private int model2TimeoutSeconds;
 
     private final RestClient.Builder restClientBuilder;
+    private final HttpClient outboundHttpClient;
 
-    /**
-     * Create RestClient for Model 1 with timeout
-     */
-    private RestClient createModel1Client() {
-        return restClientBuilder
-                .baseUrl(model1BaseUrl)
-                .build();
+    private RestClient model1Client;
+    private RestClient model2Client;
+
+    public PythonIntegrationService(RestClient.Builder restClientBuilder,
+                                    @Qualifier("outboundHttpClient") HttpClient outboundHttpClient) {
+        this.restClientBuilder = restClientBuilder;
+        this.outboundHttpClient = outboundHttpClient;
+    }
+
+    @PostConstruct
+    public void init() {
+        model1Client = createClient(model1BaseUrl, model1TimeoutSeconds);
+        model2Client = createClient(model2BaseUrl, model2TimeoutSeconds);
     }
 
     /**
-     * Create RestClient for Model 2 with timeout
+     * Create RestClient for one model with its timeout.
+     * Built once from a clone: the shared RestClient.Builder is mutable, so building
+     * per call could mix up the two base URLs under concurrent requests.
      */
-    private RestClient createModel2Client() {
-        return restClientBuilder
-                .baseUrl(model2BaseUrl)
+    private RestClient createClient(String baseUrl, int timeoutSeconds) {
+        var requestFactory = new JdkClientHttpRequestFactory(outboundHttpClient);
+        requestFactory.setReadTimeout(Duration.ofSeconds(timeoutSeconds));
+        return restClientBuilder.clone()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
                 .build();
     }
 
@@ -124,7 +140,7 @@ public class PythonIntegrationService {
      * @throws GestureRecognitionException if model fails or is unavailable
      */
     private String callGestureRecognitionModel(MultipartFile videoFile) {
-        var restClient = createModel1Client();
+        var restClient = model1Client;
 
         try {
             log.debug("Calling Gesture Recognition Model at: {}/predict-gesture", model1BaseUrl);
@@ -182,7 +198,7 @@ public class PythonIntegrationService {
             throw new IllegalArgumentException("Raw text cannot be empty");
         }
 
-        var restClient = createModel2Client();
+        var restClient = model2Client;
 
         try {
             log.debug("Calling Accent Correction Model at: {}/add-accents with text: {}", model2BaseUrl, rawText);
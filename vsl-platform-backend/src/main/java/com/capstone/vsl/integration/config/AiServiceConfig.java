@@ -3,51 +3,44 @@ package com.capstone.vsl.integration.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
-import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.concurrent.Executors;
 
 /**
  * AI Service Configuration
- * Configures RestClient for the unified AI service endpoint
+ * Configures the HTTP client for the unified AI service endpoint
  * The unified service handles both gesture recognition and accent restoration
  */
 @Configuration
 public class AiServiceConfig {
 
-    @Value("${ai.service.url:http://localhost:5000}")
-    private String aiServiceUrl;
-
     @Value("${ai.service.timeout:10000}")
     private int timeoutMs;
 
-    /**
-     * Creates a request factory with configured timeouts
-     * Connect Timeout: Time to establish connection
-     * Read Timeout: Time to wait for response
-     * 
-     * @return Configured ClientHttpRequestFactory
-     */
-    @Bean
-    public SimpleClientHttpRequestFactory aiRequestFactory() {
-        var requestFactory = new SimpleClientHttpRequestFactory();
-        requestFactory.setConnectTimeout(Duration.ofMillis(timeoutMs));
-        requestFactory.setReadTimeout(Duration.ofMillis(timeoutMs));
-        return requestFactory;
-    }
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
 
     /**
-     * Creates RestClient for the unified AI service
-     * This single endpoint handles:
-     * - Gesture recognition from landmarks
-     * - Accent restoration for Vietnamese text
+     * Creates the non-blocking HTTP client for the unified AI service
+     * (used through {@link com.capstone.vsl.integration.AiHttpClient})
+     * Connect Timeout: Time to establish connection
+     * Request Timeout: set per request, same value
+     *
+     * HTTP/1.1: the Python service does not speak HTTP/2, skip the h2c upgrade attempt
+     * Virtual-thread mode: response handling runs on virtual threads
+     *
+     * @return Configured HttpClient
      */
-    @Bean("aiRestClient")
-    public RestClient aiRestClient(SimpleClientHttpRequestFactory requestFactory) {
-        return RestClient.builder()
-                .baseUrl(aiServiceUrl)
-                .requestFactory(requestFactory)
-                .build();
+    @Bean("aiServiceHttpClient")
+    public HttpClient aiServiceHttpClient() {
+        var builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(timeoutMs));
+        if (virtualThreads) {
+            builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        return builder.build();
     }
 }
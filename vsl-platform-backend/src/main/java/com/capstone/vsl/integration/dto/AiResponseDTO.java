@@ -2,6 +2,8 @@ package com.capstone.vsl.integration.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.List;
+
 /**
  * Unified DTO representing the response from the unified Python AI Service
  * Expected JSON format from Python API:
@@ -13,6 +15,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  *   "frames_processed": 5,
  *   "valid_predictions": 4
  * }
+ * With "include_frames": true in the request, "frame_predictions" carries the per-frame
+ * top prediction instead of the voted fields (null entries for unusable frames).
  */
 public record AiResponseDTO(
         @JsonProperty("success")
@@ -34,7 +38,10 @@ public record AiResponseDTO(
         Integer validPredictions,
         
         @JsonProperty("error")
-        String error
+        String error,
+
+        @JsonProperty("frame_predictions")
+        List<FramePredictionDTO> framePredictions
 ) {
 }
 
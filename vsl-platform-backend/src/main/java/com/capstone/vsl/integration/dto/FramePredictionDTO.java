@@ -0,0 +1,11 @@
+package com.capstone.vsl.integration.dto;
+
+/**
+ * Immutable DTO for the top prediction of a single frame, as returned by the
+ * Python AI service when "include_frames" is requested (no threshold applied)
+ */
+public record FramePredictionDTO(
+        String label,
+        Double confidence
+) {
+}
@@ -0,0 +1,17 @@
+package com.capstone.vsl.integration.dto;
+
+/**
+ * Immutable result of classifying a window of hand frames
+ *
+ * @param label            recognized character (lower case)
+ * @param confidence       average confidence of the frames that voted for the label
+ * @param framesProcessed  number of frames scored (fewer than the window after an early exit)
+ * @param validPredictions number of frames above the confidence threshold
+ */
+public record GesturePrediction(
+        String label,
+        double confidence,
+        int framesProcessed,
+        int validPredictions
+) {
+}
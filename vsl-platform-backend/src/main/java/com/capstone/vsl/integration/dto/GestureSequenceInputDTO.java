@@ -0,0 +1,18 @@
+package com.capstone.vsl.integration.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * Immutable DTO representing a continuous stream of hand frames (several signed characters),
+ * segmented server-side into one window per character
+ * This is the request body of /api/vsl/predict-sequence
+ */
+public record GestureSequenceInputDTO(
+        @NotEmpty(message = "Frames cannot be empty")
+        @Valid
+        List<HandFrameDTO> frames
+) {
+}
@@ -0,0 +1,46 @@
+package com.capstone.vsl.integration.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One line of the NDJSON stream returned by /api/vsl/predict-sequence
+ *
+ * Types:
+ * - "character": a window was recognized (character, confidence)
+ * - "skipped": a window had no confident frame
+ * - "error": a window could not be classified (message)
+ * - "done": last line; text is the concatenation of all recognized characters
+ *
+ * Window events arrive in stream order; startFrame/endFrame (exclusive) locate the
+ * window in the request's frames.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SequenceEventDTO(
+        String type,
+        Integer index,
+        Integer startFrame,
+        Integer endFrame,
+        String character,
+        Double confidence,
+        String text,
+        Integer segments,
+        String message
+) {
+    public static SequenceEventDTO character(int index, int startFrame, int endFrame,
+                                             String character, double confidence) {
+        return new SequenceEventDTO("character", index, startFrame, endFrame, character, confidence,
+                null, null, null);
+    }
+
+    public static SequenceEventDTO skipped(int index, int startFrame, int endFrame) {
+        return new SequenceEventDTO("skipped", index, startFrame, endFrame, null, null, null, null, null);
+    }
+
+    public static SequenceEventDTO error(int index, int startFrame, int endFrame, String message) {
+        return new SequenceEventDTO("error", index, startFrame, endFrame, null, null, null, null, message);
+    }
+
+    public static SequenceEventDTO done(String text, int segments) {
+        return new SequenceEventDTO("done", null, null, null, null, null, text, segments, null);
+    }
+}
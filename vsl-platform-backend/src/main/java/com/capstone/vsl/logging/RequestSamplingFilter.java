@@ -0,0 +1,78 @@
+package com.capstone.vsl.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.Arrays;
+
+/**
+ * Logback filter that keeps the per-request logs of only a fraction of requests.
+ * Configured in logback-spring.xml.
+ *
+ * - WARN and ERROR always pass
+ * - Events without a request id (startup, scheduled jobs) always pass
+ * - Events from loggers outside "loggers" always pass
+ * - Otherwise the request id decides, so a request is either logged completely or not at all
+ *
+ * Properties: rate (0.0 - 1.0), loggers (comma-separated logger name prefixes)
+ */
+public class RequestSamplingFilter extends Filter<ILoggingEvent> {
+
+    private static final int BUCKETS = 10_000;
+
+    private double rate = 1.0;
+    private String[] loggerPrefixes = new String[0];
+    private int threshold = BUCKETS;
+
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+
+    public void setLoggers(String loggers) {
+        this.loggerPrefixes = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    @Override
+    public void start() {
+        threshold = (int) Math.round(Math.max(0.0, Math.min(1.0, rate)) * BUCKETS);
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (!isStarted() || threshold >= BUCKETS || event.getLevel().isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        var requestId = event.getMDCPropertyMap().get(RequestIdFilter.MDC_KEY);
+        if (requestId == null || !isSampledLogger(event.getLoggerName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return Math.floorMod(mix(requestId.hashCode()), BUCKETS) < threshold
+                ? FilterReply.NEUTRAL
+                : FilterReply.DENY;
+    }
+
+    private boolean isSampledLogger(String loggerName) {
+        for (var prefix : loggerPrefixes) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Murmur3 finalizer: client-supplied ids are often sequential
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,144 @@
+package com.capstone.vsl.profiling;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Per-request query profiling (dev profile only, see {@link QueryProfilerConfig}).
+ *
+ * - Adds the number of SQL statements the request issued as X-Query-Count
+ * - Logs a warning when the same statement ran n-plus-one-threshold times or more
+ *   in one request (typical lazy-loading N+1 pattern)
+ * - Records the count in the vsl.db.statements.per.request distribution
+ *
+ * The response body is buffered so the header can still be set after the handler ran.
+ * Async requests (CompletableFuture handlers) are finished in their async dispatch,
+ * which keeps counting into the same tally. Streamed responses (ResponseBodyEmitter)
+ * are not buffered: they are counted, but committed before the header could be added.
+ */
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    private static final String STATE_ATTRIBUTE = QueryCountFilter.class.getName() + ".STATE";
+
+    /**
+     * Set by Spring MVC on requests answered with a ResponseBodyEmitter / SseEmitter,
+     * see {@link ShallowEtagHeaderFilter#disableContentCaching}.
+     */
+    private static final String STREAMING_ATTRIBUTE = ShallowEtagHeaderFilter.class.getName() + ".STREAMING";
+
+    private final int nPlusOneThreshold;
+    private final DistributionSummary statementsPerRequest;
+
+    public QueryCountFilter(int nPlusOneThreshold, MeterRegistry meterRegistry) {
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.statementsPerRequest = DistributionSummary.builder("vsl.db.statements.per.request")
+                .description("SQL statements issued per HTTP request")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        var state = isAsyncDispatch(request) ? (RequestState) request.getAttribute(STATE_ATTRIBUTE) : null;
+        if (state == null) {
+            state = new RequestState(new QueryCountInspector.RequestQueries(),
+                    new StreamingAwareResponseWrapper(request, response));
+            request.setAttribute(STATE_ATTRIBUTE, state);
+        }
+        // The async dispatch normally brings the wrapper back itself (wrapped once more)
+        var responseToUse = isAsyncDispatch(request)
+                && WebUtils.getNativeResponse(response, StreamingAwareResponseWrapper.class) != null
+                ? response
+                : state.response();
+
+        QueryCountInspector.resume(state.queries());
+        try {
+            filterChain.doFilter(request, responseToUse);
+        } finally {
+            QueryCountInspector.end();
+            if (!isAsyncStarted(request)) {
+                complete(request, state);
+            }
+        }
+    }
+
+    private void complete(HttpServletRequest request, RequestState state) throws IOException {
+        var queries = state.queries();
+        statementsPerRequest.record(queries.total());
+        queries.repeatedAtLeast(nPlusOneThreshold).forEach((sql, count) ->
+                log.warn("Possible N+1 on {} {}: statement ran {} times: {}",
+                        request.getMethod(), request.getRequestURI(), count, sql));
+
+        var response = state.response();
+        // A streamed response is committed by now; the header can no longer be set
+        if (!response.isCommitted()) {
+            response.setHeader(QUERY_COUNT_HEADER, String.valueOf(queries.total()));
+        }
+        response.copyBodyToResponse();
+    }
+
+    /**
+     * Kept on the request so an async dispatch continues the same tally and buffer.
+     */
+    private record RequestState(QueryCountInspector.RequestQueries queries,
+                                ContentCachingResponseWrapper response) {
+    }
+
+    /**
+     * Buffers the body unless the handler turned out to stream it.
+     */
+    private static final class StreamingAwareResponseWrapper extends ContentCachingResponseWrapper {
+
+        private final HttpServletRequest request;
+
+        StreamingAwareResponseWrapper(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            return isStreaming() ? getResponse().getOutputStream() : super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            return isStreaming() ? getResponse().getWriter() : super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (isStreaming()) {
+                getResponse().flushBuffer();
+            } else {
+                super.flushBuffer();
+            }
+        }
+
+        private boolean isStreaming() {
+            return request.getAttribute(STREAMING_ATTRIBUTE) != null;
+        }
+    }
+}
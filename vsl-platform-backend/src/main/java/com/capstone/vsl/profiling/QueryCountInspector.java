@@ -0,0 +1,72 @@
+package com.capstone.vsl.profiling;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hibernate StatementInspector that counts the SQL statements issued while a request
+ * is being served (dev profile only, see {@link QueryProfilerConfig}).
+ *
+ * Statements outside a request (scheduled jobs, startup) are not tracked.
+ * The SQL is passed through unchanged.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<RequestQueries> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        var queries = CURRENT.get();
+        if (queries != null) {
+            queries.record(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Count into queries on the current thread: when a request starts, and again in each
+     * async dispatch of that request (which may run on another thread).
+     */
+    public static void resume(RequestQueries queries) {
+        CURRENT.set(queries);
+    }
+
+    /**
+     * Stop counting for the current thread.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Statements seen during one request.
+     */
+    public static final class RequestQueries {
+        private final Map<String, Integer> countsBySql = new HashMap<>();
+        private int total;
+
+        private void record(String sql) {
+            total++;
+            countsBySql.merge(sql, 1, Integer::sum);
+        }
+
+        public int total() {
+            return total;
+        }
+
+        /**
+         * Statements whose identical SQL ran at least threshold times (N+1 candidates).
+         */
+        public Map<String, Integer> repeatedAtLeast(int threshold) {
+            var repeated = new HashMap<String, Integer>();
+            countsBySql.forEach((sql, count) -> {
+                if (count >= threshold) {
+                    repeated.put(sql, count);
+                }
+            });
+            return repeated;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.capstone.vsl.profiling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+
+/**
+ * Query Profiler Configuration
+ * Development-only query instrumentation, enabled with the "dev" profile
+ * (e.g. SPRING_PROFILES_ACTIVE=dev). Nothing here is loaded in production.
+ *
+ * - Statement counting per request + X-Query-Count header + N+1 warnings
+ * - Slow-query log and repository method timers are configured in application-dev.properties
+ */
+@Configuration
+@Profile("dev")
+public class QueryProfilerConfig {
+
+    @Bean
+    public QueryCountInspector queryCountInspector() {
+        return new QueryCountInspector();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer(QueryCountInspector queryCountInspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCountInspector);
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(
+            @Value("${query-profiler.n-plus-one-threshold:10}") int nPlusOneThreshold,
+            MeterRegistry meterRegistry) {
+        var registration = new FilterRegistrationBean<>(new QueryCountFilter(nPlusOneThreshold, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        // Outermost, so statements issued by security filters are counted too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,160 @@
+package com.capstone.vsl.recognition;
+
+import com.capstone.vsl.integration.dto.HandFrameDTO;
+import com.capstone.vsl.integration.dto.LandmarkDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a continuous stream of hand frames into character windows.
+ *
+ * Fingerspelling holds each letter still for a moment and moves between letters, so
+ * segments are the pauses in hand motion:
+ * - Motion of a frame = change of the hand shape (wrist-relative landmarks, RMS per landmark)
+ *   plus wrist displacement since the previous frame, both divided by the hand size
+ *   (wrist to middle-finger base) so the threshold does not depend on the camera distance
+ * - Motion is smoothed over 3 frames; frames below motionThreshold are still
+ * - A run of at least minFrames still frames is one character window; longer holds are cut
+ *   to their central maxFrames frames, which is all the classifier needs
+ * - Frames without a usable hand (not 21 landmarks) end the current window
+ *
+ * Stateless and thread-safe.
+ */
+public final class FrameSegmenter {
+
+    private static final int MIDDLE_FINGER_BASE = 9;
+
+    /**
+     * @param motionThreshold max smoothed motion (in hand sizes per frame) of a still frame
+     * @param minFrames       shortest hold recognized as a character
+     * @param maxFrames       longest window sent to the classifier
+     */
+    public record Settings(double motionThreshold, int minFrames, int maxFrames) {
+
+        public Settings {
+            if (minFrames < 1 || maxFrames < minFrames) {
+                throw new IllegalArgumentException("Invalid segment lengths: " + minFrames + ".." + maxFrames);
+            }
+        }
+    }
+
+    /**
+     * One character window: frames [start, end) of the stream.
+     */
+    public record Segment(int start, int end) {
+
+        public int length() {
+            return end - start;
+        }
+    }
+
+    private final Settings settings;
+
+    public FrameSegmenter(Settings settings) {
+        this.settings = settings;
+    }
+
+    public List<Segment> segment(List<HandFrameDTO> frames) {
+        var motion = smooth(motion(frames));
+
+        var segments = new ArrayList<Segment>();
+        var runStart = -1;
+        for (int t = 0; t <= frames.size(); t++) {
+            var still = t < frames.size() && motion[t] < settings.motionThreshold();
+            if (still && runStart < 0) {
+                runStart = t;
+            } else if (!still && runStart >= 0) {
+                addSegment(segments, runStart, t);
+                runStart = -1;
+            }
+        }
+        return segments;
+    }
+
+    private void addSegment(List<Segment> segments, int start, int end) {
+        var length = end - start;
+        if (length < settings.minFrames()) {
+            return;
+        }
+        if (length > settings.maxFrames()) {
+            start += (length - settings.maxFrames()) / 2;
+            end = start + settings.maxFrames();
+        }
+        segments.add(new Segment(start, end));
+    }
+
+    /**
+     * Per-frame motion; +Infinity for frames without a usable hand. The first usable frame
+     * after a gap has no predecessor and counts as still.
+     */
+    private static double[] motion(List<HandFrameDTO> frames) {
+        var motion = new double[frames.size()];
+        var previous = new float[LandmarkFeatures.FEATURES];
+        var current = new float[LandmarkFeatures.FEATURES];
+        LandmarkDTO previousWrist = null;
+
+        for (int t = 0; t < frames.size(); t++) {
+            var frame = frames.get(t);
+            var landmarks = frame != null ? frame.landmarks() : null;
+            if (!LandmarkFeatures.extract(landmarks, current)) {
+                motion[t] = Double.POSITIVE_INFINITY;
+                previousWrist = null;
+                continue;
+            }
+            var scale = handSize(current);
+            var wrist = landmarks.get(0);
+            if (previousWrist == null || scale == 0) {
+                motion[t] = 0;
+            } else {
+                var shape = 0.0;
+                for (int i = 0; i < LandmarkFeatures.FEATURES; i++) {
+                    var d = current[i] - previous[i];
+                    shape += d * d;
+                }
+                var dx = wrist.x() - previousWrist.x();
+                var dy = wrist.y() - previousWrist.y();
+                var dz = wrist.z() - previousWrist.z();
+                motion[t] = (Math.sqrt(shape / LandmarkFeatures.LANDMARKS) + Math.sqrt(dx * dx + dy * dy + dz * dz)) / scale;
+            }
+            var swap = previous;
+            previous = current;
+            current = swap;
+            previousWrist = wrist;
+        }
+        return motion;
+    }
+
+    private static double handSize(float[] features) {
+        var x = features[3 * MIDDLE_FINGER_BASE];
+        var y = features[3 * MIDDLE_FINGER_BASE + 1];
+        var z = features[3 * MIDDLE_FINGER_BASE + 2];
+        return Math.sqrt(x * x + y * y + z * z);
+    }
+
+    /**
+     * Centered 3-frame average; a gap (+Infinity) stays a gap and is not averaged into
+     * its neighbours.
+     */
+    private static double[] smooth(double[] motion) {
+        var smoothed = new double[motion.length];
+        for (int t = 0; t < motion.length; t++) {
+            if (Double.isInfinite(motion[t])) {
+                smoothed[t] = motion[t];
+                continue;
+            }
+            var sum = motion[t];
+            var count = 1;
+            if (t > 0 && !Double.isInfinite(motion[t - 1])) {
+                sum += motion[t - 1];
+                count++;
+            }
+            if (t + 1 < motion.length && !Double.isInfinite(motion[t + 1])) {
+                sum += motion[t + 1];
+                count++;
+            }
+            smoothed[t] = sum / count;
+        }
+        return smoothed;
+    }
+}
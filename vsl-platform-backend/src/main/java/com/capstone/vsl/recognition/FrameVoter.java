@@ -0,0 +1,133 @@
+package com.capstone.vsl.recognition;
+
+import java.util.Arrays;
+
+/**
+ * Mode vote over per-frame predictions of one gesture window, on primitive arrays.
+ * Java port of vote_predictions() in the Python service, plus early exit.
+ *
+ * - Frames below the confidence threshold do not vote
+ * - The label with the most votes wins; ties go to the label that voted first
+ *   (same as Counter.most_common)
+ * - The reported confidence is the average over the winner's votes
+ *
+ * Early exit: {@link #offer} returns true once scoring more frames cannot change the outcome
+ * in a way that matters, so the caller can stop running the model:
+ * - decided: the leader has more votes than any other label could still reach, or
+ * - confident: at least minFrames votes, all for the same label, averaging at least
+ *   earlyExitConfidence
+ *
+ * Instances are reusable ({@link #reset()}) but not thread-safe.
+ */
+public final class FrameVoter {
+
+    /**
+     * @param confidenceThreshold minimum per-frame confidence to vote
+     * @param earlyExit           stop once the window is decided or unanimous and confident
+     * @param minFrames           votes needed before the confident rule applies
+     * @param earlyExitConfidence average confidence needed for the confident rule
+     */
+    public record Policy(float confidenceThreshold, boolean earlyExit, int minFrames, float earlyExitConfidence) {
+    }
+
+    private final Policy policy;
+    private final int[] votes;
+    private final int[] firstSeen;
+    private final double[] confidenceSums;
+    private int validVotes;
+    private int distinctLabels;
+    private int offered;
+    private int winner;
+
+    /**
+     * @param labelCount number of distinct labels (class count of the model)
+     */
+    public FrameVoter(int labelCount, Policy policy) {
+        this.policy = policy;
+        this.votes = new int[labelCount];
+        this.firstSeen = new int[labelCount];
+        this.confidenceSums = new double[labelCount];
+        reset();
+    }
+
+    public void reset() {
+        Arrays.fill(votes, 0);
+        Arrays.fill(confidenceSums, 0.0);
+        validVotes = 0;
+        distinctLabels = 0;
+        offered = 0;
+        winner = -1;
+    }
+
+    /**
+     * Record the prediction of one frame.
+     *
+     * @param label           predicted label index
+     * @param confidence      probability of the predicted label
+     * @param remainingFrames frames of the window not offered yet
+     * @return true if the remaining frames need not be scored
+     */
+    public boolean offer(int label, float confidence, int remainingFrames) {
+        var frame = offered++;
+        if (confidence >= policy.confidenceThreshold()) {
+            if (votes[label] == 0) {
+                firstSeen[label] = frame;
+                distinctLabels++;
+            }
+            votes[label]++;
+            confidenceSums[label] += confidence;
+            validVotes++;
+            if (winner < 0 || votes[label] > votes[winner]
+                    || (votes[label] == votes[winner] && firstSeen[label] < firstSeen[winner])) {
+                winner = label;
+            }
+        }
+        return policy.earlyExit() && remainingFrames > 0 && isSettled(remainingFrames);
+    }
+
+    /**
+     * Record a frame that could not be scored (e.g. wrong landmark count).
+     */
+    public void skip() {
+        offered++;
+    }
+
+    private boolean isSettled(int remainingFrames) {
+        if (winner < 0) {
+            return false;
+        }
+        if (distinctLabels == 1 && validVotes >= policy.minFrames()
+                && confidenceSums[winner] / votes[winner] >= policy.earlyExitConfidence()) {
+            return true;
+        }
+        var runnerUp = 0;
+        for (int c = 0; c < votes.length; c++) {
+            if (c != winner && votes[c] > runnerUp) {
+                runnerUp = votes[c];
+            }
+        }
+        return votes[winner] > runnerUp + remainingFrames;
+    }
+
+    public int validVotes() {
+        return validVotes;
+    }
+
+    /**
+     * Frames offered or skipped so far, i.e. the frames that were actually scored.
+     */
+    public int framesSeen() {
+        return offered;
+    }
+
+    /**
+     * @return winning label index, or -1 if no frame voted
+     */
+    public int winner() {
+        return winner;
+    }
+
+    public double winnerConfidence() {
+        return winner < 0 ? 0.0 : confidenceSums[winner] / votes[winner];
+    }
+}
@@ -0,0 +1,174 @@
+package com.capstone.vsl.recognition;
+
+import com.capstone.vsl.artifact.ArtifactHandle;
+import com.capstone.vsl.artifact.ArtifactStore;
+import com.capstone.vsl.artifact.MappedArtifact;
+import com.capstone.vsl.integration.GestureClassifier;
+import com.capstone.vsl.integration.dto.GestureInputDTO;
+import com.capstone.vsl.integration.dto.GesturePrediction;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * JVM Gesture Classifier
+ * Runs the exported scaler + MLP in-process instead of calling the Python /predict endpoint.
+ * Enabled with ai.recognition.engine=jvm.
+ *
+ * Same semantics as the Python service:
+ * - Frames without exactly 21 landmarks are skipped
+ * - Frames below ai.recognition.confidence-threshold do not vote
+ * - The most frequent label wins, see {@link FrameVoter}
+ *
+ * Frames are scored in order and scoring stops as soon as the vote is settled
+ * (ai.recognition.voting.early-exit.*), so a clear gesture costs only a few forward passes.
+ *
+ * The model comes from the {@link ArtifactStore} (artifact ai.recognition.artifact, ".json")
+ * and is hot-swapped when a new version is deployed.
+ *
+ * All per-request buffers live in a pooled {@link Scratch}, so classifying a window
+ * allocates only the result. The pool is shared rather than per-thread: with virtual threads
+ * every request runs on a fresh thread and a ThreadLocal would reallocate on each call.
+ */
+@Component
+@ConditionalOnProperty(name = "ai.recognition.engine", havingValue = "jvm")
+@RequiredArgsConstructor
+@Slf4j
+public class JvmGestureClassifier implements GestureClassifier {
+
+    private final ArtifactStore artifactStore;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final BlockingQueue<Scratch> scratchPool =
+            new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors() * 2);
+
+    @Value("${ai.recognition.artifact:gesture-classifier}")
+    private String artifactName;
+
+    @Value("${ai.recognition.confidence-threshold:0.7}")
+    private float confidenceThreshold;
+
+    @Value("${ai.recognition.simd:true}")
+    private boolean simdEnabled;
+
+    @Value("${ai.recognition.voting.early-exit.enabled:true}")
+    private boolean earlyExitEnabled;
+
+    @Value("${ai.recognition.voting.early-exit.min-frames:5}")
+    private int earlyExitMinFrames;
+
+    @Value("${ai.recognition.voting.early-exit.confidence:0.9}")
+    private float earlyExitConfidence;
+
+    private ArtifactHandle<MlpModel> modelHandle;
+    private FrameVoter.Policy policy;
+    private Counter earlyExits;
+
+    /**
+     * Loads the model at startup; a missing or broken artifact fails the startup
+     * rather than the first request.
+     */
+    @PostConstruct
+    public void init() {
+        var kernels = MlpKernels.create(simdEnabled);
+        policy = new FrameVoter.Policy(confidenceThreshold, earlyExitEnabled, earlyExitMinFrames, earlyExitConfidence);
+        modelHandle = artifactStore.register(artifactName, "json", artifact -> load(artifact, kernels));
+        earlyExits = Counter.builder("vsl.recognition.early_exit")
+                .description("Gesture windows decided before all frames were scored")
+                .register(meterRegistry);
+    }
+
+    private MlpModel load(MappedArtifact artifact, MlpKernels kernels) throws IOException {
+        // The JSON weights are small; parse them from the mapping into float arrays
+        var bytes = new byte[artifact.size()];
+        artifact.buffer().get(bytes);
+        var loaded = MlpModel.read(new ByteArrayInputStream(bytes), objectMapper, kernels);
+        if (loaded.inputSize() != LandmarkFeatures.FEATURES) {
+            throw new IllegalArgumentException("Gesture classifier expects " + loaded.inputSize()
+                    + " features, landmarks provide " + LandmarkFeatures.FEATURES);
+        }
+        log.info("Opened JVM gesture classifier {} version {} ({} classes, {} kernels)",
+                artifact.name(), artifact.version(), loaded.classCount(), loaded.kernelName());
+        return loaded;
+    }
+
+    @Override
+    public GesturePrediction classify(GestureInputDTO input) {
+        try (var lease = modelHandle.acquire()) {
+            return classify(input, lease.get());
+        }
+    }
+
+    private GesturePrediction classify(GestureInputDTO input, MlpModel model) {
+        var s = scratchPool.poll();
+        if (s == null || s.model != model) {
+            // Pool empty, or the model was swapped: buffers are sized per model
+            s = new Scratch(model, policy);
+        }
+        try {
+            return classify(input, model, s);
+        } finally {
+            scratchPool.offer(s);
+        }
+    }
+
+    private GesturePrediction classify(GestureInputDTO input, MlpModel model, Scratch s) {
+        var voter = s.voter;
+        voter.reset();
+
+        var frames = input.frames();
+        for (int f = 0; f < frames.size(); f++) {
+            var frame = frames.get(f);
+            if (frame == null || !LandmarkFeatures.extract(frame.landmarks(), s.features)) {
+                voter.skip();
+                continue;
+            }
+            var label = model.predict(s.features, s.workspace);
+            if (voter.offer(label, s.workspace.confidence(), frames.size() - f - 1)) {
+                break;
+            }
+        }
+
+        if (voter.winner() < 0) {
+            throw new IllegalArgumentException("No valid predictions (all frames below confidence threshold)");
+        }
+        if (voter.framesSeen() < frames.size()) {
+            earlyExits.increment();
+        }
+
+        return new GesturePrediction(
+                model.label(voter.winner()),
+                voter.winnerConfidence(),
+                voter.framesSeen(),
+                voter.validVotes()
+        );
+    }
+
+    /**
+     * Buffers of one classification: features of the current frame, forward-pass workspace and vote tallies.
+     */
+    private static final class Scratch {
+        private final MlpModel model;
+        private final float[] features;
+        private final MlpModel.Workspace workspace;
+        private final FrameVoter voter;
+
+        private Scratch(MlpModel model, FrameVoter.Policy policy) {
+            this.model = model;
+            features = new float[LandmarkFeatures.FEATURES];
+            workspace = model.newWorkspace();
+            voter = new FrameVoter(model.classCount(), policy);
+        }
+    }
+}
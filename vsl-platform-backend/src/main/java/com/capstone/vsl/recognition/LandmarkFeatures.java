@@ -0,0 +1,49 @@
+package com.capstone.vsl.recognition;
+
+import com.capstone.vsl.integration.dto.LandmarkDTO;
+
+import java.util.List;
+
+/**
+ * Landmark feature extraction, identical to preprocess_landmarks() in the Python service:
+ * the 21 MediaPipe hand landmarks relative to the wrist (landmark 0), flattened to x,y,z triples.
+ *
+ * The wrist subtraction is fused into unpacking the landmark DTOs; that copy is scalar by
+ * nature, and a separate vector pass would only add a second trip over the buffer. The
+ * vectorized work starts with the scaler, see {@link MlpKernels}.
+ */
+public final class LandmarkFeatures {
+
+    public static final int LANDMARKS = 21;
+    public static final int FEATURES = LANDMARKS * 3;
+
+    private LandmarkFeatures() {
+    }
+
+    /**
+     * Write the wrist-relative features of one frame into a caller-owned buffer.
+     *
+     * @param landmarks landmarks of one frame
+     * @param out       buffer of at least {@link #FEATURES} floats
+     * @return false if the frame does not have exactly 21 landmarks (frame is skipped)
+     */
+    public static boolean extract(List<LandmarkDTO> landmarks, float[] out) {
+        if (landmarks == null || landmarks.size() != LANDMARKS) {
+            return false;
+        }
+        var wrist = landmarks.get(0);
+        if (wrist == null) {
+            return false;
+        }
+        for (int i = 0; i < LANDMARKS; i++) {
+            var landmark = landmarks.get(i);
+            if (landmark == null) {
+                return false;
+            }
+            out[3 * i] = landmark.x() - wrist.x();
+            out[3 * i + 1] = landmark.y() - wrist.y();
+            out[3 * i + 2] = landmark.z() - wrist.z();
+        }
+        return true;
+    }
+}
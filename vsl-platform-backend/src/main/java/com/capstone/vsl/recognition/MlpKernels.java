@@ -0,0 +1,58 @@
+package com.capstone.vsl.recognition;
+
+/**
+ * Numeric kernels of the MLP forward pass.
+ *
+ * Two implementations with the same contract:
+ * - {@link ScalarKernels}: plain loops, always available
+ * - {@link VectorKernels}: jdk.incubator.vector SIMD, used when the JVM runs with
+ *   --add-modules jdk.incubator.vector
+ *
+ * Results may differ from the scalar kernels in the last bits (FMA and a different
+ * summation order); MlpKernelsEquivalenceTest bounds that difference.
+ */
+public interface MlpKernels {
+
+    /**
+     * out[i] = (x[i] - mean[i]) * invScale[i] for i < n (StandardScaler.transform)
+     */
+    void scale(float[] x, float[] mean, float[] invScale, float[] out, int n);
+
+    /**
+     * out[o] = b[o] + dot(w[o * inputs .. (o + 1) * inputs), x) for o < outputs
+     */
+    void dense(float[] w, float[] b, float[] x, float[] out, int inputs, int outputs);
+
+    /**
+     * v[i] = max(v[i], 0) for i < n
+     */
+    void relu(float[] v, int n);
+
+    /**
+     * @return index of the first maximum of v[0..n)
+     */
+    int argmax(float[] v, int n);
+
+    /**
+     * @return softmax(v)[index] over v[0..n), where v[index] is the maximum
+     */
+    float softmaxOfMax(float[] v, int n, int index);
+
+    String name();
+
+    /**
+     * Pick the fastest kernels this JVM supports.
+     *
+     * @param simdEnabled false forces the scalar kernels
+     */
+    static MlpKernels create(boolean simdEnabled) {
+        if (simdEnabled && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return new VectorKernels();
+            } catch (LinkageError e) {
+                // Module present but unusable on this platform
+            }
+        }
+        return new ScalarKernels();
+    }
+}
@@ -0,0 +1,221 @@
+package com.capstone.vsl.recognition;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * StandardScaler + MLPClassifier inference on primitive float arrays.
+ *
+ * Loaded from the JSON written by vsl-platform-ai-model/src/training/export_classifier.py.
+ * The model is immutable and shared by all threads; every thread needs its own
+ * {@link Workspace}, which holds all intermediate buffers so a prediction allocates nothing.
+ *
+ * Layer weights are stored row-major as [outputs][inputs], so each output neuron is one
+ * contiguous dot product. The arithmetic is delegated to {@link MlpKernels} (scalar or SIMD).
+ */
+public final class MlpModel {
+
+    public enum Activation {
+        IDENTITY, RELU, TANH, LOGISTIC, SOFTMAX;
+
+        static Activation of(String name) {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final String[] classes;
+    private final float[] mean;
+    private final float[] invScale;
+    private final int[] layerInputs;
+    private final int[] layerOutputs;
+    private final float[][] weights;
+    private final float[][] biases;
+    private final Activation hiddenActivation;
+    private final Activation outputActivation;
+    private final MlpKernels kernels;
+
+    private MlpModel(Artifact artifact, MlpKernels kernels) {
+        this.kernels = kernels;
+        if (artifact.layers() == null || artifact.layers().isEmpty()) {
+            throw new IllegalArgumentException("Invalid model artifact: no layers");
+        }
+        if (artifact.classes() == null || artifact.classes().size() < 2) {
+            throw new IllegalArgumentException("Invalid model artifact: at least two classes are required");
+        }
+
+        classes = artifact.classes().stream()
+                .map(label -> label.toLowerCase(Locale.ROOT))
+                .toArray(String[]::new);
+        hiddenActivation = Activation.of(artifact.hiddenActivation());
+        outputActivation = Activation.of(artifact.outputActivation());
+
+        var layerCount = artifact.layers().size();
+        layerInputs = new int[layerCount];
+        layerOutputs = new int[layerCount];
+        weights = new float[layerCount][];
+        biases = new float[layerCount][];
+        for (int l = 0; l < layerCount; l++) {
+            var layer = artifact.layers().get(l);
+            if (l > 0 && layer.inputs() != layerOutputs[l - 1]) {
+                throw new IllegalArgumentException("Invalid model artifact: layer " + l + " expects "
+                        + layer.inputs() + " inputs but the previous layer has " + layerOutputs[l - 1] + " outputs");
+            }
+            if (layer.weights().length != layer.inputs() * layer.outputs() || layer.bias().length != layer.outputs()) {
+                throw new IllegalArgumentException("Invalid model artifact: layer " + l + " has wrong weight or bias size");
+            }
+            layerInputs[l] = layer.inputs();
+            layerOutputs[l] = layer.outputs();
+            weights[l] = layer.weights();
+            biases[l] = layer.bias();
+        }
+
+        var outputs = layerOutputs[layerCount - 1];
+        var binary = outputActivation == Activation.LOGISTIC && outputs == 1 && classes.length == 2;
+        var multiclass = outputActivation == Activation.SOFTMAX && outputs == classes.length;
+        if (!binary && !multiclass) {
+            throw new IllegalArgumentException("Invalid model artifact: unsupported output layer ("
+                    + outputActivation + ", " + outputs + " outputs, " + classes.length + " classes)");
+        }
+
+        var scaler = artifact.scaler();
+        if (scaler == null || scaler.mean().length != layerInputs[0] || scaler.scale().length != layerInputs[0]) {
+            throw new IllegalArgumentException("Invalid model artifact: scaler does not match the input layer");
+        }
+        mean = scaler.mean();
+        invScale = new float[scaler.scale().length];
+        for (int i = 0; i < invScale.length; i++) {
+            invScale[i] = 1.0f / scaler.scale()[i];
+        }
+    }
+
+    /**
+     * Read a model exported by export_classifier.py.
+     *
+     * @param kernels numeric kernels for the forward pass, see {@link MlpKernels#create(boolean)}
+     * @throws IllegalArgumentException if the artifact is inconsistent
+     */
+    public static MlpModel read(InputStream in, ObjectMapper objectMapper, MlpKernels kernels) throws IOException {
+        return new MlpModel(objectMapper.readValue(in, Artifact.class), kernels);
+    }
+
+    /**
+     * Allocate the buffers one thread needs to run {@link #predict}.
+     */
+    public Workspace newWorkspace() {
+        return new Workspace(this);
+    }
+
+    /**
+     * Scale the features, run the forward pass and pick the most probable class.
+     * The probability of the winning class is left in {@link Workspace#confidence()}.
+     *
+     * @param features  raw (unscaled) features, at least {@link #inputSize()} floats
+     * @param workspace buffers of the calling thread
+     * @return index of the predicted class, see {@link #label(int)}
+     */
+    public int predict(float[] features, Workspace workspace) {
+        var x = workspace.scaled;
+        kernels.scale(features, mean, invScale, x, x.length);
+
+        var last = weights.length - 1;
+        for (int l = 0; l <= last; l++) {
+            var out = workspace.activations[l];
+            kernels.dense(weights[l], biases[l], x, out, layerInputs[l], layerOutputs[l]);
+            if (l < last) {
+                activate(out, hiddenActivation);
+            }
+            x = out;
+        }
+
+        if (outputActivation == Activation.LOGISTIC) {
+            var p = (float) (1.0 / (1.0 + Math.exp(-x[0])));
+            workspace.confidence = Math.max(p, 1.0f - p);
+            return p >= 0.5f ? 1 : 0;
+        }
+
+        var best = kernels.argmax(x, x.length);
+        workspace.confidence = kernels.softmaxOfMax(x, x.length, best);
+        return best;
+    }
+
+    private void activate(float[] v, Activation activation) {
+        switch (activation) {
+            case RELU -> kernels.relu(v, v.length);
+            case TANH -> {
+                for (int i = 0; i < v.length; i++) {
+                    v[i] = (float) Math.tanh(v[i]);
+                }
+            }
+            case LOGISTIC -> {
+                for (int i = 0; i < v.length; i++) {
+                    v[i] = (float) (1.0 / (1.0 + Math.exp(-v[i])));
+                }
+            }
+            case IDENTITY, SOFTMAX -> {
+                // no-op (softmax is only valid on the output layer)
+            }
+        }
+    }
+
+    public String kernelName() {
+        return kernels.name();
+    }
+
+    public int inputSize() {
+        return layerInputs[0];
+    }
+
+    public int classCount() {
+        return classes.length;
+    }
+
+    public String label(int classIndex) {
+        return classes[classIndex];
+    }
+
+    /**
+     * Per-thread intermediate buffers for {@link #predict}. Not thread-safe.
+     */
+    public static final class Workspace {
+        private final float[] scaled;
+        private final float[][] activations;
+        private float confidence;
+
+        private Workspace(MlpModel model) {
+            scaled = new float[model.layerInputs[0]];
+            activations = new float[model.layerOutputs.length][];
+            for (int l = 0; l < activations.length; l++) {
+                activations[l] = new float[model.layerOutputs[l]];
+            }
+        }
+
+        /**
+         * Probability of the class returned by the last {@link #predict} call.
+         */
+        public float confidence() {
+            return confidence;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Artifact(
+            List<String> classes,
+            Scaler scaler,
+            @JsonProperty("hidden_activation") String hiddenActivation,
+            @JsonProperty("output_activation") String outputActivation,
+            List<Layer> layers
+    ) {
+    }
+
+    record Scaler(float[] mean, float[] scale) {
+    }
+
+    record Layer(int inputs, int outputs, float[] weights, float[] bias) {
+    }
+}
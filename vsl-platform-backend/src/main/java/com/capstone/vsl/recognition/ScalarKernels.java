@@ -0,0 +1,61 @@
+package com.capstone.vsl.recognition;
+
+/**
+ * Plain-loop MLP kernels; the reference for {@link VectorKernels} and the fallback
+ * when the Vector API module is not available.
+ */
+public final class ScalarKernels implements MlpKernels {
+
+    @Override
+    public void scale(float[] x, float[] mean, float[] invScale, float[] out, int n) {
+        for (int i = 0; i < n; i++) {
+            out[i] = (x[i] - mean[i]) * invScale[i];
+        }
+    }
+
+    @Override
+    public void dense(float[] w, float[] b, float[] x, float[] out, int inputs, int outputs) {
+        for (int o = 0; o < outputs; o++) {
+            var row = o * inputs;
+            var acc = 0.0f;
+            for (int i = 0; i < inputs; i++) {
+                acc += w[row + i] * x[i];
+            }
+            out[o] = b[o] + acc;
+        }
+    }
+
+    @Override
+    public void relu(float[] v, int n) {
+        for (int i = 0; i < n; i++) {
+            v[i] = Math.max(v[i], 0.0f);
+        }
+    }
+
+    @Override
+    public int argmax(float[] v, int n) {
+        var best = 0;
+        for (int i = 1; i < n; i++) {
+            if (v[i] > v[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public float softmaxOfMax(float[] v, int n, int index) {
+        // exp(0) / sum(exp(z - max)), stable for large logits
+        var max = v[index];
+        var sum = 0.0f;
+        for (int i = 0; i < n; i++) {
+            sum += (float) Math.exp(v[i] - max);
+        }
+        return 1.0f / sum;
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
@@ -0,0 +1,133 @@
+package com.capstone.vsl.recognition;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD MLP kernels on jdk.incubator.vector (requires --add-modules jdk.incubator.vector).
+ * Only instantiated through {@link MlpKernels#create(boolean)}, which checks that the
+ * module is present before this class is loaded.
+ *
+ * Every loop handles the full vectors first and finishes the tail with scalar code,
+ * so any layer width works.
+ */
+public final class VectorKernels implements MlpKernels {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public void scale(float[] x, float[] mean, float[] invScale, float[] out, int n) {
+        var i = 0;
+        var upper = SPECIES.loopBound(n);
+        for (; i < upper; i += SPECIES.length()) {
+            FloatVector.fromArray(SPECIES, x, i)
+                    .sub(FloatVector.fromArray(SPECIES, mean, i))
+                    .mul(FloatVector.fromArray(SPECIES, invScale, i))
+                    .intoArray(out, i);
+        }
+        for (; i < n; i++) {
+            out[i] = (x[i] - mean[i]) * invScale[i];
+        }
+    }
+
+    @Override
+    public void dense(float[] w, float[] b, float[] x, float[] out, int inputs, int outputs) {
+        var upper = SPECIES.loopBound(inputs);
+        var o = 0;
+        // Two rows per pass so every load of x feeds two FMAs
+        for (; o + 1 < outputs; o += 2) {
+            var row0 = o * inputs;
+            var row1 = row0 + inputs;
+            var acc0 = FloatVector.zero(SPECIES);
+            var acc1 = FloatVector.zero(SPECIES);
+            var i = 0;
+            for (; i < upper; i += SPECIES.length()) {
+                var xv = FloatVector.fromArray(SPECIES, x, i);
+                acc0 = FloatVector.fromArray(SPECIES, w, row0 + i).fma(xv, acc0);
+                acc1 = FloatVector.fromArray(SPECIES, w, row1 + i).fma(xv, acc1);
+            }
+            var sum0 = acc0.reduceLanes(VectorOperators.ADD);
+            var sum1 = acc1.reduceLanes(VectorOperators.ADD);
+            for (; i < inputs; i++) {
+                sum0 += w[row0 + i] * x[i];
+                sum1 += w[row1 + i] * x[i];
+            }
+            out[o] = b[o] + sum0;
+            out[o + 1] = b[o + 1] + sum1;
+        }
+        for (; o < outputs; o++) {
+            var row = o * inputs;
+            var acc = FloatVector.zero(SPECIES);
+            var i = 0;
+            for (; i < upper; i += SPECIES.length()) {
+                acc = FloatVector.fromArray(SPECIES, w, row + i).fma(FloatVector.fromArray(SPECIES, x, i), acc);
+            }
+            var sum = acc.reduceLanes(VectorOperators.ADD);
+            for (; i < inputs; i++) {
+                sum += w[row + i] * x[i];
+            }
+            out[o] = b[o] + sum;
+        }
+    }
+
+    @Override
+    public void relu(float[] v, int n) {
+        var i = 0;
+        var upper = SPECIES.loopBound(n);
+        for (; i < upper; i += SPECIES.length()) {
+            FloatVector.fromArray(SPECIES, v, i).max(0.0f).intoArray(v, i);
+        }
+        for (; i < n; i++) {
+            v[i] = Math.max(v[i], 0.0f);
+        }
+    }
+
+    @Override
+    public int argmax(float[] v, int n) {
+        var i = 0;
+        var upper = SPECIES.loopBound(n);
+        var max = Float.NEGATIVE_INFINITY;
+        if (upper > 0) {
+            var acc = FloatVector.broadcast(SPECIES, Float.NEGATIVE_INFINITY);
+            for (; i < upper; i += SPECIES.length()) {
+                acc = acc.max(FloatVector.fromArray(SPECIES, v, i));
+            }
+            max = acc.reduceLanes(VectorOperators.MAX);
+        }
+        for (; i < n; i++) {
+            max = Math.max(max, v[i]);
+        }
+        // First index holding the maximum, same tie-break as the scalar kernel
+        for (int j = 0; j < n; j++) {
+            if (v[j] == max) {
+                return j;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public float softmaxOfMax(float[] v, int n, int index) {
+        var max = v[index];
+        var i = 0;
+        var upper = SPECIES.loopBound(n);
+        var sum = 0.0f;
+        if (upper > 0) {
+            var acc = FloatVector.zero(SPECIES);
+            for (; i < upper; i += SPECIES.length()) {
+                acc = acc.add(FloatVector.fromArray(SPECIES, v, i).sub(max).lanewise(VectorOperators.EXP));
+            }
+            sum = acc.reduceLanes(VectorOperators.ADD);
+        }
+        for (; i < n; i++) {
+            sum += (float) Math.exp(v[i] - max);
+        }
+        return 1.0f / sum;
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + SPECIES.vectorBitSize();
+    }
+}
@@ -2,9 +2,11 @@ package com.capstone.vsl.repository;
 
 import com.capstone.vsl.entity.Dictionary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -40,5 +42,15 @@ public interface DictionaryRepository extends JpaRepository<Dictionary, Long> {
      */
     @Query(value = "SELECT * FROM dictionary ORDER BY id DESC LIMIT :limit", nativeQuery = true)
     List<Dictionary> findLatestWords(@Param("limit") int limit);
-}
 
+    /**
+     * Mark an entry as indexed in Elasticsearch, by id (no entity load, no merge of a stale copy)
+     *
+     * @param id Dictionary ID
+     * @return 1 if updated, 0 if the entry was deleted meanwhile
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Dictionary d SET d.elasticSynced = true WHERE d.id = :id")
+    int markElasticSynced(@Param("id") Long id);
+}
@@ -1,8 +1,13 @@
 package com.capstone.vsl.repository;
 
+import com.capstone.vsl.dto.ReportDTO;
 import com.capstone.vsl.entity.Report;
 import com.capstone.vsl.entity.ReportStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,5 +18,30 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
     List<Report> findByStatus(ReportStatus status);
     
     List<Report> findByUserOrderByCreatedAtDesc(com.capstone.vsl.entity.User user);
-}
 
+    /**
+     * One page of reports with the given status (newest first) as DTOs.
+     * The reported word is joined, so no lazy Dictionary load per row.
+     */
+    @Query(value = """
+            SELECT new com.capstone.vsl.dto.ReportDTO(
+                r.id, d.id, d.word, r.reason, r.status, r.createdAt, r.updatedAt)
+            FROM Report r JOIN r.dictionary d
+            WHERE r.status = :status
+            ORDER BY r.id DESC
+            """,
+            countQuery = "SELECT COUNT(r) FROM Report r WHERE r.status = :status")
+    Page<ReportDTO> findDtoPageByStatus(@Param("status") ReportStatus status, Pageable pageable);
+
+    /**
+     * One page of all reports (newest first) as DTOs.
+     */
+    @Query(value = """
+            SELECT new com.capstone.vsl.dto.ReportDTO(
+                r.id, d.id, d.word, r.reason, r.status, r.createdAt, r.updatedAt)
+            FROM Report r JOIN r.dictionary d
+            ORDER BY r.id DESC
+            """,
+            countQuery = "SELECT COUNT(r) FROM Report r")
+    Page<ReportDTO> findDtoPage(Pageable pageable);
+}
@@ -1,8 +1,12 @@
 package com.capstone.vsl.repository;
 
+import com.capstone.vsl.dto.SearchHistoryDTO;
 import com.capstone.vsl.entity.SearchHistory;
-import com.capstone.vsl.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,10 +14,65 @@ import java.util.List;
 @Repository
 public interface SearchHistoryRepository extends JpaRepository<SearchHistory, Long> {
 
-    List<SearchHistory> findByUserOrderBySearchedAtDesc(User user);
+    /**
+     * One page of a user's history, newest first, as DTOs in a single query
+     * (the word is joined, no lazy Dictionary load per row).
+     * Keyset pagination: pass the id of the last row of the previous page as cursor
+     * (Long.MAX_VALUE for the first page). Served by idx_search_history_user_id_id.
+     */
+    @Query("""
+            SELECT new com.capstone.vsl.dto.SearchHistoryDTO(h.id, d.id, d.word, h.searchQuery, h.searchedAt)
+            FROM SearchHistory h JOIN h.dictionary d
+            WHERE h.user.id = :userId AND h.id < :cursor
+            ORDER BY h.id DESC
+            """)
+    List<SearchHistoryDTO> findPageByUserId(@Param("userId") Long userId,
+                                            @Param("cursor") Long cursor,
+                                            Pageable pageable);
 
-    List<SearchHistory> findByUserOrderBySearchedAtDesc(User user, org.springframework.data.domain.Pageable pageable);
+    @Modifying
+    @Query("DELETE FROM SearchHistory h WHERE h.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
 
-    void deleteByUser(User user);
-}
+    /**
+     * Users with more than maxPerUser rows (one aggregate over idx_search_history_user_id_id).
+     */
+    @Query(value = """
+            SELECT user_id FROM search_history
+            GROUP BY user_id
+            HAVING count(*) > :maxPerUser
+            """, nativeQuery = true)
+    List<Long> findUserIdsBeyondRetention(@Param("maxPerUser") int maxPerUser);
+
+    /**
+     * Id of the newest row of the user that is beyond the newest maxPerUser rows;
+     * this row and all older ones are out of retention.
+     *
+     * @return the cut-off id, or null if the user has at most maxPerUser rows
+     */
+    @Query(value = """
+            SELECT id FROM search_history
+            WHERE user_id = :userId
+            ORDER BY id DESC
+            LIMIT 1 OFFSET :maxPerUser
+            """, nativeQuery = true)
+    Long findRetentionCutoff(@Param("userId") Long userId, @Param("maxPerUser") int maxPerUser);
 
+    /**
+     * Delete up to batchSize of the user's rows with id <= cutoff, oldest first.
+     *
+     * @return number of deleted rows
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM search_history WHERE id IN (
+                SELECT id FROM search_history
+                WHERE user_id = :userId AND id <= :cutoff
+                ORDER BY id
+                LIMIT :batchSize
+            )
+            """, nativeQuery = true)
+    int deleteUpToCutoff(@Param("userId") Long userId,
+                         @Param("cutoff") Long cutoff,
+                         @Param("batchSize") int batchSize);
+}
@@ -1,20 +1,49 @@
 package com.capstone.vsl.repository;
 
-import com.capstone.vsl.entity.Dictionary;
-import com.capstone.vsl.entity.User;
 import com.capstone.vsl.entity.UserFavorite;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface UserFavoriteRepository extends JpaRepository<UserFavorite, Long> {
 
-    boolean existsByUserAndDictionary(User user, Dictionary dictionary);
+    @EntityGraph(attributePaths = "dictionary")
+    Page<UserFavorite> findByUserIdOrderBySavedAtDesc(Long userId, Pageable pageable);
 
-    void deleteByUserAndDictionary(User user, Dictionary dictionary);
+    /**
+     * Add a favorite by ids; relies on the unique (user_id, dictionary_id) constraint.
+     *
+     * @return 1 if inserted, 0 if it already existed
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_favorites (user_id, dictionary_id, saved_at)
+            VALUES (:userId, :dictionaryId, now())
+            ON CONFLICT (user_id, dictionary_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("dictionaryId") Long dictionaryId);
 
-    Page<UserFavorite> findByUserOrderBySavedAtDesc(User user, Pageable pageable);
-}
+    /**
+     * Remove a favorite by ids without loading it.
+     *
+     * @return number of deleted rows (0 or 1)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM user_favorites WHERE user_id = :userId AND dictionary_id = :dictionaryId",
+            nativeQuery = true)
+    int deleteByIds(@Param("userId") Long userId, @Param("dictionaryId") Long dictionaryId);
 
+    /**
+     * All dictionary ids favorited by the user (one narrow index scan).
+     */
+    @Query("SELECT f.dictionary.id FROM UserFavorite f WHERE f.user.id = :userId")
+    List<Long> findDictionaryIdsByUserId(@Param("userId") Long userId);
+}
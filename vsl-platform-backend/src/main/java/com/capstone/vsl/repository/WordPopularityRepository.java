@@ -0,0 +1,9 @@
+package com.capstone.vsl.repository;
+
+import com.capstone.vsl.entity.WordPopularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WordPopularityRepository extends JpaRepository<WordPopularity, Long> {
+}
@@ -0,0 +1,22 @@
+package com.capstone.vsl.security;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default backend: buckets live only in this JVM.
+ * With several backend nodes every node enforces the limit on its own.
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.backend", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitBackend implements RateLimitBackend {
+
+    @Override
+    public Bucket createBucket(String key, Bandwidth bandwidth) {
+        return Bucket.builder()
+                .addLimit(bandwidth)
+                .build();
+    }
+}
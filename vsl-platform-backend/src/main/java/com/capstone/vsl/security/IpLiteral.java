@@ -0,0 +1,148 @@
+package com.capstone.vsl.security;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * Strict IP literal parsing for client-supplied addresses (X-Forwarded-For hops).
+ *
+ * InetAddress.getByName resolves anything that is not a literal through DNS, and its
+ * IPv4 parser accepts short forms like "127.1"; neither may happen on a request thread
+ * for a header the client controls. Only a dotted quad (four decimal octets) or an IPv6
+ * address (optionally with a zone id or an embedded dotted quad) is accepted, and the
+ * address is built from the parsed bytes.
+ */
+final class IpLiteral {
+
+    private IpLiteral() {
+    }
+
+    /**
+     * @return the address, or null if the text is not a strict IP literal
+     */
+    static InetAddress parse(String text) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        var bytes = text.indexOf(':') >= 0 ? parseIpv6(text) : parseIpv4(text);
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            // Raw bytes: never a lookup
+            return InetAddress.getByAddress(bytes);
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Loopback, IPv4 private ranges and IPv6 unique local addresses (fc00::/7).
+     */
+    static boolean isInternal(InetAddress address) {
+        return address.isLoopbackAddress()
+                || address.isSiteLocalAddress()
+                || (address instanceof Inet6Address && (address.getAddress()[0] & 0xfe) == 0xfc);
+    }
+
+    private static byte[] parseIpv4(String text) {
+        var octets = text.split("\\.", -1);
+        if (octets.length != 4) {
+            return null;
+        }
+        var bytes = new byte[4];
+        for (int i = 0; i < 4; i++) {
+            var octet = octets[i];
+            if (octet.isEmpty() || octet.length() > 3) {
+                return null;
+            }
+            var value = 0;
+            for (int j = 0; j < octet.length(); j++) {
+                var c = octet.charAt(j);
+                if (c < '0' || c > '9') {
+                    return null;
+                }
+                value = value * 10 + (c - '0');
+            }
+            if (value > 255) {
+                return null;
+            }
+            bytes[i] = (byte) value;
+        }
+        return bytes;
+    }
+
+    private static byte[] parseIpv6(String text) {
+        var zone = text.indexOf('%');
+        var address = zone >= 0 ? text.substring(0, zone) : text;
+        var gap = address.indexOf("::");
+        if (gap >= 0 && address.indexOf("::", gap + 1) >= 0) {
+            return null;
+        }
+
+        var groups = new int[8];
+        int headCount;
+        int tailCount = 0;
+        var tail = new int[8];
+        if (gap < 0) {
+            headCount = parseGroups(address, groups, true);
+            if (headCount != 8) {
+                return null;
+            }
+        } else {
+            headCount = parseGroups(address.substring(0, gap), groups, false);
+            tailCount = parseGroups(address.substring(gap + 2), tail, true);
+            // "::" stands for at least one zero group
+            if (headCount < 0 || tailCount < 0 || headCount + tailCount > 7) {
+                return null;
+            }
+            System.arraycopy(tail, 0, groups, 8 - tailCount, tailCount);
+        }
+
+        var bytes = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            bytes[2 * i] = (byte) (groups[i] >>> 8);
+            bytes[2 * i + 1] = (byte) groups[i];
+        }
+        return bytes;
+    }
+
+    /**
+     * Parse colon-separated 16-bit hex groups; the last one may be a dotted quad (two groups).
+     *
+     * @return number of groups written to out, or -1 if invalid
+     */
+    private static int parseGroups(String part, int[] out, boolean allowIpv4Tail) {
+        if (part.isEmpty()) {
+            return 0;
+        }
+        var tokens = part.split(":", -1);
+        var count = 0;
+        for (int i = 0; i < tokens.length; i++) {
+            var token = tokens[i];
+            if (i == tokens.length - 1 && allowIpv4Tail && token.indexOf('.') >= 0) {
+                var ipv4 = parseIpv4(token);
+                if (ipv4 == null || count + 2 > out.length) {
+                    return -1;
+                }
+                out[count++] = (ipv4[0] & 0xff) << 8 | (ipv4[1] & 0xff);
+                out[count++] = (ipv4[2] & 0xff) << 8 | (ipv4[3] & 0xff);
+                continue;
+            }
+            if (token.isEmpty() || token.length() > 4 || count == out.length) {
+                return -1;
+            }
+            var value = 0;
+            for (int j = 0; j < token.length(); j++) {
+                var digit = Character.digit(token.charAt(j), 16);
+                if (digit < 0) {
+                    return -1;
+                }
+                value = value << 4 | digit;
+            }
+            out[count++] = value;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,124 @@
+package com.capstone.vsl.security;
+
+import com.capstone.vsl.config.RateLimitConfig;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.jdbc.BucketTableSettings;
+import io.github.bucket4j.distributed.jdbc.SQLProxyConfiguration;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimization;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import io.github.bucket4j.postgresql.PostgreSQLadvisoryLockBasedProxyManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Cluster-wide backend: bucket state is shared through PostgreSQL
+ * (Bucket4j JDBC module, advisory-lock based), so the limit holds across all
+ * backend nodes behind the load balancer.
+ *
+ * Delayed synchronisation: each node consumes from its last-known bucket state and writes
+ * the consumed tokens to the database after rate-limit.jdbc.sync-tokens tokens or
+ * rate-limit.jdbc.sync-interval, so the shared store is not hit on every request.
+ * The price is a possible overshoot of sync-tokens per node.
+ *
+ * Idle buckets are deleted like in the in-memory store: rows not written for
+ * rate-limit.idle-timeout are removed by a scheduled job on every node (rows being
+ * updated are skipped). A deleted bucket comes back full, which is what it would have
+ * refilled to anyway.
+ *
+ * The table is created by the db/rate-limit-bucket.sql schema script, see {@link RateLimitConfig}.
+ *
+ * Local testing: start the docker-compose PostgreSQL and run with rate-limit.backend=jdbc,
+ * or run JdbcRateLimitBackendTest (Testcontainers, needs Docker).
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.backend", havingValue = "jdbc")
+@Slf4j
+public class JdbcRateLimitBackend implements RateLimitBackend {
+
+    private static final String TABLE_NAME = "rate_limit_bucket";
+    private static final int CLEANUP_BATCH = 5000;
+
+    /**
+     * SKIP LOCKED and the advisory try-lock (Bucket4j locks on the id) leave buckets that
+     * are being read or written right now alone.
+     */
+    private static final String DELETE_IDLE_SQL = """
+            DELETE FROM rate_limit_bucket
+            WHERE id IN (SELECT id FROM rate_limit_bucket
+                         WHERE updated_at < now() - make_interval(secs => ?)
+                         LIMIT ?
+                         FOR UPDATE SKIP LOCKED)
+              AND pg_try_advisory_xact_lock(id)
+            """;
+
+    private final ProxyManager<Long> proxyManager;
+    private final Optimization optimization;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration idleTimeout;
+
+    public JdbcRateLimitBackend(DataSource dataSource,
+                                @Value("${rate-limit.jdbc.sync-tokens:5}") long syncTokens,
+                                @Value("${rate-limit.jdbc.sync-interval:1s}") Duration syncInterval,
+                                @Value("${rate-limit.idle-timeout:10m}") Duration idleTimeout) {
+        var configuration = SQLProxyConfiguration.builder()
+                .withTableSettings(BucketTableSettings.customSettings(TABLE_NAME, "id", "state"))
+                .build(dataSource);
+        this.proxyManager = new PostgreSQLadvisoryLockBasedProxyManager<>(configuration);
+        this.optimization = Optimizations.delaying(new DelayParameters(syncTokens, syncInterval));
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.idleTimeout = idleTimeout;
+
+        log.info("Rate limiting uses the PostgreSQL bucket backend (sync every {} tokens / {}, idle timeout {})",
+                syncTokens, syncInterval, idleTimeout);
+    }
+
+    @Override
+    public Bucket createBucket(String key, Bandwidth bandwidth) {
+        var configuration = BucketConfiguration.builder()
+                .addLimit(bandwidth)
+                .build();
+        return proxyManager.builder()
+                .withOptimization(optimization)
+                .build(toPrimaryKey(key), () -> configuration);
+    }
+
+    /**
+     * Delete buckets idle for longer than rate-limit.idle-timeout, in batches.
+     *
+     * @return number of deleted buckets
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.jdbc.cleanup-interval-ms:60000}")
+    public int deleteIdleBuckets() {
+        var idleSeconds = idleTimeout.toMillis() / 1000.0;
+        var total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(DELETE_IDLE_SQL, idleSeconds, CLEANUP_BATCH);
+            total += deleted;
+        } while (deleted == CLEANUP_BATCH);
+        if (total > 0) {
+            log.debug("Deleted {} idle rate-limit buckets", total);
+        }
+        return total;
+    }
+
+    /**
+     * Bucket4j's JDBC tables use BIGINT keys; map the string key to a stable 64-bit hash.
+     */
+    private long toPrimaryKey(String key) {
+        return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).getMostSignificantBits();
+    }
+}
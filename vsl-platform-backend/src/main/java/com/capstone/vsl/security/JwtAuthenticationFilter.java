@@ -1,6 +1,10 @@
 package com.capstone.vsl.security;
 
+import com.capstone.vsl.util.JwtClaims;
 import com.capstone.vsl.util.JwtUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,6 +21,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT Authentication Filter (Middleware)
@@ -24,8 +29,9 @@ import java.io.IOException;
  * This filter intercepts every HTTP request and performs the following:
  * 1. Checks for "Authorization" header with Bearer token
  * 2. Extracts the JWT token from the header
- * 3. Validates the token (signature and expiration)
- * 4. If valid, loads user details and sets authentication in SecurityContext
+ * 3. Validates the token (signature and expiration), skipped for tokens already in the verified-token cache
+ * 4. If valid, builds the user principal from the token claims and sets authentication in SecurityContext
+ *    (the database is only consulted for legacy tokens or users changed after the token was issued)
  * 5. Allows the request to proceed to the controller
  * 
  * This is the middleware that protects the API endpoints.
@@ -37,21 +43,37 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtils jwtUtils;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final MeterRegistry meterRegistry;
+
+    private Timer authenticationTimer;
+
+    @PostConstruct
+    public void initMetrics() {
+        authenticationTimer = Timer.builder("vsl.security.jwt.filter")
+                .description("Time spent authenticating the Bearer token of a request")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
                                     HttpServletResponse response, 
                                     FilterChain filterChain) throws ServletException, IOException {
+        var startNanos = System.nanoTime();
         try {
             // Extract JWT token from Authorization header
             var jwt = parseJwt(request);
             
-            if (jwt != null && jwtUtils.validateToken(jwt)) {
-                // Extract username from token
-                var username = jwtUtils.getUsernameFromToken(jwt);
-                
-                // Load user details from database
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            // Validate the token and extract its claims (cached for repeat tokens)
+            var claims = jwt != null ? verifyToken(jwt) : null;
+
+            if (claims != null) {
+                var username = claims.username();
+
+                // Build user details from claims (database only for legacy/stale tokens)
+                UserDetails userDetails = resolveUserDetails(claims);
                 
                 // Create authentication token
                 var authentication = new UsernamePasswordAuthenticationToken(
@@ -68,12 +90,60 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
         } catch (Exception e) {
             log.error("Cannot set user authentication: {}", e.getMessage());
+        } finally {
+            authenticationTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
         }
 
         // Continue with the filter chain
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Returns the claims of a valid token, consulting the verified-token cache first.
+     * Only tokens that pass verification are cached.
+     *
+     * @param jwt raw JWT token
+     * @return claims of the token, or null if it is invalid or expired
+     */
+    private JwtClaims verifyToken(String jwt) {
+        var cached = verifiedTokenCache.get(jwt);
+        if (cached != null) {
+            return cached;
+        }
+        var claims = jwtUtils.parseToken(jwt).orElse(null);
+        if (claims != null) {
+            verifiedTokenCache.put(jwt, claims);
+        }
+        return claims;
+    }
+
+    /**
+     * Resolves the user details for a validated token.
+     * Tokens carrying id and role claims are trusted as-is unless the user was
+     * changed by an admin after the token was issued; in that case, and for
+     * tokens without those claims, the user is loaded from the database.
+     *
+     * @param claims Claims of the validated token
+     * @return UserDetails for the SecurityContext
+     */
+    private UserDetails resolveUserDetails(JwtClaims claims) {
+        var username = claims.username();
+        if (!claims.hasPrincipalClaims()) {
+            return userDetailsService.loadUserByUsername(username);
+        }
+
+        if (!tokenRevocationService.isStale(claims.userId(), claims.issuedAt())) {
+            return claims.toPrincipal();
+        }
+
+        // Stale token: re-read role from the database and make sure the account is still the same one
+        var userDetails = userDetailsService.loadUserByUsername(username);
+        if (userDetails instanceof UserPrincipal loaded && !loaded.getId().equals(claims.userId())) {
+            throw new IllegalStateException("Token user id does not match current account: " + username);
+        }
+        return userDetails;
+    }
+
     /**
      * Parses JWT token from Authorization header.
      * Expected format: "Bearer <token>"
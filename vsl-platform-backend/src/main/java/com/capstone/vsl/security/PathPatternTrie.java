@@ -0,0 +1,105 @@
+package com.capstone.vsl.security;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Segment trie for request path patterns, built once at startup.
+ *
+ * Supported pattern segments:
+ * - literal ("api", "predict")
+ * - "*"  matches exactly one segment
+ * - "**" matches the rest of the path (zero or more segments); only valid as last segment
+ *
+ * Lookup walks the path once per branch and returns values ordered from the most
+ * specific match (literal) to the least specific (trailing "**").
+ *
+ * Not thread-safe for writes; insert everything before publishing the trie.
+ */
+final class PathPatternTrie<T> {
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * Register a value for a path pattern.
+     *
+     * @throws IllegalArgumentException if "**" is not the last segment
+     */
+    void insert(String pattern, T value) {
+        var node = root;
+        var segments = pattern.split("/");
+        for (int i = 0; i < segments.length; i++) {
+            var segment = segments[i];
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if ("**".equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' must be the last segment: " + pattern);
+                }
+                node.restValues.add(value);
+                return;
+            }
+            node = "*".equals(segment)
+                    ? node.wildcardChild()
+                    : node.literals.computeIfAbsent(segment, ignored -> new Node<>());
+        }
+        node.values.add(value);
+    }
+
+    /**
+     * Find all values whose pattern matches the path.
+     *
+     * @param path request path (without query string)
+     * @return matching values, most specific first; empty if none
+     */
+    List<T> match(String path) {
+        var result = new ArrayList<T>(2);
+        collect(root, path, 0, result);
+        return result;
+    }
+
+    private void collect(Node<T> node, String path, int from, List<T> result) {
+        // skip separators
+        while (from < path.length() && path.charAt(from) == '/') {
+            from++;
+        }
+        if (from >= path.length()) {
+            result.addAll(node.values);
+            result.addAll(node.restValues);
+            return;
+        }
+
+        var end = path.indexOf('/', from);
+        if (end < 0) {
+            end = path.length();
+        }
+
+        if (!node.literals.isEmpty()) {
+            var child = node.literals.get(path.substring(from, end));
+            if (child != null) {
+                collect(child, path, end, result);
+            }
+        }
+        if (node.wildcard != null) {
+            collect(node.wildcard, path, end, result);
+        }
+        result.addAll(node.restValues);
+    }
+
+    private static final class Node<T> {
+        private final Map<String, Node<T>> literals = new HashMap<>();
+        private final List<T> values = new ArrayList<>(1);
+        private final List<T> restValues = new ArrayList<>(1);
+        private Node<T> wildcard;
+
+        private Node<T> wildcardChild() {
+            if (wildcard == null) {
+                wildcard = new Node<>();
+            }
+            return wildcard;
+        }
+    }
+}
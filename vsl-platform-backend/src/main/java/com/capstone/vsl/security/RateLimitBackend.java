@@ -0,0 +1,23 @@
+package com.capstone.vsl.security;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+
+/**
+ * Storage backend for rate-limit buckets.
+ * Selected with rate-limit.backend (memory | jdbc).
+ *
+ * Buckets returned by a backend are cached per key by {@link RateLimitBucketStore},
+ * so createBucket is only called the first time a key is seen (or after eviction).
+ */
+public interface RateLimitBackend {
+
+    /**
+     * Create (or attach to) the bucket for the given key.
+     *
+     * @param key       unique key (usually prefix + client identity)
+     * @param bandwidth limit to apply if the bucket does not exist yet
+     * @return bucket to consume from
+     */
+    Bucket createBucket(String key, Bandwidth bandwidth);
+}
@@ -0,0 +1,139 @@
+package com.capstone.vsl.security;
+
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, self-evicting store for rate-limit buckets.
+ *
+ * - Buckets are spread over a fixed number of stripes (independent ConcurrentHashMaps)
+ * - A scheduled sweeper visits one stripe per run and drops buckets idle for longer
+ *   than rate-limit.idle-timeout, so lookups never wait for cleanup
+ * - Once rate-limit.max-buckets is reached, new keys share one overflow bucket per key
+ *   prefix (e.g. "AI:") instead of growing the map; a flood of spoofed or scanning
+ *   clients is then throttled as a whole
+ *
+ * The idle timeout must be longer than the time any bandwidth needs to refill completely,
+ * otherwise evicting and recreating a bucket would hand out extra tokens.
+ *
+ * Metrics: vsl.ratelimit.buckets, vsl.ratelimit.evictions, vsl.ratelimit.overflow
+ */
+@Component
+@Slf4j
+public class RateLimitBucketStore {
+
+    private static final int STRIPES = 16;
+
+    private final List<Map<String, Entry>> stripes = new ArrayList<>(STRIPES);
+    private final Map<String, Bucket> overflowBuckets = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger nextStripe = new AtomicInteger();
+    private final LongAdder evictions = new LongAdder();
+    private final Counter overflowCounter;
+
+    @Value("${rate-limit.max-buckets:100000}")
+    private int maxBuckets;
+
+    @Value("${rate-limit.idle-timeout:10m}")
+    private Duration idleTimeout;
+
+    public RateLimitBucketStore(MeterRegistry meterRegistry) {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes.add(new ConcurrentHashMap<>());
+        }
+        Gauge.builder("vsl.ratelimit.buckets", size, AtomicInteger::get)
+                .description("Live rate-limit buckets")
+                .register(meterRegistry);
+        FunctionCounter.builder("vsl.ratelimit.evictions", evictions, LongAdder::sum)
+                .description("Idle rate-limit buckets evicted")
+                .register(meterRegistry);
+        overflowCounter = Counter.builder("vsl.ratelimit.overflow")
+                .description("Requests served by a shared overflow bucket because the store was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Get the bucket for a key, creating it with the factory if needed.
+     *
+     * @param key     bucket key (prefix + client identity, e.g. "AI:1.2.3.4")
+     * @param factory creates a new bucket for the key
+     * @return bucket to consume from
+     */
+    public Bucket getOrCreate(String key, Supplier<Bucket> factory) {
+        var stripe = stripeFor(key);
+        var entry = stripe.get(key);
+        if (entry == null) {
+            if (size.get() >= maxBuckets) {
+                overflowCounter.increment();
+                return overflowBuckets.computeIfAbsent(prefixOf(key), ignored -> factory.get());
+            }
+            entry = stripe.computeIfAbsent(key, ignored -> {
+                size.incrementAndGet();
+                return new Entry(factory.get());
+            });
+        }
+        entry.touch();
+        return entry.bucket;
+    }
+
+    /**
+     * Sweep one stripe for idle buckets. Runs on the scheduler thread;
+     * a full pass over the store takes STRIPES runs.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.cleanup-interval-ms:5000}")
+    public void sweepNextStripe() {
+        var stripe = stripes.get(Math.floorMod(nextStripe.getAndIncrement(), STRIPES));
+        var cutoff = System.nanoTime() - idleTimeout.toNanos();
+        stripe.values().removeIf(entry -> {
+            if (entry.lastAccessNanos - cutoff < 0) {
+                size.decrementAndGet();
+                evictions.increment();
+                return true;
+            }
+            return false;
+        });
+        if (size.get() < maxBuckets && !overflowBuckets.isEmpty()) {
+            overflowBuckets.clear();
+            log.info("Rate-limit store below capacity again, overflow buckets released");
+        }
+    }
+
+    private Map<String, Entry> stripeFor(String key) {
+        return stripes.get(Math.floorMod(key.hashCode(), STRIPES));
+    }
+
+    private String prefixOf(String key) {
+        var separator = key.indexOf(':');
+        return separator >= 0 ? key.substring(0, separator + 1) : "";
+    }
+
+    private static final class Entry {
+        private final Bucket bucket;
+        private volatile long lastAccessNanos;
+
+        private Entry(Bucket bucket) {
+            this.bucket = bucket;
+            this.lastAccessNanos = System.nanoTime();
+        }
+
+        private void touch() {
+            lastAccessNanos = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.capstone.vsl.security;
+
+import com.capstone.vsl.config.RateLimitProperties;
+import com.capstone.vsl.config.RateLimitProperties.KeyType;
+import com.capstone.vsl.integration.AiLoadMonitor;
+import io.github.bucket4j.Bandwidth;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Locale;
+
+/**
+ * Rate Limit Policy Engine
+ * Maps a request to the rate-limit policy that governs it.
+ *
+ * - Policies come from rate-limit.policies[*] and are compiled once into a path trie
+ * - The most specific matching pattern wins; among policies on the same pattern,
+ *   the first whose role filter accepts the caller wins (list role-specific ones first)
+ * - Adaptive policies charge more than one token per request while the AI service is
+ *   slow or saturated, which shrinks the effective limit without rebuilding buckets
+ */
+@Component
+@Slf4j
+public class RateLimitPolicyEngine {
+
+    public static final String ANONYMOUS_ROLE = "ANONYMOUS";
+
+    private final PathPatternTrie<CompiledPolicy> policies = new PathPatternTrie<>();
+    private final RateLimitProperties.Adaptive adaptive;
+    private final AiLoadMonitor aiLoadMonitor;
+
+    public RateLimitPolicyEngine(RateLimitProperties properties, AiLoadMonitor aiLoadMonitor) {
+        this.adaptive = properties.adaptive();
+        this.aiLoadMonitor = aiLoadMonitor;
+
+        var names = new HashSet<String>();
+        for (var policy : properties.policies()) {
+            var compiled = compile(policy);
+            if (!names.add(compiled.name())) {
+                throw new IllegalArgumentException("Duplicate rate-limit policy name: " + compiled.name());
+            }
+            policies.insert(policy.pattern(), compiled);
+            log.info("Rate-limit policy '{}': {} -> {} per {} by {}{}{}",
+                    compiled.name(), policy.pattern(), policy.refillTokens(), policy.refillPeriod(),
+                    compiled.key(),
+                    compiled.role() != null ? " (role " + compiled.role() + ")" : "",
+                    compiled.adaptive() ? " [adaptive]" : "");
+        }
+    }
+
+    /**
+     * Find the policy for a request.
+     *
+     * @param path      request path
+     * @param principal authenticated caller, or null for anonymous requests
+     * @return policy to enforce, or null if the request is not rate limited
+     */
+    public CompiledPolicy resolve(String path, UserPrincipal principal) {
+        var role = principal != null && principal.getRole() != null
+                ? principal.getRole().name()
+                : ANONYMOUS_ROLE;
+        for (var policy : policies.match(path)) {
+            if (policy.role() == null || policy.role().equals(role)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Tokens to charge for one request under the given policy.
+     * 1 normally; for adaptive policies grows with the AI load pressure
+     * (max of latency / threshold and in-flight / threshold), capped by maxCost and capacity.
+     */
+    public long costOf(CompiledPolicy policy) {
+        if (!policy.adaptive() || !adaptive.enabled()) {
+            return 1;
+        }
+        var latencyPressure = aiLoadMonitor.latencyEwmaMs() / adaptive.latencyThreshold().toMillis();
+        var inFlightPressure = (double) aiLoadMonitor.inFlight() / adaptive.inFlightThreshold();
+        var pressure = Math.max(latencyPressure, inFlightPressure);
+        if (pressure <= 1.0) {
+            return 1;
+        }
+        var cap = Math.min(adaptive.maxCost(), policy.capacity());
+        return Math.max(1, Math.min((long) Math.ceil(pressure), cap));
+    }
+
+    private CompiledPolicy compile(RateLimitProperties.Policy policy) {
+        if (policy.name() == null || policy.name().isBlank()) {
+            throw new IllegalArgumentException("Rate-limit policy name is required");
+        }
+        if (policy.pattern() == null || policy.pattern().isBlank()) {
+            throw new IllegalArgumentException("Rate-limit policy '" + policy.name() + "' has no pattern");
+        }
+        if (policy.capacity() <= 0 || policy.refillTokens() <= 0) {
+            throw new IllegalArgumentException(
+                    "Rate-limit policy '" + policy.name() + "' needs positive capacity and refill-tokens");
+        }
+
+        var bandwidth = Bandwidth.builder()
+                .capacity(policy.capacity())
+                .refillGreedy(policy.refillTokens(), policy.refillPeriod())
+                .build();
+        var role = policy.role() == null || policy.role().isBlank()
+                ? null
+                : policy.role().trim().toUpperCase(Locale.ROOT);
+
+        return new CompiledPolicy(
+                policy.name(),
+                role,
+                policy.key(),
+                bandwidth,
+                policy.capacity(),
+                policy.adaptive()
+        );
+    }
+
+    /**
+     * Policy ready for enforcement.
+     *
+     * @param name      policy name, used as bucket key prefix
+     * @param role      role filter (upper case), null = any caller
+     * @param key       bucket grouping
+     * @param bandwidth Bucket4j limit
+     * @param capacity  bucket capacity
+     * @param adaptive  whether the cost follows AI load
+     */
+    public record CompiledPolicy(
+            String name,
+            String role,
+            KeyType key,
+            Bandwidth bandwidth,
+            long capacity,
+            boolean adaptive
+    ) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.capstone.vsl.security;
 
-import io.github.bucket4j.Bandwidth;
+import com.capstone.vsl.config.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,31 +9,25 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.Duration;
 
+/**
+ * Rate Limiting Filter
+ * Enforces the route policies resolved by {@link RateLimitPolicyEngine}.
+ * Runs after the JWT filter so that policies can key buckets by user id and role.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class RateLimitingFilter extends OncePerRequestFilter {
 
-    private static final String AI_ENDPOINT = "/api/vsl/recognize";
-    private static final String AUTH_PREFIX = "/api/auth/";
-
-    private static final Bandwidth AI_RATE_LIMIT = Bandwidth.builder()
-            .capacity(10)
-            .refillGreedy(10, Duration.ofSeconds(1))
-            .build();
-
-    private static final Bandwidth AUTH_RATE_LIMIT = Bandwidth.builder()
-            .capacity(5)
-            .refillGreedy(5, Duration.ofMinutes(1))
-            .build();
-
     private final RateLimitingService rateLimitingService;
+    private final RateLimitPolicyEngine policyEngine;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -40,17 +35,17 @@ public class RateLimitingFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
 
         String requestUri = request.getRequestURI();
-        Bandwidth bandwidth = resolveBandwidth(requestUri);
+        var principal = currentPrincipal();
+        var policy = policyEngine.resolve(requestUri, principal);
 
-        if (bandwidth != null) {
-            String clientIp = extractClientIp(request);
-            String bucketKey = requestUri.startsWith(AUTH_PREFIX)
-                    ? "AUTH:" + clientIp
-                    : "AI:" + clientIp;
+        if (policy != null) {
+            String bucketKey = policy.name() + ":" + resolveIdentity(policy, principal, request);
+            long cost = policyEngine.costOf(policy);
 
-            boolean allowed = rateLimitingService.tryConsume(bucketKey, bandwidth);
+            boolean allowed = rateLimitingService.tryConsume(bucketKey, policy.bandwidth(), cost);
             if (!allowed) {
-                log.warn("Rate limit exceeded for key={} uri={}", bucketKey, requestUri);
+                log.warn("Rate limit exceeded for key={} uri={} cost={}", bucketKey, requestUri, cost);
+                meterRegistry.counter("vsl.ratelimit.rejected", "policy", policy.name()).increment();
                 writeTooManyRequests(response);
                 return;
             }
@@ -59,18 +54,19 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    @Override
-    protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getRequestURI();
-        return !(AI_ENDPOINT.equals(path) || path.startsWith(AUTH_PREFIX));
+    private String resolveIdentity(RateLimitPolicyEngine.CompiledPolicy policy,
+                                   UserPrincipal principal,
+                                   HttpServletRequest request) {
+        if (policy.key() == RateLimitProperties.KeyType.USER && principal != null) {
+            return "user-" + principal.getId();
+        }
+        return extractClientIp(request);
     }
 
-    private Bandwidth resolveBandwidth(String uri) {
-        if (AI_ENDPOINT.equals(uri)) {
-            return AI_RATE_LIMIT;
-        }
-        if (uri.startsWith(AUTH_PREFIX)) {
-            return AUTH_RATE_LIMIT;
+    private UserPrincipal currentPrincipal() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal;
         }
         return null;
     }
@@ -83,11 +79,39 @@ public class RateLimitingFilter extends OncePerRequestFilter {
                 """);
     }
 
+    /**
+     * Resolve the client IP. X-Forwarded-For is only honoured when the request
+     * comes from a loopback or private-network peer (reverse proxy, Docker network);
+     * public clients cannot choose their own bucket key by spoofing the header.
+     *
+     * The header is read from the right: each proxy appends the address it received the
+     * request from, so the rightmost entry that is not one of our proxies is the client.
+     * Entries left of it are whatever the client sent and are ignored.
+     */
     private String extractClientIp(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
         String forwarded = request.getHeader("X-Forwarded-For");
-        if (forwarded != null && !forwarded.isBlank()) {
-            return forwarded.split(",")[0].trim();
+        if (forwarded == null || forwarded.isBlank() || !isTrustedProxy(remoteAddr)) {
+            return remoteAddr;
         }
-        return request.getRemoteAddr();
+
+        var hops = forwarded.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            var hop = hops[i].trim();
+            if (!hop.isEmpty() && !isTrustedProxy(hop)) {
+                return hop;
+            }
+        }
+        // Every hop is internal (e.g. a request from inside the Docker network)
+        return remoteAddr;
+    }
+
+    /**
+     * Loopback, IPv4 private ranges and IPv6 unique local addresses (fc00::/7).
+     * Anything that is not a strict IP literal is untrusted and never resolved.
+     */
+    private boolean isTrustedProxy(String address) {
+        var inet = IpLiteral.parse(address);
+        return inet != null && IpLiteral.isInternal(inet);
     }
 }
\ No newline at end of file
@@ -2,18 +2,21 @@ package com.capstone.vsl.security;
 
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Simple in-memory rate limiting service backed by Bucket4j.
+ * Rate limiting service backed by Bucket4j.
  * Buckets are stored per key (e.g., IP + route) to throttle abusive clients.
+ * Bucket state lives in the configured {@link RateLimitBackend} (in-memory or PostgreSQL);
+ * the bucket handles are cached locally and bounded by {@link RateLimitBucketStore}.
  */
 @Service
+@RequiredArgsConstructor
 public class RateLimitingService {
 
-    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final RateLimitBucketStore bucketStore;
+    private final RateLimitBackend rateLimitBackend;
 
     /**
      * Try to consume a single token from the bucket identified by the key.
@@ -23,12 +26,21 @@ public class RateLimitingService {
      * @return true if the request is allowed, false otherwise
      */
     public boolean tryConsume(String key, Bandwidth bandwidth) {
-        Bucket bucket = buckets.computeIfAbsent(key, ignored ->
-                Bucket.builder()
-                        .addLimit(bandwidth)
-                        .build()
+        return tryConsume(key, bandwidth, 1);
+    }
+
+    /**
+     * Try to consume several tokens at once (used by adaptive policies under load).
+     *
+     * @param key       unique key (usually policy + caller identity)
+     * @param bandwidth bandwidth definition to apply if bucket needs to be created
+     * @param tokens    number of tokens the request costs
+     * @return true if the request is allowed, false otherwise
+     */
+    public boolean tryConsume(String key, Bandwidth bandwidth, long tokens) {
+        Bucket bucket = bucketStore.getOrCreate(key, () ->
+                rateLimitBackend.createBucket(key, bandwidth)
         );
-        return bucket.tryConsume(1);
+        return bucket.tryConsume(tokens);
     }
 }
-
@@ -0,0 +1,65 @@
+package com.capstone.vsl.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token Revocation Service
+ * Remembers when a user's role or account was changed by an admin.
+ *
+ * JWT tokens carry the user id and role as claims, so the authentication filter
+ * normally trusts them without touching the database. Tokens issued at or before
+ * a recorded change are considered stale and are re-checked against PostgreSQL,
+ * which makes role changes and deletions effective on the very next request.
+ *
+ * Entries are dropped once every token issued before the change has expired.
+ * The registry is node-local; with several backend nodes each node only sees
+ * the changes made through it.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+
+    @Value("${jwt.expiration:86400000}")
+    private long jwtExpirationMs;
+
+    // userId -> epoch second of the last security-relevant change
+    private final Map<Long, Long> changedAt = new ConcurrentHashMap<>();
+
+    /**
+     * Mark all tokens issued to the user until now as stale.
+     *
+     * @param userId id of the user whose role or account changed
+     */
+    public void revokeIssuedTokens(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        var nowSeconds = Instant.now().getEpochSecond();
+        changedAt.put(userId, nowSeconds);
+        purgeExpired(nowSeconds);
+        log.debug("Revoked tokens issued to userId={} before {}", userId, nowSeconds);
+    }
+
+    /**
+     * Check whether a token's embedded claims can no longer be trusted.
+     *
+     * @param userId           user id claim of the token
+     * @param issuedAtSeconds  issued-at claim of the token (epoch seconds)
+     * @return true if the user changed at or after the token was issued
+     */
+    public boolean isStale(Long userId, long issuedAtSeconds) {
+        var changed = changedAt.get(userId);
+        return changed != null && issuedAtSeconds <= changed;
+    }
+
+    private void purgeExpired(long nowSeconds) {
+        var horizon = nowSeconds - jwtExpirationMs / 1000;
+        changedAt.values().removeIf(changed -> changed < horizon);
+    }
+}
@@ -37,6 +37,18 @@ public class UserPrincipal implements UserDetails {
         );
     }
 
+    /**
+     * Build a principal from verified JWT claims without loading the user entity.
+     * Email and password are not part of the token and stay null.
+     */
+    public static UserPrincipal fromClaims(Long id, String username, Role role) {
+        var authorities = Collections.singletonList(
+                new SimpleGrantedAuthority("ROLE_" + role.name())
+        );
+
+        return new UserPrincipal(id, username, null, null, role, authorities);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
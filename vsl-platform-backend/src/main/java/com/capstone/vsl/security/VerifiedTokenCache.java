@@ -0,0 +1,130 @@
+package com.capstone.vsl.security;
+
+import com.capstone.vsl.util.JwtClaims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Verified Token Cache
+ * Remembers the claims of JWT tokens that already passed signature and expiry checks.
+ *
+ * Clients resend the same token on every request for its whole lifetime, so repeat
+ * tokens skip HMAC verification and JSON claim parsing entirely.
+ * - Keyed by the SHA-256 of the token (raw tokens are never kept in memory)
+ * - Entries expire at the token's own "exp" claim
+ * - Bounded by jwt.cache.max-size; expired entries are swept when the cache is full,
+ *   by one thread at a time (others keep inserting while the sweep runs)
+ *
+ * Metrics: vsl.jwt.cache.requests{result=hit|miss}, vsl.jwt.cache.size
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+
+    private final Map<String, JwtClaims> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    @Value("${jwt.cache.max-size:10000}")
+    private int maxSize;
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("vsl.jwt.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("Verified-token cache lookups")
+                .register(meterRegistry);
+        FunctionCounter.builder("vsl.jwt.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("Verified-token cache lookups")
+                .register(meterRegistry);
+        Gauge.builder("vsl.jwt.cache.size", entries, Map::size)
+                .description("Number of cached verified tokens")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Look up the claims of a previously verified token.
+     *
+     * @param token raw JWT token
+     * @return cached claims, or null if the token is unknown or has expired
+     */
+    public JwtClaims get(String token) {
+        var key = hash(token);
+        var claims = entries.get(key);
+        if (claims == null) {
+            misses.increment();
+            return null;
+        }
+        if (isExpired(claims, System.currentTimeMillis())) {
+            entries.remove(key, claims);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return claims;
+    }
+
+    /**
+     * Remember the claims of a token that has just been verified.
+     *
+     * @param token  raw JWT token
+     * @param claims claims returned by the verifier
+     */
+    public void put(String token, JwtClaims claims) {
+        if (entries.size() >= maxSize && evicting.compareAndSet(false, true)) {
+            try {
+                evict();
+            } finally {
+                evicting.set(false);
+            }
+        }
+        entries.put(hash(token), claims);
+    }
+
+    /**
+     * Drop expired entries; if the cache is still full, drop arbitrary entries
+     * until it is back under 90% of its capacity.
+     * Only called by the thread holding {@link #evicting}: the sweep is O(n), concurrent
+     * sweeps would only repeat it.
+     */
+    private void evict() {
+        var now = System.currentTimeMillis();
+        entries.values().removeIf(claims -> isExpired(claims, now));
+
+        var target = (int) (maxSize * 0.9);
+        var iterator = entries.keySet().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+        log.debug("Verified-token cache evicted down to {} entries", entries.size());
+    }
+
+    private boolean isExpired(JwtClaims claims, long nowMs) {
+        return claims.expiresAt() * 1000 < nowMs;
+    }
+
+    private String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
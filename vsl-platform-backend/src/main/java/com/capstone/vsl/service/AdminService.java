@@ -12,6 +12,7 @@ import com.capstone.vsl.entity.User;
 import com.capstone.vsl.repository.ContributionRepository;
 import com.capstone.vsl.repository.DictionaryRepository;
 import com.capstone.vsl.repository.UserRepository;
+import com.capstone.vsl.security.TokenRevocationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,9 +24,6 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 /**
  * Admin Service
  * Handles administrative operations:
@@ -44,6 +42,7 @@ public class AdminService {
     private final DictionaryService dictionaryService;
     private final ObjectMapper objectMapper;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationService tokenRevocationService;
 
     /**
      * Approve a contribution
@@ -181,6 +180,7 @@ public class AdminService {
         var oldRole = user.getRole();
         user.setRole(newRole);
         user = userRepository.save(user);
+        tokenRevocationService.revokeIssuedTokens(userId);
 
         log.info("Updated user role: userId={}, oldRole={}, newRole={}", userId, oldRole, newRole);
         return userToDTO(user);
@@ -210,6 +210,7 @@ public class AdminService {
                 throw new IllegalArgumentException("Cannot change your own role");
             }
             user.setRole(request.getRole());
+            tokenRevocationService.revokeIssuedTokens(userId);
         }
 
         // Update profile fields (if provided)
@@ -323,22 +324,25 @@ public class AdminService {
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
 
         userRepository.delete(user);
+        tokenRevocationService.revokeIssuedTokens(userId);
         log.info("Admin deleted user: id={}, username={}", user.getId(), user.getUsername());
     }
 
     /**
-     * Get contributions by status
+     * Get one page of contributions by status, newest first
      *
      * @param status Contribution status (PENDING, APPROVED, REJECTED)
-     * @return List of contributions with the specified status
+     * @param page Page index (0-based)
+     * @param size Page size (max 100)
+     * @return Page of contributions with the specified status
      */
     @Transactional(readOnly = true)
-    public List<ContributionDTO> getContributionsByStatus(ContributionStatus status) {
-        var contributions = contributionRepository.findByStatus(status);
-        log.debug("Retrieved {} contributions with status: {}", contributions.size(), status);
-        return contributions.stream()
-                .map(this::contributionToDTO)
-                .collect(Collectors.toList());
+    public Page<ContributionDTO> getContributionsByStatus(ContributionStatus status, int page, int size) {
+        var pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 100));
+        var contributions = contributionRepository.findDtoPageByStatus(status, pageable);
+        log.debug("Retrieved {} of {} contributions with status: {}",
+                contributions.getNumberOfElements(), contributions.getTotalElements(), status);
+        return contributions;
     }
 
     /**
@@ -5,13 +5,19 @@ import com.capstone.vsl.dto.DictionaryDTO;
 import com.capstone.vsl.entity.Dictionary;
 import com.capstone.vsl.repository.DictionaryRepository;
 import com.capstone.vsl.repository.DictionarySearchRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -22,7 +28,7 @@ import java.util.stream.Collectors;
  * 
  * Dual-Write Strategy:
  * 1. Write to PostgreSQL first (transactional)
- * 2. Sync to Elasticsearch asynchronously (non-blocking)
+ * 2. Sync to Elasticsearch asynchronously after commit (non-blocking, {@link ElasticsearchSyncService})
  * 3. Mark sync status in PostgreSQL
  */
 @Service
@@ -32,10 +38,14 @@ public class DictionaryService {
 
     private final DictionaryRepository dictionaryRepository;
     private final DictionarySearchRepository dictionarySearchRepository;
+    private final WordPopularityService wordPopularityService;
+    private final ElasticsearchSyncService elasticsearchSyncService;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Search dictionary entries
      * Strategy: Try Elasticsearch first, fallback to PostgreSQL if ES is down
+     * Results are ordered by lookup popularity (ties keep the engine's order)
      *
      * @param query Search query string
      * @return List of matching dictionary entries
@@ -47,29 +57,59 @@ public class DictionaryService {
         }
 
         // Try Elasticsearch first for fuzzy matching
+        var esSample = Timer.start(meterRegistry);
         try {
             log.debug("Searching Elasticsearch for query: {}", query);
             var esResults = dictionarySearchRepository
                     .findByWordContainingIgnoreCaseOrDefinitionContainingIgnoreCase(query, query);
             
             if (!esResults.isEmpty()) {
+                esSample.stop(searchTimer("elasticsearch", "hit"));
                 log.debug("Found {} results from Elasticsearch", esResults.size());
-                return esResults.stream()
+                return rank(esResults.stream()
                         .map(this::documentToDTO)
-                        .collect(Collectors.toList());
+                        .collect(Collectors.toList()), query);
             }
+            esSample.stop(searchTimer("elasticsearch", "empty"));
         } catch (Exception e) {
+            esSample.stop(searchTimer("elasticsearch", "error"));
             log.warn("Elasticsearch search failed, falling back to PostgreSQL: {}", e.getMessage());
         }
 
         // Fallback to PostgreSQL ILIKE search
         log.debug("Falling back to PostgreSQL search for query: {}", query);
+        var pgSample = Timer.start(meterRegistry);
         var pgResults = dictionaryRepository.searchByQuery(query.trim());
+        pgSample.stop(searchTimer("postgres", pgResults.isEmpty() ? "empty" : "hit"));
         log.debug("Found {} results from PostgreSQL", pgResults.size());
         
-        return pgResults.stream()
+        return rank(pgResults.stream()
                 .map(this::entityToDTO)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()), query);
+    }
+
+    /**
+     * Result order: exact word matches first, then the engine's order with a bounded
+     * popularity boost, so a popular partial match never outranks an exact one.
+     */
+    private List<DictionaryDTO> rank(List<DictionaryDTO> results, String query) {
+        var word = query.trim();
+        var ranked = new ArrayList<DictionaryDTO>(results.size());
+        var partial = new ArrayList<DictionaryDTO>(results.size());
+        for (var result : results) {
+            (word.equalsIgnoreCase(result.getWord()) ? ranked : partial).add(result);
+        }
+        ranked.addAll(wordPopularityService.boostByPopularity(partial, DictionaryDTO::getId));
+        return ranked;
+    }
+
+    private Timer searchTimer(String engine, String result) {
+        return Timer.builder("vsl.search")
+                .description("Dictionary search latency per engine")
+                .tag("engine", engine)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     /**
@@ -107,6 +147,30 @@ public class DictionaryService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get the currently trending dictionary words
+     * Served from the in-memory popularity ranking (no search_history scan)
+     *
+     * @param limit Number of entries to retrieve
+     * @return List of trending dictionary entries, most popular first
+     */
+    @Transactional(readOnly = true)
+    public List<DictionaryDTO> getTrendingWords(int limit) {
+        var ids = wordPopularityService.trending(limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        var byId = dictionaryRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Dictionary::getId, entity -> entity));
+        // Keep ranking order; words deleted since they were counted are skipped
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(this::entityToDTO)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Create a new dictionary word
      * Dual-Write Pattern:
@@ -210,34 +274,40 @@ public class DictionaryService {
     }
 
     /**
-     * Asynchronously sync dictionary entry to Elasticsearch
-     * This method runs in a separate thread pool and does not block the main transaction
+     * Sync dictionary entry to Elasticsearch once the current transaction commits
+     * The index update runs on elasticsearchSyncExecutor (see {@link ElasticsearchSyncService}),
+     * so neither the main transaction nor the request waits for Elasticsearch. When the sync
+     * queue is full the update is dropped with a warning; the entry stays elastic_synced=false.
      *
      * @param dictionary Dictionary entity to sync
      */
-    @Async("elasticsearchSyncExecutor")
-    public void syncToElasticsearch(Dictionary dictionary) {
-        try {
-            var document = DictionaryDocument.builder()
-                    .id(dictionary.getId())
-                    .word(dictionary.getWord())
-                    .definition(dictionary.getDefinition())
-                    .videoUrl(dictionary.getVideoUrl())
-                    .elasticSynced(true)
-                    .build();
-
-            dictionarySearchRepository.save(document);
-            log.info("Synced dictionary word to Elasticsearch: {}", dictionary.getWord());
-
-            // Update sync status in PostgreSQL
-            dictionary.setElasticSynced(true);
-            dictionaryRepository.save(dictionary);
+    private void syncToElasticsearch(Dictionary dictionary) {
+        // Snapshot on this thread: the entity belongs to this request's persistence context
+        var document = DictionaryDocument.builder()
+                .id(dictionary.getId())
+                .word(dictionary.getWord())
+                .definition(dictionary.getDefinition())
+                .videoUrl(dictionary.getVideoUrl())
+                .elasticSynced(true)
+                .build();
 
-        } catch (Exception e) {
-            log.error("Failed to sync dictionary to Elasticsearch (id: {}): {}", 
-                    dictionary.getId(), e.getMessage());
-            // Note: We don't throw exception here to avoid breaking the main flow
-            // The sync can be retried later if needed
+        Runnable sync = () -> {
+            try {
+                elasticsearchSyncService.index(document);
+            } catch (TaskRejectedException e) {
+                log.warn("Elasticsearch sync queue full, word not indexed (id: {})", document.getId());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Never index a word whose transaction rolls back, nor one not yet visible to the sync thread
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    sync.run();
+                }
+            });
+        } else {
+            sync.run();
         }
     }
 
@@ -0,0 +1,46 @@
+package com.capstone.vsl.service;
+
+import com.capstone.vsl.document.DictionaryDocument;
+import com.capstone.vsl.repository.DictionaryRepository;
+import com.capstone.vsl.repository.DictionarySearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * Elasticsearch Sync Service
+ * Secondary write of the dictionary dual-write (see {@link DictionaryService}): indexes an
+ * entry in Elasticsearch, then marks it elastic_synced in PostgreSQL.
+ *
+ * A bean of its own so calls go through the @Async proxy and run on elasticsearchSyncExecutor.
+ * The executor has a bounded queue and rejects work when it is full (TaskRejectedException
+ * in the caller) instead of blocking it; a rejected or failed entry keeps elastic_synced=false
+ * and is still found through the PostgreSQL search fallback.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ElasticsearchSyncService {
+
+    private final DictionarySearchRepository dictionarySearchRepository;
+    private final DictionaryRepository dictionaryRepository;
+
+    /**
+     * Index the entry and mark it synced.
+     *
+     * @param document snapshot of the committed entry, built on the caller's thread
+     */
+    @Async("elasticsearchSyncExecutor")
+    public void index(DictionaryDocument document) {
+        try {
+            dictionarySearchRepository.save(document);
+            dictionaryRepository.markElasticSynced(document.getId());
+            log.info("Synced dictionary word to Elasticsearch: {}", document.getWord());
+        } catch (Exception e) {
+            log.error("Failed to sync dictionary to Elasticsearch (id: {}): {}",
+                    document.getId(), e.getMessage());
+            // Not rethrown: nobody waits for this task; the entry stays elastic_synced=false
+        }
+    }
+}
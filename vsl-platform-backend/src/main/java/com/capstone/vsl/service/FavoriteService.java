@@ -4,16 +4,17 @@ import com.capstone.vsl.dto.FavoriteDTO;
 import com.capstone.vsl.entity.UserFavorite;
 import com.capstone.vsl.repository.DictionaryRepository;
 import com.capstone.vsl.repository.UserFavoriteRepository;
-import com.capstone.vsl.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * FavoriteService encapsulates business logic for managing user favorites.
  */
@@ -24,82 +25,102 @@ public class FavoriteService {
 
     private static final int DEFAULT_PAGE_SIZE = 10;
     private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_STATUS_BATCH = 200;
 
-    private final UserRepository userRepository;
-    private final DictionaryRepository dictionaryRepository;
     private final UserFavoriteRepository userFavoriteRepository;
+    private final DictionaryRepository dictionaryRepository;
+    private final FavoriteStatusCache favoriteStatusCache;
 
     /**
      * Toggle favorite status for a dictionary word.
+     * Works on ids only: a delete by ids, and if nothing was deleted an
+     * INSERT ... ON CONFLICT DO NOTHING (no entity loads, no exists query).
      *
-     * @param wordId   dictionary entry id
-     * @param username authenticated username
+     * @param wordId dictionary entry id
+     * @param userId authenticated user id
      * @return true if the word was added to favorites, false if it was removed
+     * @throws IllegalArgumentException if the word does not exist
      */
     @Transactional
-    public boolean toggleFavorite(Long wordId, String username) {
-        var user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
-
-        var dictionary = dictionaryRepository.findById(wordId)
-                .orElseThrow(() -> new IllegalArgumentException("Dictionary word not found: " + wordId));
-
-        var exists = userFavoriteRepository.existsByUserAndDictionary(user, dictionary);
-        if (exists) {
-            userFavoriteRepository.deleteByUserAndDictionary(user, dictionary);
-            log.info("Removed favorite for user={} wordId={}", username, wordId);
+    public boolean toggleFavorite(Long wordId, Long userId) {
+        if (userFavoriteRepository.deleteByIds(userId, wordId) > 0) {
+            favoriteStatusCache.update(userId, wordId, false);
+            log.info("Removed favorite for userId={} wordId={}", userId, wordId);
             return false;
         }
 
-        var favorite = UserFavorite.builder()
-                .user(user)
-                .dictionary(dictionary)
-                .build();
-
-        userFavoriteRepository.save(favorite);
-        log.info("Added favorite for user={} wordId={}", username, wordId);
+        try {
+            // 0 rows means a concurrent request added it first; the word is a favorite either way
+            userFavoriteRepository.insertIfAbsent(userId, wordId);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("Dictionary word not found: " + wordId);
+        }
+        favoriteStatusCache.update(userId, wordId, true);
+        log.info("Added favorite for userId={} wordId={}", userId, wordId);
         return true;
     }
 
     /**
      * Retrieve paginated favorites for a user.
      *
-     * @param username username of authenticated user
-     * @param page     requested page index
-     * @param size     requested page size
+     * @param userId authenticated user id
+     * @param page   requested page index
+     * @param size   requested page size
      * @return page of favorite dictionary entries
      */
     @Transactional(readOnly = true)
-    public Page<FavoriteDTO> getFavorites(String username, int page, int size) {
-        var user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
-
+    public Page<FavoriteDTO> getFavorites(Long userId, int page, int size) {
         Pageable pageable = PageRequest.of(
                 Math.max(page, 0),
-                normalizePageSize(size),
-                Sort.by(Sort.Direction.DESC, "savedAt")
+                normalizePageSize(size)
         );
 
-        return userFavoriteRepository.findByUserOrderBySavedAtDesc(user, pageable)
+        return userFavoriteRepository.findByUserIdOrderBySavedAtDesc(userId, pageable)
                 .map(this::mapToDto);
     }
 
     /**
      * Check if a word is favorited by the user.
+     * Answered from the per-user favorite bitmap cache; only a word that is not a
+     * favorite costs a primary-key lookup, to reject words that do not exist.
      *
-     * @param wordId   dictionary entry id
-     * @param username authenticated username
+     * @param wordId dictionary entry id
+     * @param userId authenticated user id
      * @return true if favorited, otherwise false
+     * @throws IllegalArgumentException if the word does not exist
      */
     @Transactional(readOnly = true)
-    public boolean checkStatus(Long wordId, String username) {
-        var user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
-
-        var dictionary = dictionaryRepository.findById(wordId)
-                .orElseThrow(() -> new IllegalArgumentException("Dictionary word not found: " + wordId));
+    public boolean checkStatus(Long wordId, Long userId) {
+        if (wordId == null || wordId <= 0 || wordId > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Dictionary word not found: " + wordId);
+        }
+        var favorite = favoriteStatusCache
+                .favoritesOf(userId, userFavoriteRepository::findDictionaryIdsByUserId)
+                .get(wordId.intValue());
+        // A favorite row references the word, so only the negative answer needs the check
+        if (!favorite && !dictionaryRepository.existsById(wordId)) {
+            throw new IllegalArgumentException("Dictionary word not found: " + wordId);
+        }
+        return favorite;
+    }
 
-        return userFavoriteRepository.existsByUserAndDictionary(user, dictionary);
+    /**
+     * Check favorite status for a list of words in one call (e.g. a search result page).
+     * Answered from the per-user favorite bitmap cache: at most one query per user per TTL.
+     *
+     * @param wordIds dictionary entry ids (at most 200)
+     * @param userId  authenticated user id
+     * @return the favorited subset of wordIds, in request order
+     */
+    public List<Long> checkStatuses(List<Long> wordIds, Long userId) {
+        if (wordIds.size() > MAX_STATUS_BATCH) {
+            throw new IllegalArgumentException("At most " + MAX_STATUS_BATCH + " word ids per request");
+        }
+        var favorites = favoriteStatusCache.favoritesOf(userId, userFavoriteRepository::findDictionaryIdsByUserId);
+        return wordIds.stream()
+                .filter(id -> id != null && id > 0 && id <= Integer.MAX_VALUE && favorites.get(id.intValue()))
+                .distinct()
+                .toList();
     }
 
     private FavoriteDTO mapToDto(UserFavorite favorite) {
@@ -0,0 +1,117 @@
+package com.capstone.vsl.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Favorite Status Cache
+ * Keeps each active user's favorited dictionary ids as a BitSet, so favorite status
+ * checks (single word or a whole result list) are answered from memory.
+ *
+ * - Loaded on first use with one id-only query per user
+ * - Bitsets are copy-on-write: readers never see a half-updated set
+ * - Updated by this node's toggles once their transaction commits; entries expire after favorites.cache.ttl
+ *   so changes made through other nodes become visible within the TTL
+ * - A load that overlaps a toggle of the same user is returned but not cached: it may have
+ *   read the favorites before the toggle committed (each entry records its last change)
+ * - Bounded by favorites.cache.max-users (memory per user is ~ highest word id / 8 bytes)
+ */
+@Component
+@Slf4j
+public class FavoriteStatusCache {
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${favorites.cache.max-users:10000}")
+    private int maxUsers;
+
+    @Value("${favorites.cache.ttl:5m}")
+    private Duration ttl;
+
+    /**
+     * Favorited dictionary ids of the user. The returned set must not be modified.
+     *
+     * @param userId user id
+     * @param loader loads the user's favorited ids on a cache miss
+     */
+    public BitSet favoritesOf(Long userId, Function<Long, List<Long>> loader) {
+        var now = System.nanoTime();
+        var entry = entries.get(userId);
+        if (entry != null && entry.ids != null && now - entry.loadedAtNanos < ttl.toNanos()) {
+            return entry.ids;
+        }
+
+        var ids = new BitSet();
+        for (var id : loader.apply(userId)) {
+            ids.set(Math.toIntExact(id));
+        }
+        if (entries.size() >= maxUsers) {
+            evict(now);
+        }
+        entries.compute(userId, (ignored, current) ->
+                current != null && current.changedAtNanos - now >= 0 ? current : new Entry(ids, now, now));
+        return ids;
+    }
+
+    /**
+     * Apply a favorite change made by this node. If the user is not cached, only the time of
+     * the change is recorded, so a load that started before it is not cached. Inside a transaction the change is applied after commit, so a rolled-back
+     * toggle never reaches the cache and readers never see uncommitted state.
+     */
+    public void update(Long userId, Long dictionaryId, boolean favorite) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(userId, dictionaryId, favorite);
+                }
+            });
+            return;
+        }
+        apply(userId, dictionaryId, favorite);
+    }
+
+    private void apply(Long userId, Long dictionaryId, boolean favorite) {
+        var now = System.nanoTime();
+        entries.compute(userId, (ignored, entry) -> {
+            if (entry == null || entry.ids == null) {
+                return new Entry(null, now, now);
+            }
+            var ids = (BitSet) entry.ids.clone();
+            ids.set(Math.toIntExact(dictionaryId), favorite);
+            return new Entry(ids, entry.loadedAtNanos, now);
+        });
+    }
+
+    /**
+     * Drop expired entries; if still full, drop arbitrary ones down to 90% of capacity.
+     */
+    private void evict(long now) {
+        entries.values().removeIf(entry -> now - entry.loadedAtNanos >= ttl.toNanos());
+        var target = (int) (maxUsers * 0.9);
+        var iterator = entries.keySet().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+        log.debug("Favorite status cache evicted down to {} users", entries.size());
+    }
+
+    /**
+     * @param ids            favorited ids, null if the user is not loaded (only a change was recorded)
+     * @param loadedAtNanos  start of the load (or time of the change), for the TTL
+     * @param changedAtNanos last change applied by this node, or the load start
+     */
+    private record Entry(BitSet ids, long loadedAtNanos, long changedAtNanos) {
+    }
+}
@@ -9,12 +9,12 @@ import com.capstone.vsl.repository.ReportRepository;
 import com.capstone.vsl.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Report Service
@@ -67,31 +67,31 @@ public class ReportService {
     }
 
     /**
-     * Get all open reports (for admin)
+     * Get one page of open reports (for admin), newest first
      *
-     * @return List of open reports
+     * @param page Page index (0-based)
+     * @param size Page size (max 100)
+     * @return Page of open reports
      */
     @Transactional(readOnly = true)
-    public List<ReportDTO> getOpenReports() {
-        var reports = reportRepository.findByStatus(ReportStatus.OPEN);
-        log.info("Retrieved {} open reports", reports.size());
-        return reports.stream()
-                .map(this::reportToDTO)
-                .collect(Collectors.toList());
+    public Page<ReportDTO> getOpenReports(int page, int size) {
+        var reports = reportRepository.findDtoPageByStatus(ReportStatus.OPEN, pageRequest(page, size));
+        log.info("Retrieved {} of {} open reports", reports.getNumberOfElements(), reports.getTotalElements());
+        return reports;
     }
 
     /**
-     * Get all reports (for admin, including resolved)
+     * Get one page of all reports (for admin, including resolved), newest first
      *
-     * @return List of all reports
+     * @param page Page index (0-based)
+     * @param size Page size (max 100)
+     * @return Page of reports
      */
     @Transactional(readOnly = true)
-    public List<ReportDTO> getAllReports() {
-        var reports = reportRepository.findAll();
-        log.info("Retrieved {} total reports", reports.size());
-        return reports.stream()
-                .map(this::reportToDTO)
-                .collect(Collectors.toList());
+    public Page<ReportDTO> getAllReports(int page, int size) {
+        var reports = reportRepository.findDtoPage(pageRequest(page, size));
+        log.info("Retrieved {} of {} total reports", reports.getNumberOfElements(), reports.getTotalElements());
+        return reports;
     }
 
     /**
@@ -145,6 +145,10 @@ public class ReportService {
         log.info("Report deleted: id={}", id);
     }
 
+    private PageRequest pageRequest(int page, int size) {
+        return PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 100));
+    }
+
     /**
      * Convert Report entity to DTO
      */
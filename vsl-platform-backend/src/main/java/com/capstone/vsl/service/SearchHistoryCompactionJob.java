@@ -0,0 +1,66 @@
+package com.capstone.vsl.service;
+
+import com.capstone.vsl.repository.SearchHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Search History Compaction Job
+ * Enforces the per-user retention cap (search-history.retention-per-user):
+ * only the newest N entries of each user are kept.
+ *
+ * Works user by user: the cut-off id is looked up once per user (index range scan),
+ * then the user's older rows are deleted in small batches, each in its own transaction,
+ * so a large backlog never holds long locks on search_history and no batch rescans
+ * the whole table. Rows added meanwhile are newer than the cut-off and are kept.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchHistoryCompactionJob {
+
+    private static final int DELETE_BATCH_SIZE = 5000;
+
+    private final SearchHistoryRepository searchHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SearchHistoryWriter searchHistoryWriter;
+
+    @Value("${search-history.retention-per-user:500}")
+    private int retentionPerUser;
+
+    @Scheduled(
+            initialDelayString = "${search-history.compaction-interval-ms:3600000}",
+            fixedDelayString = "${search-history.compaction-interval-ms:3600000}")
+    public void compact() {
+        var total = 0L;
+        for (var userId : searchHistoryRepository.findUserIdsBeyondRetention(retentionPerUser)) {
+            total += compactUser(userId);
+        }
+
+        if (total > 0) {
+            log.info("Search history compaction removed {} entries beyond the cap of {} per user",
+                    total, retentionPerUser);
+        }
+    }
+
+    private long compactUser(Long userId) {
+        var cutoff = searchHistoryRepository.findRetentionCutoff(userId, retentionPerUser);
+        if (cutoff == null) {
+            return 0;
+        }
+        var total = 0L;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status ->
+                    searchHistoryRepository.deleteUpToCutoff(userId, cutoff, DELETE_BATCH_SIZE));
+            total += deleted;
+        } while (deleted == DELETE_BATCH_SIZE);
+        // The writer's last-lookup entry must not outlive the rows it stands for
+        searchHistoryWriter.forgetUser(userId);
+        return total;
+    }
+}
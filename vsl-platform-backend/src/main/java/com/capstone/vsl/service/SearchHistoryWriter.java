@@ -0,0 +1,242 @@
+package com.capstone.vsl.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search History Writer
+ * Writes search-history events in the background so request latency does not
+ * depend on history inserts.
+ *
+ * - Events go onto a bounded in-memory queue; when it is full the event is dropped
+ *   and counted (history is best-effort, requests never block on it)
+ * - A single writer thread drains the queue and inserts rows in JDBC batches using
+ *   the user/dictionary ids only (no entity loads)
+ * - Consecutive identical lookups by the same user (same word and query) within
+ *   search-history.collapse-window are collapsed into one row; a repeat after the window
+ *   is a new row, so the word shows up as recent again
+ * - Written lookups also feed the in-memory popularity ranking ({@link WordPopularityService})
+ * - Remaining events are flushed on shutdown
+ *
+ * Metrics: vsl.search_history.queue, vsl.search_history.written, vsl.search_history.dropped
+ */
+@Component
+@Slf4j
+public class SearchHistoryWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO search_history (user_id, dictionary_id, search_query, searched_at) VALUES (?, ?, ?, ?)";
+
+    private static final int RECENT_USERS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WordPopularityService wordPopularityService;
+    private final BlockingQueue<SearchHistoryEvent> queue;
+    private final int batchSize;
+    private final Duration collapseWindow;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+
+    // Last entry written per user, for collapsing repeats; written by the writer thread,
+    // entries removed by forgetUser
+    private final Map<Long, SearchHistoryEvent> lastByUser = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, SearchHistoryEvent> eldest) {
+                    return size() > RECENT_USERS;
+                }
+            });
+
+    private volatile boolean running = true;
+    private Thread writerThread;
+
+    public SearchHistoryWriter(JdbcTemplate jdbcTemplate,
+                               WordPopularityService wordPopularityService,
+                               MeterRegistry meterRegistry,
+                               @Value("${search-history.queue-capacity:10000}") int queueCapacity,
+                               @Value("${search-history.batch-size:200}") int batchSize,
+                               @Value("${search-history.collapse-window:5m}") Duration collapseWindow) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.wordPopularityService = wordPopularityService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.collapseWindow = collapseWindow;
+
+        Gauge.builder("vsl.search_history.queue", queue, BlockingQueue::size)
+                .description("Search-history events waiting to be written")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("vsl.search_history.written")
+                .description("Search-history rows inserted")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("vsl.search_history.dropped")
+                .description("Search-history events dropped because the queue was full")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        writerThread = new Thread(this::drainLoop, "search-history-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Stops the writer without interrupting it: an interrupt could abort a JDBC batch
+     * mid-write and lose it. The writer finishes its current batch, sees running=false
+     * at its next poll (at most one second later) and exits; the rest of the queue is
+     * then flushed here.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        if (writerThread.isAlive()) {
+            // Still stuck in a write; flushing concurrently would race with it
+            log.warn("Search-history writer did not stop, {} queued events are lost", queue.size());
+            return;
+        }
+        // Flush whatever is left
+        var batch = new ArrayList<SearchHistoryEvent>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Queue a search-history event. Never blocks.
+     *
+     * @return true if queued, false if dropped because the queue is full
+     */
+    public boolean enqueue(SearchHistoryEvent event) {
+        if (queue.offer(event)) {
+            return true;
+        }
+        droppedCounter.increment();
+        log.debug("Search-history queue full, dropping event for user {}", event.userId());
+        return false;
+    }
+
+    /**
+     * Forget the user's last written lookup, e.g. after their history rows were deleted,
+     * so their next lookup is written even if it repeats the deleted one.
+     */
+    public void forgetUser(Long userId) {
+        lastByUser.remove(userId);
+    }
+
+    private void drainLoop() {
+        var batch = new ArrayList<SearchHistoryEvent>(batchSize);
+        while (running) {
+            try {
+                var first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("Search-history writer failed: {}", e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<SearchHistoryEvent> batch) {
+        removeRepeats(batch);
+        if (batch.isEmpty()) {
+            return;
+        }
+        wordPopularityService.recordLookups(batch.stream().map(SearchHistoryEvent::dictionaryId).toList());
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                ps.setLong(1, event.userId());
+                ps.setLong(2, event.dictionaryId());
+                ps.setString(3, event.searchQuery());
+                ps.setTimestamp(4, Timestamp.valueOf(event.searchedAt()));
+            });
+            writtenCounter.increment(batch.size());
+            batch.forEach(this::recordWritten);
+        } catch (Exception e) {
+            // One bad row (e.g. word deleted meanwhile) fails the whole batch; retry row by row
+            log.warn("Search-history batch of {} failed ({}), retrying row by row", batch.size(), e.getMessage());
+            for (var event : batch) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, event.userId(), event.dictionaryId(),
+                            event.searchQuery(), Timestamp.valueOf(event.searchedAt()));
+                    writtenCounter.increment();
+                    recordWritten(event);
+                } catch (Exception rowError) {
+                    log.debug("Skipping search-history row {}: {}", event, rowError.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop events that repeat the user's previous kept lookup (the last row written for the
+     * user, or an earlier kept event of the same batch) within the collapse window.
+     * Measured from the kept row, so lookups repeated all day still add a row per window.
+     */
+    private void removeRepeats(List<SearchHistoryEvent> batch) {
+        var previousInBatch = new HashMap<Long, SearchHistoryEvent>();
+        batch.removeIf(event -> {
+            var previous = previousInBatch.containsKey(event.userId())
+                    ? previousInBatch.get(event.userId())
+                    : lastByUser.get(event.userId());
+            var repeat = previous != null
+                    && previous.dictionaryId().equals(event.dictionaryId())
+                    && Objects.equals(previous.searchQuery(), event.searchQuery())
+                    && Duration.between(previous.searchedAt(), event.searchedAt()).compareTo(collapseWindow) < 0;
+            if (!repeat) {
+                previousInBatch.put(event.userId(), event);
+            }
+            return repeat;
+        });
+    }
+
+    /**
+     * Only rows that made it to the database count as the user's last lookup, so a
+     * failed write does not turn the next identical lookup into a "repeat".
+     */
+    private void recordWritten(SearchHistoryEvent event) {
+        lastByUser.put(event.userId(), event);
+    }
+
+    /**
+     * One search-history entry to persist.
+     */
+    public record SearchHistoryEvent(
+            Long userId,
+            Long dictionaryId,
+            String searchQuery,
+            LocalDateTime searchedAt
+    ) {
+    }
+}
@@ -1,6 +1,8 @@
 package com.capstone.vsl.service;
 
 import com.capstone.vsl.repository.AlphabetRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,6 +22,7 @@ import java.util.stream.Collectors;
 public class SpellingService {
 
     private final AlphabetRepository alphabetRepository;
+    private final MeterRegistry meterRegistry;
     
     private static final String SPACE_PLACEHOLDER = "https://placehold.co/100x100?text=Space";
     private static final String UNKNOWN_PLACEHOLDER = "https://example.com/gestures/unknown.png";
@@ -37,6 +40,7 @@ public class SpellingService {
             return List.of();
         }
 
+        var sample = Timer.start(meterRegistry);
         log.debug("Spelling text: {}", text);
 
         // Step 1: Convert to lowercase
@@ -77,7 +81,11 @@ public class SpellingService {
             }
         }
 
-        log.info("Spelled text '{}' into {} image URLs", text, result.size());
+        sample.stop(Timer.builder("vsl.spelling")
+                .description("Text to gesture image spelling latency")
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        log.debug("Spelled text '{}' into {} image URLs", text, result.size());
         return result;
     }
 
@@ -1,21 +1,22 @@
 package com.capstone.vsl.service;
 
+import com.capstone.vsl.dto.CursorPage;
 import com.capstone.vsl.dto.ReportDTO;
 import com.capstone.vsl.dto.SearchHistoryDTO;
 import com.capstone.vsl.entity.Report;
 import com.capstone.vsl.entity.ReportStatus;
-import com.capstone.vsl.entity.SearchHistory;
 import com.capstone.vsl.repository.DictionaryRepository;
 import com.capstone.vsl.repository.ReportRepository;
 import com.capstone.vsl.repository.SearchHistoryRepository;
 import com.capstone.vsl.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * User Feature Service
@@ -30,92 +31,74 @@ import java.util.stream.Collectors;
 @Slf4j
 public class UserFeatureService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final SearchHistoryRepository searchHistoryRepository;
     private final ReportRepository reportRepository;
     private final UserRepository userRepository;
     private final DictionaryRepository dictionaryRepository;
+    private final SearchHistoryWriter searchHistoryWriter;
 
     /**
      * Log search history
-     * Important: If username is null or anonymous, DO NOTHING (return void).
-     * Do not throw exception, just ignore.
+     * Important: If the user is anonymous (userId null), DO NOTHING (return void).
+     * The entry is queued and written in the background by {@link SearchHistoryWriter};
+     * nothing is loaded or inserted on the request thread.
      *
      * @param keyword Search keyword
      * @param dictionaryId Dictionary entry ID that was found
-     * @param username Username of the user (null/empty for guests)
+     * @param userId ID of the authenticated user (null for guests)
      */
-    @Transactional
-    public void logSearchHistory(String keyword, Long dictionaryId, String username) {
-        // If username is null or anonymous, DO NOTHING (return void)
-        if (username == null || username.trim().isEmpty() || username.equalsIgnoreCase("anonymous")) {
+    public void logSearchHistory(String keyword, Long dictionaryId, Long userId) {
+        if (userId == null || dictionaryId == null) {
             log.debug("Skipping search history log for guest/anonymous user");
             return;
         }
 
-        try {
-            var user = userRepository.findByUsername(username)
-                    .orElse(null);
-            
-            if (user == null) {
-                log.debug("User not found for search history: {}", username);
-                return;
-            }
-
-            var dictionary = dictionaryRepository.findById(dictionaryId)
-                    .orElse(null);
-            
-            if (dictionary == null) {
-                log.debug("Dictionary not found for search history: {}", dictionaryId);
-                return;
-            }
-
-            var searchHistory = SearchHistory.builder()
-                    .user(user)
-                    .dictionary(dictionary)
-                    .searchQuery(keyword)
-                    .build();
-
-            searchHistoryRepository.save(searchHistory);
-            log.debug("Logged search history: user={}, keyword={}, dictionaryId={}", 
-                    username, keyword, dictionaryId);
-
-        } catch (Exception e) {
-            // Silently handle errors - don't break the main flow
-            log.warn("Failed to log search history: {}", e.getMessage());
-        }
+        var searchQuery = keyword != null && keyword.length() > 200 ? keyword.substring(0, 200) : keyword;
+        searchHistoryWriter.enqueue(new SearchHistoryWriter.SearchHistoryEvent(
+                userId, dictionaryId, searchQuery, LocalDateTime.now()));
     }
 
     /**
-     * Get user's search history
+     * Get one page of the user's search history, newest first
      *
-     * @param username Username of the authenticated user
-     * @return List of search history entries
+     * @param userId ID of the authenticated user
+     * @param cursor ID of the last entry of the previous page (null for the first page)
+     * @param size Page size (1-100)
+     * @return Page of search history entries with the cursor of the next page
      */
     @Transactional(readOnly = true)
-    public List<SearchHistoryDTO> getUserSearchHistory(String username) {
-        var user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+    public CursorPage<SearchHistoryDTO> getUserSearchHistory(Long userId, Long cursor, int size) {
+        if (size <= 0 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_HISTORY_PAGE_SIZE);
+        }
 
-        var history = searchHistoryRepository.findByUserOrderBySearchedAtDesc(user);
-        log.debug("Retrieved {} search history entries for user: {}", history.size(), username);
+        // Fetch one extra row to know whether another page exists
+        var rows = searchHistoryRepository.findPageByUserId(
+                userId,
+                cursor != null ? cursor : Long.MAX_VALUE,
+                PageRequest.of(0, size + 1));
 
-        return history.stream()
-                .map(this::searchHistoryToDTO)
-                .collect(Collectors.toList());
+        var hasMore = rows.size() > size;
+        var items = hasMore ? rows.subList(0, size) : rows;
+        var nextCursor = hasMore ? items.get(items.size() - 1).getId() : null;
+        log.debug("Retrieved {} search history entries for user {}", items.size(), userId);
+
+        return new CursorPage<>(List.copyOf(items), nextCursor);
     }
 
     /**
      * Clear user's search history
      *
-     * @param username Username of the authenticated user
+     * @param userId ID of the authenticated user
      */
     @Transactional
-    public void clearUserSearchHistory(String username) {
-        var user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
-
-        searchHistoryRepository.deleteByUser(user);
-        log.info("Cleared search history for user: {}", username);
+    public void clearUserSearchHistory(Long userId) {
+        var deleted = searchHistoryRepository.deleteByUserId(userId);
+        // Otherwise looking up the last word again would be collapsed into a deleted row
+        searchHistoryWriter.forgetUser(userId);
+        log.info("Cleared {} search history entries for user {}", deleted, userId);
     }
 
     /**
@@ -147,19 +130,6 @@ public class UserFeatureService {
         return reportToDTO(report);
     }
 
-    /**
-     * Convert SearchHistory entity to DTO
-     */
-    private SearchHistoryDTO searchHistoryToDTO(SearchHistory history) {
-        return SearchHistoryDTO.builder()
-                .id(history.getId())
-                .dictionaryId(history.getDictionary().getId())
-                .word(history.getDictionary().getWord())
-                .searchQuery(history.getSearchQuery())
-                .searchedAt(history.getSearchedAt())
-                .build();
-    }
-
     /**
      * Convert Report entity to DTO
      */
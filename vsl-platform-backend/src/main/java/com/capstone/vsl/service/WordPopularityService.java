@@ -0,0 +1,279 @@
+package com.capstone.vsl.service;
+
+import com.capstone.vsl.repository.WordPopularityRepository;
+import com.capstone.vsl.util.CountMinSketch;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToLongFunction;
+
+/**
+ * Word Popularity Service
+ * Keeps time-decayed lookup scores per dictionary word in memory, fed by search-history events.
+ *
+ * - Scores live in a Count-Min Sketch (fixed memory, any number of words)
+ * - The top-k words are tracked in a min-heap so trending words never require
+ *   scanning the search_history table
+ * - Forward decay: an event at time t adds exp(lambda * (t - landmark)); dividing by
+ *   exp(lambda * (now - landmark)) gives the decayed score. Relative order does not
+ *   change over time, so the heap never needs rescoring (only occasional rescaling
+ *   to keep the weights in double range)
+ * - The top-k is snapshotted to word_popularity periodically and reloaded on startup
+ * - Search results get a bounded boost for top-k words, see {@link #boostByPopularity}
+ */
+@Service
+@Slf4j
+public class WordPopularityService {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO word_popularity (dictionary_id, score, updated_at) VALUES (?, ?, ?)
+            ON CONFLICT (dictionary_id) DO UPDATE SET score = EXCLUDED.score, updated_at = EXCLUDED.updated_at
+            """;
+    private static final String DELETE_STALE_SQL = "DELETE FROM word_popularity WHERE updated_at < ?";
+
+    // Rescale before weights grow out of comfortable double range
+    private static final double RESCALE_THRESHOLD = 1e50;
+
+    private final WordPopularityRepository wordPopularityRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int topK;
+    private final double lambdaPerMs;
+    private final double maxBoost;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final CountMinSketch sketch;
+    private final PriorityQueue<Candidate> heap = new PriorityQueue<>(Comparator.comparingDouble(Candidate::weight));
+    private final Map<Long, Candidate> heapIndex = new HashMap<>();
+    private long landmarkMs = System.currentTimeMillis();
+
+    public WordPopularityService(WordPopularityRepository wordPopularityRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 @Value("${popularity.top-k:100}") int topK,
+                                 @Value("${popularity.half-life:6h}") Duration halfLife,
+                                 @Value("${popularity.sketch.depth:4}") int sketchDepth,
+                                 @Value("${popularity.sketch.width:4096}") int sketchWidth,
+                                 @Value("${popularity.search.max-boost:2}") double maxBoost) {
+        this.wordPopularityRepository = wordPopularityRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.topK = topK;
+        this.lambdaPerMs = Math.log(2) / halfLife.toMillis();
+        this.sketch = new CountMinSketch(sketchDepth, sketchWidth);
+        this.maxBoost = maxBoost;
+    }
+
+    /**
+     * Warm the ranking from the last snapshot, decayed by the time elapsed since.
+     */
+    @PostConstruct
+    public void loadSnapshot() {
+        try {
+            var now = System.currentTimeMillis();
+            var rows = wordPopularityRepository.findAll();
+            for (var row : rows) {
+                var snapshotMs = row.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                var decayed = row.getScore() * Math.exp(-lambdaPerMs * Math.max(0, now - snapshotMs));
+                record(row.getDictionaryId(), decayed * weightAt(now));
+            }
+            log.info("Loaded {} word popularity scores from snapshot", rows.size());
+        } catch (Exception e) {
+            log.warn("Could not load word popularity snapshot: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Count one lookup of each given word, at the current time.
+     *
+     * @param dictionaryIds looked-up words (repeats count multiple times)
+     */
+    public void recordLookups(List<Long> dictionaryIds) {
+        if (dictionaryIds.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            var now = System.currentTimeMillis();
+            var weight = weightAt(now);
+            if (weight > RESCALE_THRESHOLD) {
+                rescale(weight, now);
+                weight = 1.0;
+            }
+            for (var id : dictionaryIds) {
+                record(id, weight);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Current decayed popularity score of a word (0 if never looked up).
+     */
+    public double score(long dictionaryId) {
+        lock.readLock().lock();
+        try {
+            return sketch.estimate(dictionaryId) / weightAt(System.currentTimeMillis());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Most popular words right now, best first.
+     *
+     * @param limit max number of words (capped at popularity.top-k)
+     * @return dictionary ids ordered by decayed score
+     */
+    public List<Long> trending(int limit) {
+        lock.readLock().lock();
+        try {
+            return heap.stream()
+                    .sorted(Comparator.comparingDouble(Candidate::weight).reversed())
+                    .limit(limit)
+                    .map(Candidate::dictionaryId)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reorder search results by popularity without overriding their relevance order.
+     *
+     * - Only words in the top-k count as popular; sketch estimates of other words are
+     *   dominated by hash collisions and are ignored
+     * - A popular word moves up at most popularity.search.max-boost positions: the most
+     *   popular word by the full amount, others in proportion to their score
+     * - Everything else keeps its original position relative to its neighbours
+     *
+     * @param items results in relevance order
+     * @param idOf  dictionary id of a result
+     * @return results in boosted order
+     */
+    public <T> List<T> boostByPopularity(List<T> items, ToLongFunction<T> idOf) {
+        if (items.size() < 2 || maxBoost <= 0) {
+            return items;
+        }
+        var keys = new double[items.size()];
+        lock.readLock().lock();
+        try {
+            var topWeight = 0.0;
+            for (var candidate : heap) {
+                topWeight = Math.max(topWeight, candidate.weight());
+            }
+            for (int i = 0; i < keys.length; i++) {
+                var candidate = heapIndex.get(idOf.applyAsLong(items.get(i)));
+                var boost = candidate == null || topWeight <= 0 ? 0 : maxBoost * candidate.weight() / topWeight;
+                keys[i] = i - boost;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        var order = new ArrayList<Integer>(items.size());
+        for (int i = 0; i < keys.length; i++) {
+            order.add(i);
+        }
+        // Stable: equal keys keep the relevance order
+        order.sort(Comparator.comparingDouble(i -> keys[i]));
+        return order.stream().map(items::get).toList();
+    }
+
+    /**
+     * Persist the current top-k to word_popularity; rows that fell out of the top-k are removed.
+     */
+    @Scheduled(
+            initialDelayString = "${popularity.snapshot-interval-ms:300000}",
+            fixedDelayString = "${popularity.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        var snapshotTime = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(topK);
+        lock.readLock().lock();
+        try {
+            var weight = weightAt(System.currentTimeMillis());
+            for (var candidate : heap) {
+                rows.add(new Object[]{
+                        candidate.dictionaryId(),
+                        candidate.weight() / weight,
+                        Timestamp.valueOf(snapshotTime)
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+            jdbcTemplate.update(DELETE_STALE_SQL, Timestamp.valueOf(snapshotTime));
+            log.debug("Saved word popularity snapshot with {} words", rows.size());
+        } catch (Exception e) {
+            log.warn("Failed to save word popularity snapshot: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Add weight for one word and update the top-k heap. Caller holds the write lock
+     * (or runs during startup before the bean is published).
+     */
+    private void record(long dictionaryId, double weight) {
+        var estimate = sketch.add(dictionaryId, weight);
+
+        var existing = heapIndex.get(dictionaryId);
+        if (existing != null) {
+            heap.remove(existing);
+            var updated = new Candidate(dictionaryId, estimate);
+            heap.add(updated);
+            heapIndex.put(dictionaryId, updated);
+            return;
+        }
+        if (heap.size() < topK) {
+            var candidate = new Candidate(dictionaryId, estimate);
+            heap.add(candidate);
+            heapIndex.put(dictionaryId, candidate);
+            return;
+        }
+        if (estimate > heap.peek().weight()) {
+            heapIndex.remove(heap.poll().dictionaryId());
+            var candidate = new Candidate(dictionaryId, estimate);
+            heap.add(candidate);
+            heapIndex.put(dictionaryId, candidate);
+        }
+    }
+
+    private void rescale(double weight, long nowMs) {
+        var factor = 1.0 / weight;
+        sketch.scale(factor);
+        var rescaled = new ArrayList<Candidate>(heap.size());
+        for (var candidate : heap) {
+            rescaled.add(new Candidate(candidate.dictionaryId(), candidate.weight() * factor));
+        }
+        heap.clear();
+        heapIndex.clear();
+        for (var candidate : rescaled) {
+            heap.add(candidate);
+            heapIndex.put(candidate.dictionaryId(), candidate);
+        }
+        landmarkMs = nowMs;
+    }
+
+    private double weightAt(long nowMs) {
+        return Math.exp(lambdaPerMs * (nowMs - landmarkMs));
+    }
+
+    private record Candidate(long dictionaryId, double weight) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.capstone.vsl.util;
+
+/**
+ * Count-Min Sketch over long keys with double-valued (weighted) counters.
+ *
+ * Memory is fixed at depth x width counters regardless of how many distinct keys are added.
+ * Estimates never underestimate; the overestimate is at most (e / width) * total weight
+ * with probability 1 - exp(-depth).
+ *
+ * Not thread-safe; callers synchronise access.
+ */
+public class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final double[][] counts;
+    private final long[] seeds;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth <= 0 || width <= 0) {
+            throw new IllegalArgumentException("Sketch depth and width must be positive");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.counts = new double[depth][width];
+        this.seeds = new long[depth];
+        for (int i = 0; i < depth; i++) {
+            seeds[i] = mix(0x9E3779B97F4A7C15L * (i + 1));
+        }
+    }
+
+    /**
+     * Add weight to the key's counters.
+     *
+     * @return the key's estimate after the update
+     */
+    public double add(long key, double weight) {
+        var estimate = Double.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            var row = counts[i];
+            var index = indexFor(key, i);
+            row[index] += weight;
+            estimate = Math.min(estimate, row[index]);
+        }
+        return estimate;
+    }
+
+    /**
+     * Estimated total weight of the key (never lower than the true value).
+     */
+    public double estimate(long key) {
+        var estimate = Double.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            estimate = Math.min(estimate, counts[i][indexFor(key, i)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * Multiply every counter by the factor (used to rescale decayed weights).
+     */
+    public void scale(double factor) {
+        for (var row : counts) {
+            for (int j = 0; j < width; j++) {
+                row[j] *= factor;
+            }
+        }
+    }
+
+    private int indexFor(long key, int row) {
+        return (int) ((mix(key ^ seeds[row]) >>> 1) % width);
+    }
+
+    // SplitMix64 finalizer: spreads sequential ids evenly over the row
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,44 @@
+package com.capstone.vsl.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Helpers for CompletableFuture pipelines.
+ */
+public final class Futures {
+
+    private Futures() {
+    }
+
+    /**
+     * The exception that actually failed a stage: dependent stages wrap it in
+     * CompletionException (join, thenApply, ...) or ExecutionException (get).
+     */
+    public static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException)
+                && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    /**
+     * Wait for the future and rethrow its failure unwrapped, for blocking callers of
+     * non-blocking code that expect the original exception type.
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (unwrap(e) instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (unwrap(e) instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
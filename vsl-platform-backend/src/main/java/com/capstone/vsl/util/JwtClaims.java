@@ -0,0 +1,42 @@
+package com.capstone.vsl.util;
+
+import com.capstone.vsl.entity.Role;
+import com.capstone.vsl.security.UserPrincipal;
+
+/**
+ * Immutable view of the claims of a verified JWT token.
+ * Produced once per request by {@link JwtUtils#parseToken(String)}.
+ *
+ * @param username  subject of the token
+ * @param userId    user id claim (null for tokens issued before it existed)
+ * @param role      role claim (null for tokens issued before it existed)
+ * @param issuedAt  issued-at time in epoch seconds
+ * @param expiresAt expiry time in epoch seconds
+ */
+public record JwtClaims(
+        String username,
+        Long userId,
+        Role role,
+        long issuedAt,
+        long expiresAt
+) {
+
+    /**
+     * Whether the token carries enough claims to build a principal without a database lookup.
+     */
+    public boolean hasPrincipalClaims() {
+        return username != null && userId != null && role != null;
+    }
+
+    /**
+     * Builds a principal from the claims.
+     *
+     * @return UserPrincipal, or null if the token lacks the id/role claims
+     */
+    public UserPrincipal toPrincipal() {
+        if (!hasPrincipalClaims()) {
+            return null;
+        }
+        return UserPrincipal.fromClaims(userId, username, role);
+    }
+}
@@ -1,8 +1,11 @@
 package com.capstone.vsl.util;
 
-import io.jsonwebtoken.Claims;
+import com.capstone.vsl.entity.Role;
+import com.capstone.vsl.security.UserPrincipal;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -10,6 +13,7 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 /**
  * JWT Utility Component
@@ -19,85 +23,110 @@ import java.util.Date;
 @Slf4j
 public class JwtUtils {
 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+
     @Value("${jwt.secret:vsl-platform-secret-key-change-this-in-production-minimum-256-bits}")
     private String jwtSecret;
 
     @Value("${jwt.expiration:86400000}") // 24 hours in milliseconds
     private long jwtExpirationMs;
 
+    // Built once at startup; both are immutable and thread-safe
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
     /**
-     * Generates a JWT access token for the given username.
+     * Builds the HMAC SHA-256 signing key and the token parser from the configured secret.
+     */
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
+    /**
+     * Generates a JWT access token for the given user.
+     * The user id and role are embedded as claims so that requests can be
+     * authenticated without loading the user from the database.
      * Token is valid for 24 hours by default.
      *
-     * @param username The username to include in the token
+     * @param principal The authenticated user to include in the token
      * @return JWT token string
      */
-    public String generateToken(String username) {
+    public String generateToken(UserPrincipal principal) {
         var now = new Date();
         var expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
         return Jwts.builder()
-                .claim("sub", username)
+                .claim("sub", principal.getUsername())
+                .claim(CLAIM_USER_ID, principal.getId())
+                .claim(CLAIM_ROLE, principal.getRole().name())
                 .claim("iat", now.getTime() / 1000)
                 .claim("exp", expiryDate.getTime() / 1000)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     /**
-     * Extracts the username from a JWT token.
-     *
-     * @param token JWT token string
-     * @return Username extracted from token
-     */
-    public String getUsernameFromToken(String token) {
-        var claims = extractAllClaims(token);
-        return claims.get("sub", String.class);
-    }
-
-    /**
-     * Validates if a JWT token is valid (not expired and signature is correct).
+     * Parses and validates a JWT token in a single pass.
+     * Verifies the signature and expiry and maps the payload to typed claims.
      *
      * @param token JWT token string
-     * @return true if token is valid, false otherwise
+     * @return typed claims if the token is valid, empty otherwise
      */
-    public boolean validateToken(String token) {
+    public Optional<JwtClaims> parseToken(String token) {
         try {
-            var claims = extractAllClaims(token);
+            var claims = jwtParser.parseSignedClaims(token).getPayload();
             var exp = claims.get("exp", Long.class);
-            if (exp == null) {
-                return false;
+            if (exp == null || exp * 1000 < System.currentTimeMillis()) {
+                return Optional.empty();
             }
-            var expiryDate = new Date(exp * 1000);
-            return !expiryDate.before(new Date());
+            var iat = claims.get("iat", Long.class);
+            return Optional.of(new JwtClaims(
+                    claims.get("sub", String.class),
+                    claims.get(CLAIM_USER_ID, Long.class),
+                    parseRole(claims.get(CLAIM_ROLE, String.class)),
+                    iat != null ? iat : 0L,
+                    exp
+            ));
         } catch (Exception e) {
             log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
 
     /**
-     * Extracts all claims from a JWT token.
+     * Extracts the username from a JWT token.
      *
      * @param token JWT token string
-     * @return Claims object containing all token data
+     * @return Username extracted from token, or null if the token is invalid
      */
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public String getUsernameFromToken(String token) {
+        return parseToken(token).map(JwtClaims::username).orElse(null);
     }
 
     /**
-     * Gets the signing key for JWT operations.
-     * Uses HMAC SHA-256 algorithm.
+     * Validates if a JWT token is valid (not expired and signature is correct).
      *
-     * @return SecretKey for signing/verifying tokens
+     * @param token JWT token string
+     * @return true if token is valid, false otherwise
      */
-    private SecretKey getSigningKey() {
-        var keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public boolean validateToken(String token) {
+        return parseToken(token).isPresent();
+    }
+
+    private Role parseRole(String role) {
+        if (role == null) {
+            return null;
+        }
+        try {
+            return Role.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            log.warn("Unknown role claim in JWT token: {}", role);
+            return null;
+        }
     }
 }
@@ -0,0 +1,33 @@
+-- Shared rate-limit buckets (rate-limit.backend=jdbc), see JdbcRateLimitBackend.
+-- Applied on startup by every node: idempotent, serialised by an advisory lock.
+--
+-- state:      Bucket4j serialized bucket state
+-- updated_at: last write of the bucket (set by trigger), idle buckets are deleted by it
+DO $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('rate_limit_bucket'), 0);
+
+    CREATE TABLE IF NOT EXISTS rate_limit_bucket (
+        id         BIGINT PRIMARY KEY,
+        state      BYTEA,
+        updated_at TIMESTAMPTZ NOT NULL DEFAULT now()
+    );
+    -- Tables created before idle expiry existed
+    ALTER TABLE rate_limit_bucket ADD COLUMN IF NOT EXISTS updated_at TIMESTAMPTZ NOT NULL DEFAULT now();
+    CREATE INDEX IF NOT EXISTS rate_limit_bucket_updated_at_idx ON rate_limit_bucket (updated_at);
+
+    CREATE OR REPLACE FUNCTION rate_limit_bucket_touch() RETURNS trigger AS $fn$
+    BEGIN
+        -- Bucket4j only writes state; an explicit updated_at (maintenance) is kept
+        IF NEW.updated_at IS NOT DISTINCT FROM OLD.updated_at THEN
+            NEW.updated_at := now();
+        END IF;
+        RETURN NEW;
+    END;
+    $fn$ LANGUAGE plpgsql;
+
+    CREATE OR REPLACE TRIGGER rate_limit_bucket_touch
+        BEFORE UPDATE ON rate_limit_bucket
+        FOR EACH ROW EXECUTE FUNCTION rate_limit_bucket_touch();
+END
+$$;
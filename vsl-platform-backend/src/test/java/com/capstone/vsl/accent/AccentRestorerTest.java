@@ -0,0 +1,96 @@
+package com.capstone.vsl.accent;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccentRestorerTest {
+
+    private static NgramModel model;
+    private static AccentRestorer restorer;
+
+    @BeforeAll
+    static void setUp() {
+        model = NgramTestModels.build(NgramTestModels.SENTENCES);
+        restorer = new AccentRestorer(model, 8);
+    }
+
+    @Test
+    void restoresTrainingSentences() {
+        for (var sentence : NgramTestModels.SENTENCES) {
+            var raw = VietnameseText.fold(sentence);
+            assertThat(restorer.restore(raw)).as(raw).isEqualTo(sentence);
+        }
+    }
+
+    @Test
+    void usesContextToPickAmongCandidates() {
+        // "ban" has several accented forms; the neighbours decide
+        assertThat(restorer.restore("chao ban")).isEqualTo("chào bạn");
+        assertThat(restorer.restore("ban nay cua ban")).isEqualTo("bàn này của bạn");
+        assertThat(restorer.restore("ban ngay")).isEqualTo("ban ngày");
+    }
+
+    @Test
+    void preservesCaseSpacingAndPunctuation() {
+        assertThat(restorer.restore("Xin CHAO cac ban!")).isEqualTo("Xin CHÀO các bạn!");
+        assertThat(restorer.restore("  cam on,  ban  ")).isEqualTo("  cảm ơn,  bạn  ");
+        assertThat(restorer.restore("123 ... ?")).isEqualTo("123 ... ?");
+        assertThat(restorer.restore("")).isEmpty();
+    }
+
+    @Test
+    void keepsUnknownAndAlreadyAccentedSyllables() {
+        assertThat(restorer.restore("xin chao hello")).isEqualTo("xin chào hello");
+        // A typed accent is kept even where the model would choose another form
+        assertThat(restorer.restore("chào bàn")).isEqualTo("chào bàn");
+    }
+
+    @Test
+    void greedyBeamStillProducesValidOutput() {
+        var greedy = new AccentRestorer(model, 1);
+        assertThat(greedy.restore("xin chao cac ban")).isEqualTo("xin chào các bạn");
+    }
+
+    @Test
+    void incrementalDecodingMatchesFullDecoding() {
+        var incremental = new AccentRestorer(model, 8, 100);
+        var session = "Xin chao cac ban, toi ten la nam. Hom nay troi dep qua, ban co khoe khong";
+
+        // Character by character, as the recognize page sends it, with a correction midway
+        for (int end = 1; end <= session.length(); end++) {
+            var text = session.substring(0, end);
+            assertThat(incremental.restore(text)).as(text).isEqualTo(restorer.restore(text));
+        }
+        assertThat(incremental.restore("xin chao cac")).isEqualTo(restorer.restore("xin chao cac"));
+        assertThat(incremental.restore("xin chao cac bn")).isEqualTo(restorer.restore("xin chao cac bn"));
+    }
+
+    @Test
+    void evictingPrefixCacheKeepsResultsCorrect() {
+        var incremental = new AccentRestorer(model, 4, 10);
+        for (var sentence : NgramTestModels.SENTENCES) {
+            var raw = VietnameseText.fold(sentence);
+            assertThat(incremental.restore(raw)).isEqualTo(sentence);
+        }
+    }
+
+    @Test
+    void foldsVietnameseLetters() {
+        assertThat(VietnameseText.fold("Đường phố ỔN ĐỊNH")).isEqualTo("duong pho on dinh");
+        assertThat(VietnameseText.hasDiacritics("duong")).isFalse();
+        assertThat(VietnameseText.hasDiacritics("đuong")).isTrue();
+    }
+
+    @Test
+    void rejectsForeignFiles() {
+        assertThatThrownBy(() -> NgramModel.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 0, 0, 0, 1})))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(NgramTestModels.build(List.of("a")).vocabularySize()).isEqualTo(4);
+    }
+}
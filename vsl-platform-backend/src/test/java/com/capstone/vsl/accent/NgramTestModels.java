@@ -0,0 +1,149 @@
+package com.capstone.vsl.accent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Builds {@link NgramModel}s from a handful of sentences, in the same binary format and with
+ * the same estimates and table layout as build_ngram.py (maximum likelihood, stupid back-off 0.4).
+ */
+public final class NgramTestModels {
+
+    /**
+     * Sentences with correct diacritics, phrases typical of the dictionary and the spelling UI.
+     */
+    public static final List<String> SENTENCES = List.of(
+            "xin chào các bạn",
+            "chào bạn",
+            "cảm ơn bạn rất nhiều",
+            "tôi là sinh viên",
+            "tôi yêu ngôn ngữ ký hiệu",
+            "bạn tên là gì",
+            "tôi tên là nam",
+            "hôm nay trời đẹp quá",
+            "chúng tôi học ngôn ngữ ký hiệu việt nam",
+            "bạn có khỏe không",
+            "tôi khỏe cảm ơn",
+            "hẹn gặp lại bạn",
+            "chúc bạn một ngày tốt lành",
+            "gia đình tôi có bốn người",
+            "tôi đi học mỗi ngày",
+            "mẹ tôi nấu cơm rất ngon",
+            "bàn này của bạn",
+            "ban ngày trời nắng",
+            "xin lỗi tôi đến muộn",
+            "bạn ăn cơm chưa"
+    );
+
+    private NgramTestModels() {
+    }
+
+    public static NgramModel build(List<String> sentences) {
+        try {
+            return NgramModel.read(new ByteArrayInputStream(write(sentences)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static byte[] write(List<String> sentences) throws IOException {
+        var unigrams = new HashMap<String, Integer>();
+        var bigrams = new LinkedHashMap<List<String>, Integer>();
+        var trigrams = new LinkedHashMap<List<String>, Integer>();
+        for (var sentence : sentences) {
+            var padded = new ArrayList<String>();
+            padded.add("<s>");
+            padded.add("<s>");
+            for (var token : AccentRestorer.tokenize(sentence.toLowerCase())) {
+                if (token.syllable()) {
+                    padded.add(token.text());
+                }
+            }
+            padded.add("</s>");
+            for (int i = 2; i < padded.size(); i++) {
+                unigrams.merge(padded.get(i), 1, Integer::sum);
+                bigrams.merge(padded.subList(i - 1, i + 1), 1, Integer::sum);
+                trigrams.merge(padded.subList(i - 2, i + 1), 1, Integer::sum);
+            }
+        }
+
+        var vocabulary = new ArrayList<>(List.of("<s>", "</s>", "<unk>"));
+        var sorted = new TreeSet<>(unigrams.keySet());
+        sorted.removeAll(vocabulary);
+        vocabulary.addAll(sorted);
+        var ids = new HashMap<String, Integer>();
+        for (int i = 0; i < vocabulary.size(); i++) {
+            ids.put(vocabulary.get(i), i);
+        }
+        var total = unigrams.values().stream().mapToInt(Integer::intValue).sum();
+
+        var bytes = new ByteArrayOutputStream();
+        var out = new DataOutputStream(bytes);
+        var unknownLogProb = (float) Math.log10(0.5 / total);
+        out.writeInt(NgramModel.MAGIC);
+        out.writeInt(NgramModel.VERSION);
+        out.writeFloat(unknownLogProb);
+        out.writeFloat((float) Math.log10(0.4));
+        out.writeInt(vocabulary.size());
+        for (var syllable : vocabulary) {
+            var utf8 = syllable.getBytes(StandardCharsets.UTF_8);
+            out.writeShort(utf8.length);
+            out.write(utf8);
+        }
+        for (var syllable : vocabulary) {
+            var count = unigrams.get(syllable);
+            out.writeFloat(count == null ? unknownLogProb : (float) Math.log10((double) count / total));
+        }
+        writeTable(out, bigrams, ids);
+        writeTable(out, trigrams, ids);
+        return bytes.toByteArray();
+    }
+
+    private static void writeTable(DataOutputStream out, Map<List<String>, Integer> counts,
+                                   Map<String, Integer> ids) throws IOException {
+        var contexts = new HashMap<List<String>, Integer>();
+        counts.forEach((ngram, count) -> contexts.merge(ngram.subList(0, ngram.size() - 1), count, Integer::sum));
+
+        var capacity = 4;
+        while (capacity < 2 * counts.size()) {
+            capacity <<= 1;
+        }
+        var keys = new long[capacity];
+        var values = new float[capacity];
+        Arrays.fill(keys, LongFloatTable.EMPTY);
+        for (var entry : counts.entrySet()) {
+            var ngram = entry.getKey();
+            var key = 0L;
+            for (var syllable : ngram) {
+                key = (key << NgramModel.ID_BITS) | ids.get(syllable);
+            }
+            var slot = LongFloatTable.slot(key, capacity - 1);
+            while (keys[slot] != LongFloatTable.EMPTY) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            keys[slot] = key;
+            values[slot] = (float) Math.log10((double) entry.getValue()
+                    / contexts.get(ngram.subList(0, ngram.size() - 1)));
+        }
+
+        out.writeInt(counts.size());
+        out.writeInt(capacity);
+        for (var key : keys) {
+            out.writeLong(key);
+        }
+        for (var value : values) {
+            out.writeFloat(value);
+        }
+    }
+}
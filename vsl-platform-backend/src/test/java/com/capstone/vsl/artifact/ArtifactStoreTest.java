@@ -0,0 +1,188 @@
+package com.capstone.vsl.artifact;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArtifactStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private ArtifactStore store;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new ArtifactStore(meterRegistry);
+        ReflectionTestUtils.setField(store, "directory", directory);
+        ReflectionTestUtils.setField(store, "verifyChecksum", true);
+    }
+
+    @Test
+    void loadsUnversionedFileAsVersionZero() throws IOException {
+        Files.writeString(directory.resolve("alphabet.txt"), "abc");
+
+        var handle = store.register("alphabet", "txt", ArtifactStoreTest::text);
+
+        assertThat(handle.version()).isZero();
+        try (var lease = handle.acquire()) {
+            assertThat(lease.get()).isEqualTo("abc");
+        }
+    }
+
+    @Test
+    void swapsInNewerVersionAndRetiresOldOneAfterLastLease() throws IOException {
+        deploy("model", 1, "one");
+        var retired = new AtomicInteger();
+        var handle = store.register("model", "bin", artifact -> new Model(text(artifact), retired));
+
+        var inFlight = handle.acquire();
+        deploy("model", 2, "two");
+        store.reload();
+
+        assertThat(handle.version()).isEqualTo(2);
+        try (var lease = handle.acquire()) {
+            assertThat(lease.get().text()).isEqualTo("two");
+        }
+        // The in-flight request still sees version 1 until it is done
+        assertThat(inFlight.get().text()).isEqualTo("one");
+        assertThat(retired).hasValue(0);
+        inFlight.close();
+        inFlight.close();
+        assertThat(retired).hasValue(1);
+        assertThat(meterRegistry.get("vsl.artifact.reloads").tag("result", "success").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void ignoresVersionsWithoutChecksumAndRejectsCorruptOnes() throws IOException {
+        deploy("model", 1, "one");
+        var handle = store.register("model", "bin", ArtifactStoreTest::text);
+
+        // Still being copied: no checksum file yet
+        Files.writeString(directory.resolve("model/2.bin"), "partial");
+        store.reload();
+        assertThat(handle.version()).isEqualTo(1);
+
+        // Checksum does not match the contents
+        Files.writeString(directory.resolve("model/3.bin"), "three");
+        Files.writeString(directory.resolve("model/3.bin.sha256"), sha256("something else") + "  3.bin\n");
+        store.reload();
+        assertThat(handle.version()).isEqualTo(1);
+        assertThat(meterRegistry.get("vsl.artifact.reloads").tag("result", "failure").counter().count()).isEqualTo(1.0);
+
+        try (var lease = handle.acquire()) {
+            assertThat(lease.get()).isEqualTo("one");
+        }
+    }
+
+    @Test
+    void retriesRejectedVersionOnlyOnceItChanges() throws IOException {
+        deploy("model", 1, "one");
+        var handle = store.register("model", "bin", ArtifactStoreTest::text);
+
+        Files.writeString(directory.resolve("model/2.bin"), "two");
+        Files.writeString(directory.resolve("model/2.bin.sha256"), sha256("something else") + "  2.bin\n");
+        store.reload();
+        store.reload();
+        assertThat(handle.version()).isEqualTo(1);
+        assertThat(meterRegistry.get("vsl.artifact.reloads").tag("result", "failure").counter().count()).isEqualTo(1.0);
+
+        // Checksum fixed: the version is tried again
+        Files.writeString(directory.resolve("model/2.bin.sha256"), sha256("two") + "  2.bin\n");
+        store.reload();
+        assertThat(handle.version()).isEqualTo(2);
+    }
+
+    @Test
+    void fallsBackToNextNewestValidVersion() throws IOException {
+        deploy("model", 1, "one");
+        deploy("model", 2, "two");
+        Files.writeString(directory.resolve("model/3.bin"), "three");
+        Files.writeString(directory.resolve("model/3.bin.sha256"), sha256("something else") + "  3.bin\n");
+
+        var handle = store.register("model", "bin", ArtifactStoreTest::text);
+        assertThat(handle.version()).isEqualTo(2);
+
+        // A newer valid version behind a corrupt one is loaded as well
+        Files.writeString(directory.resolve("model/5.bin"), "five");
+        Files.writeString(directory.resolve("model/5.bin.sha256"), sha256("other") + "  5.bin\n");
+        deploy("model", 4, "four");
+        store.reload();
+        assertThat(handle.version()).isEqualTo(4);
+    }
+
+    @Test
+    void failsStartupWhenNoVersionIsValid() throws IOException {
+        Files.createDirectories(directory.resolve("model"));
+        Files.writeString(directory.resolve("model/1.bin"), "one");
+        Files.writeString(directory.resolve("model/1.bin.sha256"), sha256("other") + "  1.bin\n");
+
+        assertThatThrownBy(() -> store.register("model", "bin", ArtifactStoreTest::text))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void keepsServingWhenLoaderRejectsNewVersion() throws IOException {
+        deploy("model", 1, "good");
+        var handle = store.register("model", "bin", artifact -> {
+            var text = text(artifact);
+            if (!text.equals("good")) {
+                throw new IllegalArgumentException("bad model");
+            }
+            return text;
+        });
+
+        deploy("model", 2, "bad");
+        store.reload();
+
+        assertThat(handle.version()).isEqualTo(1);
+    }
+
+    @Test
+    void failsStartupWhenArtifactIsMissing() {
+        assertThatThrownBy(() -> store.register("missing", "bin", ArtifactStoreTest::text))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private void deploy(String name, long version, String contents) throws IOException {
+        var versions = Files.createDirectories(directory.resolve(name));
+        Files.writeString(versions.resolve(version + ".bin"), contents);
+        Files.writeString(versions.resolve(version + ".bin.sha256"), sha256(contents) + "  " + version + ".bin\n");
+    }
+
+    private static String text(MappedArtifact artifact) {
+        return StandardCharsets.UTF_8.decode(artifact.buffer()).toString();
+    }
+
+    private static String sha256(String contents) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(contents.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Model(String text, AtomicInteger retired) implements AutoCloseable {
+        @Override
+        public void close() {
+            retired.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.capstone.vsl.benchmark;
+
+import com.capstone.vsl.accent.AccentRestorer;
+import com.capstone.vsl.accent.NgramTestModels;
+import com.capstone.vsl.accent.VietnameseText;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Accuracy of in-JVM accent restoration: every sentence of a held-out corpus (correctly
+ * accented, one sentence per line, not used to build the model) is stripped of its
+ * diacritics, restored, and compared syllable by syllable with the original.
+ *
+ * Prints syllable and sentence accuracy for several beam widths.
+ *
+ * Run with: ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ *           -Dexec.mainClass=com.capstone.vsl.benchmark.AccentRestorerAccuracy
+ *           -Dvsl.ngram.model=models/vi-syllable-ngram.bin -Dexec.args=held-out.txt
+ *
+ * Without arguments, the built-in sentences are used (a smoke test, not a measurement).
+ */
+public class AccentRestorerAccuracy {
+
+    private static final int[] BEAM_WIDTHS = {1, 2, 4, 8, 16};
+
+    public static void main(String[] args) throws IOException {
+        var model = AccentRestorerBenchmark.loadModel();
+        List<String> sentences = args.length > 0
+                ? Files.readAllLines(Path.of(args[0]), StandardCharsets.UTF_8).stream()
+                        .map(String::strip)
+                        .filter(line -> !line.isEmpty())
+                        .toList()
+                : NgramTestModels.SENTENCES;
+
+        System.out.printf("%d sentences%n", sentences.size());
+        System.out.printf("%-6s %10s %10s %12s%n", "beam", "syllable", "sentence", "sentences/s");
+        for (var beamWidth : BEAM_WIDTHS) {
+            var restorer = new AccentRestorer(model, beamWidth);
+            var syllables = 0;
+            var correctSyllables = 0;
+            var correctSentences = 0;
+            var start = System.nanoTime();
+            for (var sentence : sentences) {
+                var expected = sentence.split("\\s+");
+                var actual = restorer.restore(VietnameseText.fold(sentence)).split("\\s+");
+                var correct = 0;
+                for (int i = 0; i < Math.min(expected.length, actual.length); i++) {
+                    if (expected[i].equalsIgnoreCase(actual[i])) {
+                        correct++;
+                    }
+                }
+                syllables += expected.length;
+                correctSyllables += correct;
+                if (correct == expected.length) {
+                    correctSentences++;
+                }
+            }
+            var seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%-6d %9.2f%% %9.2f%% %12.0f%n", beamWidth,
+                    100.0 * correctSyllables / syllables,
+                    100.0 * correctSentences / sentences.size(),
+                    sentences.size() / seconds);
+        }
+    }
+}
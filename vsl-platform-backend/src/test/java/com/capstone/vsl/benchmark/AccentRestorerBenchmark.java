@@ -0,0 +1,87 @@
+package com.capstone.vsl.benchmark;
+
+import com.capstone.vsl.accent.AccentRestorer;
+import com.capstone.vsl.accent.NgramModel;
+import com.capstone.vsl.accent.NgramTestModels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of in-JVM accent restoration (decoding only, no result cache), compared with
+ * the ~ms round trip of the Python /fix-diacritics endpoint.
+ *
+ * "short" is a typical spelled phrase, "long" a sentence of ~25 syllables. The beam width
+ * trades accuracy (see {@link AccentRestorerAccuracy}) for speed.
+ *
+ * Uses a small built-in model unless -Dvsl.ngram.model=path/to/vi-syllable-ngram.bin is set;
+ * a real model has many more candidates per syllable and is the figure to report.
+ *
+ * Run with: ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ *           -Dexec.mainClass=com.capstone.vsl.benchmark.AccentRestorerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(1)
+@Fork(1)
+public class AccentRestorerBenchmark {
+
+    private static final String SHORT = "xin chao cac ban";
+    private static final String LONG = "hom nay chung toi hoc ngon ngu ky hieu viet nam, "
+            + "ban co khoe khong, toi khoe cam on, hen gap lai ban";
+
+    @Param({"1", "4", "8", "16"})
+    public int beamWidth;
+
+    @Param({"short", "long"})
+    public String text;
+
+    private AccentRestorer restorer;
+    private String input;
+
+    @Setup
+    public void setUp() throws IOException {
+        restorer = new AccentRestorer(loadModel(), beamWidth);
+        input = text.equals("short") ? SHORT : LONG;
+    }
+
+    @Benchmark
+    public String restore() {
+        return restorer.restore(input);
+    }
+
+    static NgramModel loadModel() throws IOException {
+        var path = System.getProperty("vsl.ngram.model");
+        if (path == null) {
+            return NgramTestModels.build(NgramTestModels.SENTENCES);
+        }
+        try (var in = new FileInputStream(path)) {
+            return NgramModel.read(in);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AccentRestorerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,155 @@
+package com.capstone.vsl.benchmark;
+
+import com.capstone.vsl.integration.dto.LandmarkDTO;
+import com.capstone.vsl.recognition.LandmarkFeatures;
+import com.capstone.vsl.recognition.MlpKernels;
+import com.capstone.vsl.recognition.MlpModel;
+import com.capstone.vsl.recognition.ScalarKernels;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-core throughput of the in-JVM gesture classifier, scalar vs SIMD kernels.
+ *
+ * One invocation classifies a window of "batch" frames (wrist normalization, scaling and
+ * the forward pass per frame), like one /api/vsl/predict request. The "frames" counter is
+ * the figure to compare: frames/sec per core for batch sizes 1, 8, 32 and 128.
+ *
+ * The model is random but shaped like the production classifier (63-128-64-29).
+ *
+ * Run with: ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ *           -Dexec.mainClass=com.capstone.vsl.benchmark.GestureClassifierBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class GestureClassifierBenchmark {
+
+    private static final int[] LAYER_SIZES = {63, 128, 64, 29};
+
+    @Param({"1", "8", "32", "128"})
+    public int batch;
+
+    @Param({"scalar", "vector"})
+    public String kernels;
+
+    private MlpModel model;
+    private MlpModel.Workspace workspace;
+    private List<List<LandmarkDTO>> frames;
+    private float[] features;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class FrameCounter {
+        public long frames;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            frames = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        var random = new Random(42);
+        var objectMapper = new ObjectMapper();
+        var selected = kernels.equals("vector") ? MlpKernels.create(true) : new ScalarKernels();
+        if (kernels.equals("vector") && selected instanceof ScalarKernels) {
+            throw new IllegalStateException("Vector API not available, run with --add-modules jdk.incubator.vector");
+        }
+        model = MlpModel.read(new ByteArrayInputStream(objectMapper.writeValueAsBytes(randomArtifact(random))),
+                objectMapper, selected);
+        workspace = model.newWorkspace();
+        features = new float[LandmarkFeatures.FEATURES];
+
+        frames = new ArrayList<>(batch);
+        for (int f = 0; f < batch; f++) {
+            var landmarks = new ArrayList<LandmarkDTO>(LandmarkFeatures.LANDMARKS);
+            for (int i = 0; i < LandmarkFeatures.LANDMARKS; i++) {
+                landmarks.add(new LandmarkDTO(random.nextFloat(), random.nextFloat(), random.nextFloat() * 0.1f));
+            }
+            frames.add(landmarks);
+        }
+    }
+
+    @Benchmark
+    public void classifyWindow(FrameCounter counter, Blackhole blackhole) {
+        for (var landmarks : frames) {
+            LandmarkFeatures.extract(landmarks, features);
+            blackhole.consume(model.predict(features, workspace));
+            blackhole.consume(workspace.confidence());
+        }
+        counter.frames += batch;
+    }
+
+    private static Map<String, Object> randomArtifact(Random random) {
+        var classes = new ArrayList<String>();
+        for (int c = 0; c < LAYER_SIZES[LAYER_SIZES.length - 1]; c++) {
+            classes.add(String.valueOf((char) ('a' + c)));
+        }
+        var layers = new ArrayList<Map<String, Object>>();
+        for (int l = 0; l + 1 < LAYER_SIZES.length; l++) {
+            var layer = new LinkedHashMap<String, Object>();
+            layer.put("inputs", LAYER_SIZES[l]);
+            layer.put("outputs", LAYER_SIZES[l + 1]);
+            layer.put("weights", gaussian(random, LAYER_SIZES[l] * LAYER_SIZES[l + 1], (float) Math.sqrt(2.0 / LAYER_SIZES[l])));
+            layer.put("bias", gaussian(random, LAYER_SIZES[l + 1], 0.1f));
+            layers.add(layer);
+        }
+        var scale = new float[LAYER_SIZES[0]];
+        Arrays.fill(scale, 0.2f);
+
+        var artifact = new LinkedHashMap<String, Object>();
+        artifact.put("classes", classes);
+        artifact.put("scaler", Map.of("mean", gaussian(random, LAYER_SIZES[0], 0.1f), "scale", scale));
+        artifact.put("hidden_activation", "relu");
+        artifact.put("output_activation", "softmax");
+        artifact.put("layers", layers);
+        return artifact;
+    }
+
+    private static float[] gaussian(Random random, int n, float std) {
+        var values = new float[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = (float) random.nextGaussian() * std;
+        }
+        return values;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(GestureClassifierBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
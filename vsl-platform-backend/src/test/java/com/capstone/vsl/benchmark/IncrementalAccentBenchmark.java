@@ -0,0 +1,95 @@
+package com.capstone.vsl.benchmark;
+
+import com.capstone.vsl.accent.AccentRestorer;
+import com.capstone.vsl.accent.NgramModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a whole signing session on the recognize page: the accumulated text is restored
+ * after every new character, so a session of n characters sends n growing texts.
+ *
+ * Full decoding re-decodes every syllable each time (quadratic in the session length);
+ * incremental decoding only re-expands the syllables after the cached prefix. The average
+ * time per session is the figure to compare; it should grow linearly with "syllables" in
+ * incremental mode.
+ *
+ * Run with: ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ *           -Dexec.mainClass=com.capstone.vsl.benchmark.IncrementalAccentBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(1)
+@Fork(1)
+public class IncrementalAccentBenchmark {
+
+    private static final String[] PHRASES = {
+            "xin chao cac ban", "toi ten la nam", "hom nay troi dep qua",
+            "ban co khoe khong", "toi khoe cam on", "hen gap lai ban"
+    };
+
+    @Param({"10", "40", "160"})
+    public int syllables;
+
+    @Param({"false", "true"})
+    public boolean incremental;
+
+    private NgramModel model;
+    private AccentRestorer restorer;
+    private String session;
+
+    @Setup
+    public void setUp() throws IOException {
+        model = AccentRestorerBenchmark.loadModel();
+
+        var words = String.join(" ", PHRASES).split(" ");
+        var text = new StringJoiner(" ");
+        for (int i = 0; i < syllables; i++) {
+            text.add(words[i % words.length]);
+        }
+        session = text.toString();
+    }
+
+    /**
+     * Every session starts with an empty prefix cache, like a new text on the page.
+     */
+    @Setup(Level.Invocation)
+    public void newRestorer() {
+        restorer = new AccentRestorer(model, 8, incremental ? 2000 : 0);
+    }
+
+    @Benchmark
+    public void typingSession(Blackhole blackhole) {
+        for (int end = 1; end <= session.length(); end++) {
+            blackhole.consume(restorer.restore(session.substring(0, end)));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IncrementalAccentBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,90 @@
+package com.capstone.vsl.benchmark;
+
+import com.capstone.vsl.entity.Role;
+import com.capstone.vsl.security.UserPrincipal;
+import com.capstone.vsl.util.JwtUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of JWT verification.
+ *
+ * legacyValidateThenExtract reproduces the previous JwtUtils behaviour: the HMAC key and
+ * the parser are rebuilt on every call and the token is parsed twice (validate + username).
+ * parseToken is the current single parse with the key and parser built once at startup.
+ *
+ * Run with: ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ *           -Dexec.mainClass=com.capstone.vsl.benchmark.JwtUtilsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilsBenchmark {
+
+    private static final String SECRET =
+            "vsl-platform-secret-key-change-this-in-production-minimum-256-bits-for-hmac-sha256";
+
+    private JwtUtils jwtUtils;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 86_400_000L);
+        jwtUtils.init();
+        token = jwtUtils.generateToken(UserPrincipal.fromClaims(42L, "benchmark-user", Role.USER));
+    }
+
+    @Benchmark
+    public String legacyValidateThenExtract() {
+        var claims = legacyExtractAllClaims(token);
+        var exp = claims.get("exp", Long.class);
+        if (exp == null || new Date(exp * 1000).before(new Date())) {
+            return null;
+        }
+        return legacyExtractAllClaims(token).get("sub", String.class);
+    }
+
+    @Benchmark
+    public Object parseToken() {
+        return jwtUtils.parseToken(token).orElse(null);
+    }
+
+    private Claims legacyExtractAllClaims(String jwt) {
+        var key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(jwt)
+                .getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtUtilsBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,144 @@
+package com.capstone.vsl.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.capstone.vsl.logging.RequestIdFilter;
+import com.capstone.vsl.logging.RequestSamplingFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caller-side cost of the per-request log lines of the recognition hot path.
+ *
+ * - sync: previous setup, every INFO line is formatted and written on the request thread
+ * - async: AsyncAppender as in logback-spring.xml, the request thread only enqueues
+ * - asyncSampled: async plus RequestSamplingFilter at 10% (production default)
+ * - debugDisabled: the payload lines after demotion to DEBUG with the logger at INFO
+ *
+ * Output goes to a temp file so the numbers are not dominated by the terminal.
+ * Each invocation uses a fresh request id, like a new HTTP request.
+ *
+ * Run with: ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ *           -Dexec.mainClass=com.capstone.vsl.benchmark.LoggingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class LoggingBenchmark {
+
+    @Param({"sync", "async", "asyncSampled", "debugDisabled"})
+    public String mode;
+
+    private LoggerContext context;
+    private Logger logger;
+    private Appender<ILoggingEvent> appender;
+    private Path logFile;
+    private final String currentText = "xin chao cac ban toi ten la";
+
+    @Setup
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("vsl-logging-benchmark", ".log");
+        // Shared context, so events see the same MDC adapter as org.slf4j.MDC
+        context = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        var encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%X{requestId:-}] %t %logger{36} : %m%n");
+        encoder.start();
+
+        var file = new FileAppender<ILoggingEvent>();
+        file.setContext(context);
+        file.setFile(logFile.toString());
+        file.setEncoder(encoder);
+        file.start();
+
+        appender = file;
+        if (!mode.equals("sync") && !mode.equals("debugDisabled")) {
+            var async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(file);
+            if (mode.equals("asyncSampled")) {
+                var sampling = new RequestSamplingFilter();
+                sampling.setContext(context);
+                sampling.setRate(0.1);
+                sampling.setLoggers("com.capstone.vsl");
+                sampling.start();
+                async.addFilter(sampling);
+            }
+            async.start();
+            appender = async;
+        }
+
+        logger = context.getLogger("com.capstone.vsl.integration.GestureIntegrationService");
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        logger.detachAppender(appender);
+        // Stopping the async appender drains its queue into the file appender first
+        appender.stop();
+        if (appender instanceof AsyncAppender async) {
+            async.iteratorForAppenders().forEachRemaining(Appender::stop);
+        }
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public void recognitionRequest() {
+        MDC.put(RequestIdFilter.MDC_KEY, Long.toHexString(ThreadLocalRandom.current().nextLong()));
+        try {
+            if (mode.equals("debugDisabled")) {
+                logger.debug("Received gesture request with {} frames, current_text length {}", 30, currentText.length());
+                logger.debug("Unified AI service returned: '{}' (confidence: {}, raw_char: '{}')", "a", 0.97, "a");
+            } else {
+                logger.info("Received gesture request with [{}] frames, current_text: '{}'", 30, currentText);
+                logger.info("Unified AI service returned: '{}' (confidence: {}, raw_char: '{}')\n", "a", 0.97, "a");
+            }
+        } finally {
+            MDC.remove(RequestIdFilter.MDC_KEY);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LoggingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
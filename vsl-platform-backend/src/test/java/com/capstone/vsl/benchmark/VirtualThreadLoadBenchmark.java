@@ -0,0 +1,137 @@
+package com.capstone.vsl.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load against a running backend: N concurrent users, each sending its next
+ * request as soon as the previous one is answered. Used to compare the backend with and
+ * without virtual threads (spring.threads.virtual.enabled).
+ *
+ * Start the backend once per mode, then run this against it:
+ *
+ *   ./mvnw spring-boot:run -Dspring-boot.run.arguments=--spring.threads.virtual.enabled=true
+ *   ./mvnw spring-boot:run -Dspring-boot.run.arguments=--spring.threads.virtual.enabled=false
+ *
+ * Add -Djdk.tracePinnedThreads=short to the backend JVM to log virtual threads pinned to
+ * their carrier (blocking inside synchronized or native frames).
+ *
+ * Run with: ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ *           -Dexec.mainClass=com.capstone.vsl.benchmark.VirtualThreadLoadBenchmark
+ *           -Dvsl.load.url=http://localhost:8081/api/dictionary/search?query=xin
+ *           -Dvsl.load.users=1000,2000 -Dvsl.load.duration=30 -Dvsl.load.warmup=10
+ *
+ * Prints requests/s, errors and latency percentiles per user count.
+ * The default endpoint is not rate-limited; AI endpoints are, and would measure the limiter.
+ *
+ * Status: the two modes have not been compared yet, and there are no reference numbers.
+ * The comparison needs the backend running against real PostgreSQL and Elasticsearch on
+ * production-like hardware. Until it is run, virtual threads being the default is based only
+ * on the blocking profile of the routes, not on measured throughput or latency.
+ */
+public class VirtualThreadLoadBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        var url = URI.create(System.getProperty("vsl.load.url",
+                "http://localhost:8081/api/dictionary/search?query=xin"));
+        var userCounts = Arrays.stream(System.getProperty("vsl.load.users", "1000,2000").split(","))
+                .map(String::strip)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        var duration = Duration.ofSeconds(Long.getLong("vsl.load.duration", 30));
+        var warmup = Duration.ofSeconds(Long.getLong("vsl.load.warmup", 10));
+
+        var client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        var request = HttpRequest.newBuilder(url)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        System.out.printf("%s, warmup %ds, measured %ds%n", url, warmup.toSeconds(), duration.toSeconds());
+        System.out.printf("%-7s %10s %9s %8s %8s %8s %8s %8s%n",
+                "users", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "max ms", "statuses");
+        for (var users : userCounts) {
+            run(client, request, users, warmup);
+            var result = run(client, request, users, duration);
+            System.out.printf("%-7d %10.0f %9d %8.1f %8.1f %8.1f %8.1f %s%n",
+                    users, result.latencies.length / (duration.toNanos() / 1e9), result.errors,
+                    result.percentile(0.50), result.percentile(0.90), result.percentile(0.99),
+                    result.percentile(1.0), result.statuses);
+        }
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int users, Duration duration)
+            throws InterruptedException {
+        var deadline = System.nanoTime() + duration.toNanos();
+        var perUser = new long[users][];
+        var counts = new int[users];
+        var errors = new LongAdder();
+        var statuses = new ConcurrentHashMap<Integer, LongAdder>();
+
+        // One virtual thread per user: the driver itself must not be the bottleneck at 1k+ users
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int u = 0; u < users; u++) {
+                var user = u;
+                executor.submit(() -> {
+                    var latencies = new long[1024];
+                    var count = 0;
+                    while (System.nanoTime() < deadline) {
+                        var start = System.nanoTime();
+                        try {
+                            var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            statuses.computeIfAbsent(response.statusCode(), ignored -> new LongAdder()).increment();
+                        } catch (Exception e) {
+                            errors.increment();
+                            continue;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    perUser[user] = latencies;
+                    counts[user] = count;
+                });
+            }
+        }
+
+        var total = 0;
+        for (var count : counts) {
+            total += count;
+        }
+        var merged = new long[total];
+        var offset = 0;
+        for (int u = 0; u < users; u++) {
+            System.arraycopy(perUser[u], 0, merged, offset, counts[u]);
+            offset += counts[u];
+        }
+        Arrays.sort(merged);
+
+        var statusCounts = new ArrayList<String>();
+        statuses.forEach((status, count) -> statusCounts.add(status + "=" + count.sum()));
+        return new Result(merged, errors.sum(), String.join(",", statusCounts));
+    }
+
+    private record Result(long[] latencies, long errors, String statuses) {
+
+        double percentile(double p) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            var index = (int) Math.ceil(p * latencies.length) - 1;
+            return latencies[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.capstone.vsl.integration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Concurrent identical calls must share one upstream call (result and exception),
+ * while different keys and later calls run on their own.
+ */
+class AiCallCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AiCallCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new AiCallCoalescer(meterRegistry);
+        ReflectionTestUtils.setField(coalescer, "enabled", true);
+    }
+
+    @Test
+    void concurrentIdenticalCallsShareOneUpstreamCall() throws Exception {
+        var upstreamCalls = new AtomicInteger();
+        var upstream = new CompletableFuture<String>();
+
+        var results = new ArrayList<CompletableFuture<String>>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(coalescer.execute("fix-diacritics", "same", () -> {
+                upstreamCalls.incrementAndGet();
+                return upstream;
+            }));
+        }
+        upstream.complete("xin chào");
+
+        for (var result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("xin chào");
+        }
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("vsl.ai.coalesced").tag("operation", "fix-diacritics").counter().count())
+                .isEqualTo((double) CALLERS - 1);
+    }
+
+    @Test
+    void followersGetTheLeadersException() {
+        var upstream = new CompletableFuture<String>();
+
+        var results = new ArrayList<CompletableFuture<String>>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(coalescer.execute("predict", "same", () -> upstream));
+        }
+        upstream.completeExceptionally(new IllegalArgumentException("No valid predictions"));
+
+        for (var result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void errorWhileStartingTheCallReleasesTheFlight() throws Exception {
+        var leader = coalescer.execute("predict", "same", () -> {
+            throw new StackOverflowError();
+        });
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(StackOverflowError.class);
+        assertThat(coalescer.execute("predict", "same", () -> CompletableFuture.completedFuture("a"))
+                .get(5, TimeUnit.SECONDS)).isEqualTo("a");
+    }
+
+    @Test
+    void cancelledCallerDoesNotCancelTheSharedCall() throws Exception {
+        var upstream = new CompletableFuture<String>();
+
+        var first = coalescer.execute("predict", "same", () -> upstream);
+        var second = coalescer.execute("predict", "same", () -> upstream);
+        first.cancel(false);
+        upstream.complete("a");
+
+        assertThat(upstream.isCancelled()).isFalse();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+    }
+
+    @Test
+    void completedCallsAreNotCached() {
+        var upstreamCalls = new AtomicInteger();
+
+        coalescer.execute("fix-diacritics", "same",
+                () -> CompletableFuture.completedFuture(upstreamCalls.incrementAndGet())).join();
+        coalescer.execute("fix-diacritics", "same",
+                () -> CompletableFuture.completedFuture(upstreamCalls.incrementAndGet())).join();
+        coalescer.execute("predict", "same",
+                () -> CompletableFuture.completedFuture(upstreamCalls.incrementAndGet())).join();
+
+        assertThat(upstreamCalls.get()).isEqualTo(3);
+    }
+}
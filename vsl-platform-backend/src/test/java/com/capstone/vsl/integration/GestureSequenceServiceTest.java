@@ -0,0 +1,102 @@
+package com.capstone.vsl.integration;
+
+import com.capstone.vsl.integration.dto.GestureInputDTO;
+import com.capstone.vsl.integration.dto.GesturePrediction;
+import com.capstone.vsl.integration.dto.HandFrameDTO;
+import com.capstone.vsl.integration.dto.LandmarkDTO;
+import com.capstone.vsl.integration.dto.SequenceEventDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A long stream must not start all of its windows at once: at most max-in-flight
+ * classifications run per request, and cancelling stops the windows not yet started.
+ */
+class GestureSequenceServiceTest {
+
+    private static final int WINDOWS = 20;
+    private static final int MAX_IN_FLIGHT = 3;
+
+    private final ConcurrentLinkedQueue<CompletableFuture<GesturePrediction>> calls = new ConcurrentLinkedQueue<>();
+    private GestureSequenceService service;
+
+    @BeforeEach
+    void setUp() {
+        var integration = mock(GestureIntegrationService.class);
+        when(integration.classify(any(GestureInputDTO.class))).thenAnswer(invocation -> {
+            var call = new CompletableFuture<GesturePrediction>();
+            calls.add(call);
+            return call;
+        });
+        service = new GestureSequenceService(integration, Runnable::run);
+        ReflectionTestUtils.setField(service, "motionThreshold", 0.1);
+        ReflectionTestUtils.setField(service, "minFrames", 5);
+        ReflectionTestUtils.setField(service, "maxFramesPerCharacter", 30);
+        ReflectionTestUtils.setField(service, "maxFrames", 3600);
+        ReflectionTestUtils.setField(service, "maxInFlight", MAX_IN_FLIGHT);
+        service.init();
+    }
+
+    @Test
+    void keepsAtMostMaxInFlightWindowsRunning() throws Exception {
+        var events = new ArrayList<SequenceEventDTO>();
+        var result = service.recognize(stream(WINDOWS), events::add);
+
+        var completed = 0;
+        while (completed < WINDOWS) {
+            assertThat(running()).isBetween(1L, (long) MAX_IN_FLIGHT);
+            calls.stream().filter(call -> !call.isDone()).findFirst().orElseThrow()
+                    .complete(new GesturePrediction("a", 0.9, 6, 6));
+            completed++;
+        }
+        result.get(5, TimeUnit.SECONDS);
+
+        assertThat(calls).hasSize(WINDOWS);
+        assertThat(events).hasSize(WINDOWS + 1);
+        assertThat(events.get(WINDOWS).text()).isEqualTo("a".repeat(WINDOWS));
+    }
+
+    @Test
+    void cancellingStopsWindowsNotStartedYet() {
+        var result = service.recognize(stream(WINDOWS), event -> { });
+        result.cancel(false);
+
+        calls.forEach(call -> call.complete(new GesturePrediction("a", 0.9, 6, 6)));
+
+        assertThat(calls).hasSize(MAX_IN_FLIGHT);
+    }
+
+    private long running() {
+        return calls.stream().filter(call -> !call.isDone()).count();
+    }
+
+    /**
+     * count still holds of 6 frames, separated by frames without a hand.
+     */
+    private static List<HandFrameDTO> stream(int count) {
+        var landmarks = new ArrayList<LandmarkDTO>();
+        for (int i = 0; i < 21; i++) {
+            landmarks.add(new LandmarkDTO(0.5f + 0.01f * i, 0.5f + 0.005f * i, 0f));
+        }
+        var frames = new ArrayList<HandFrameDTO>();
+        for (int w = 0; w < count; w++) {
+            for (int f = 0; f < 6; f++) {
+                frames.add(new HandFrameDTO(landmarks));
+            }
+            frames.add(new HandFrameDTO(List.of()));
+        }
+        return frames;
+    }
+}
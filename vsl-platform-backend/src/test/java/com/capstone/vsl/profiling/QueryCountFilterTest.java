@@ -0,0 +1,95 @@
+package com.capstone.vsl.profiling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The profiling filter must not break async handlers: a CompletableFuture body reaches
+ * the client with the header, and an emitter's output is streamed, not buffered.
+ */
+class QueryCountFilterTest {
+
+    private final TestController controller = new TestController();
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addFilters(new QueryCountFilter(5, new SimpleMeterRegistry()))
+                .build();
+    }
+
+    @Test
+    void synchronousResponseGetsTheHeader() throws Exception {
+        mockMvc.perform(get("/api/sync"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryCountFilter.QUERY_COUNT_HEADER, "0"))
+                .andExpect(content().string("sync"));
+    }
+
+    @Test
+    void asyncResponseIsCompletedInTheAsyncDispatch() throws Exception {
+        var result = mockMvc.perform(get("/api/future"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsString()).isEmpty();
+        assertThat(result.getResponse().isCommitted()).isFalse();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryCountFilter.QUERY_COUNT_HEADER, "0"))
+                .andExpect(content().string("future"));
+    }
+
+    @Test
+    void emitterOutputIsStreamedBeforeCompletion() throws Exception {
+        var result = mockMvc.perform(get("/api/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        controller.emitter.send("{\"n\":1}\n", MediaType.APPLICATION_NDJSON);
+
+        // Sent after the handler returned, not completed yet: must already be on the wire
+        assertThat(result.getResponse().getContentAsString()).isEqualTo("{\"n\":1}\n");
+    }
+
+    @RestController
+    static class TestController {
+
+        private ResponseBodyEmitter emitter;
+
+        @GetMapping("/api/sync")
+        String sync() {
+            return "sync";
+        }
+
+        @GetMapping("/api/future")
+        CompletableFuture<String> future() {
+            return CompletableFuture.supplyAsync(() -> "future");
+        }
+
+        @GetMapping("/api/stream")
+        ResponseEntity<ResponseBodyEmitter> stream() {
+            emitter = new ResponseBodyEmitter();
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+        }
+    }
+}
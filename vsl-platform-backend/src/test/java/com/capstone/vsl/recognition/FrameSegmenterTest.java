@@ -0,0 +1,142 @@
+package com.capstone.vsl.recognition;
+
+import com.capstone.vsl.integration.dto.HandFrameDTO;
+import com.capstone.vsl.integration.dto.LandmarkDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FrameSegmenter on synthetic fingerspelling: held poses separated by transitions must
+ * become one window each, independent of how far the hand is from the camera.
+ */
+class FrameSegmenterTest {
+
+    private final FrameSegmenter segmenter = new FrameSegmenter(new FrameSegmenter.Settings(0.1, 5, 30));
+
+    @Test
+    void heldPosesSeparatedByTransitionsBecomeOneWindowEach() {
+        var frames = new ArrayList<HandFrameDTO>();
+        hold(frames, pose(0.0f), 15, 1.0f);
+        transition(frames, pose(0.0f), pose(1.0f), 10, 1.0f);
+        hold(frames, pose(1.0f), 15, 1.0f);
+
+        var segments = segmenter.segment(frames);
+
+        assertThat(segments).hasSize(2);
+        assertThat(segments.get(0).start()).isLessThan(15);
+        assertThat(segments.get(0).end()).isLessThanOrEqualTo(16);
+        assertThat(segments.get(1).start()).isGreaterThanOrEqualTo(24);
+        assertThat(segments.get(1).end()).isEqualTo(40);
+    }
+
+    @Test
+    void thresholdDoesNotDependOnHandSize() {
+        var near = new ArrayList<HandFrameDTO>();
+        hold(near, pose(0.0f), 15, 2.0f);
+        transition(near, pose(0.0f), pose(1.0f), 10, 2.0f);
+        hold(near, pose(1.0f), 15, 2.0f);
+
+        var far = new ArrayList<HandFrameDTO>();
+        hold(far, pose(0.0f), 15, 0.5f);
+        transition(far, pose(0.0f), pose(1.0f), 10, 0.5f);
+        hold(far, pose(1.0f), 15, 0.5f);
+
+        assertThat(segmenter.segment(near)).isEqualTo(segmenter.segment(far));
+    }
+
+    @Test
+    void shortHoldsAreDroppedAndLongHoldsAreCentered() {
+        var frames = new ArrayList<HandFrameDTO>();
+        hold(frames, pose(0.0f), 3, 1.0f);
+        transition(frames, pose(0.0f), pose(1.0f), 10, 1.0f);
+        hold(frames, pose(1.0f), 100, 1.0f);
+
+        var segments = segmenter.segment(frames);
+
+        assertThat(segments).hasSize(1);
+        var segment = segments.get(0);
+        assertThat(segment.length()).isEqualTo(30);
+        var middle = (segment.start() + segment.end()) / 2;
+        assertThat(middle).isBetween(55, 70);
+    }
+
+    @Test
+    void framesWithoutHandSplitWindows() {
+        var frames = new ArrayList<HandFrameDTO>();
+        hold(frames, pose(0.0f), 10, 1.0f);
+        frames.add(new HandFrameDTO(List.of()));
+        frames.add(null);
+        hold(frames, pose(0.0f), 10, 1.0f);
+
+        var segments = segmenter.segment(frames);
+
+        assertThat(segments).containsExactly(
+                new FrameSegmenter.Segment(0, 10),
+                new FrameSegmenter.Segment(12, 22));
+    }
+
+    @Test
+    void continuousMotionHasNoWindows() {
+        var frames = new ArrayList<HandFrameDTO>();
+        for (int i = 0; i < 5; i++) {
+            transition(frames, pose(0.0f), pose(1.0f), 8, 1.0f);
+            transition(frames, pose(1.0f), pose(0.0f), 8, 1.0f);
+        }
+
+        assertThat(segmenter.segment(frames)).isEmpty();
+    }
+
+    /**
+     * Hand shape interpolated by t in [0, 1], wrist-relative, with a hand size of 1
+     * (middle-finger base at distance 1 from the wrist).
+     */
+    private static float[][] pose(float t) {
+        var points = new float[LandmarkFeatures.LANDMARKS][3];
+        for (int i = 1; i < points.length; i++) {
+            var angle = i * 0.3 + t * (i % 4) * 0.5;
+            var radius = i == 9 ? 1.0 : 0.4 + 0.05 * i;
+            points[i][0] = (float) (radius * Math.cos(angle));
+            points[i][1] = (float) (radius * Math.sin(angle));
+        }
+        var base = Math.hypot(points[9][0], points[9][1]);
+        points[9][0] /= (float) base;
+        points[9][1] /= (float) base;
+        return points;
+    }
+
+    private static void hold(List<HandFrameDTO> frames, float[][] pose, int count, float scale) {
+        for (int i = 0; i < count; i++) {
+            frames.add(frame(pose, 0.3f, scale));
+        }
+    }
+
+    /**
+     * count frames morphing from one pose to the other while the wrist moves across the image.
+     */
+    private static void transition(List<HandFrameDTO> frames, float[][] from, float[][] to, int count, float scale) {
+        for (int i = 1; i <= count; i++) {
+            var t = (float) i / (count + 1);
+            var points = new float[LandmarkFeatures.LANDMARKS][3];
+            for (int p = 0; p < points.length; p++) {
+                for (int d = 0; d < 3; d++) {
+                    points[p][d] = from[p][d] + t * (to[p][d] - from[p][d]);
+                }
+            }
+            frames.add(frame(points, 0.3f + 0.4f * t, scale));
+        }
+    }
+
+    private static HandFrameDTO frame(float[][] points, float wristX, float scale) {
+        var landmarks = new ArrayList<LandmarkDTO>(points.length);
+        for (var point : points) {
+            landmarks.add(new LandmarkDTO(wristX * scale + point[0] * 0.1f * scale,
+                    0.5f * scale + point[1] * 0.1f * scale,
+                    point[2] * 0.1f * scale));
+        }
+        return new HandFrameDTO(landmarks);
+    }
+}
@@ -0,0 +1,90 @@
+package com.capstone.vsl.recognition;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * FrameVoter must reproduce vote_predictions() of the Python service, and early exit
+ * must only fire once the remaining frames can no longer change the winner
+ * (or the window is unanimous and confident).
+ */
+class FrameVoterTest {
+
+    private static final int A = 0;
+    private static final int B = 1;
+    private static final int C = 2;
+
+    private final FrameVoter.Policy fullVote = new FrameVoter.Policy(0.7f, false, 0, 1.0f);
+    private final FrameVoter.Policy earlyExit = new FrameVoter.Policy(0.7f, true, 3, 0.9f);
+
+    @Test
+    void modeWinsAndConfidenceIsAveragedOverWinnerVotes() {
+        var voter = new FrameVoter(3, fullVote);
+        voter.offer(B, 0.8f, 0);
+        voter.offer(A, 0.9f, 0);
+        voter.offer(B, 0.9f, 0);
+        voter.offer(C, 0.99f, 0);
+
+        assertThat(voter.winner()).isEqualTo(B);
+        assertThat(voter.winnerConfidence()).isCloseTo(0.85, within(1e-6));
+        assertThat(voter.validVotes()).isEqualTo(4);
+    }
+
+    @Test
+    void tieGoesToLabelThatVotedFirst() {
+        var voter = new FrameVoter(3, fullVote);
+        voter.offer(C, 0.8f, 0);
+        voter.offer(A, 0.8f, 0);
+        voter.offer(A, 0.8f, 0);
+        voter.offer(C, 0.8f, 0);
+
+        assertThat(voter.winner()).isEqualTo(C);
+    }
+
+    @Test
+    void framesBelowThresholdDoNotVote() {
+        var voter = new FrameVoter(3, fullVote);
+        voter.offer(A, 0.5f, 0);
+        voter.offer(A, 0.6f, 0);
+        voter.offer(B, 0.7f, 0);
+
+        assertThat(voter.winner()).isEqualTo(B);
+        assertThat(voter.validVotes()).isEqualTo(1);
+
+        voter.reset();
+        voter.offer(A, 0.1f, 0);
+        assertThat(voter.winner()).isEqualTo(-1);
+    }
+
+    @Test
+    void stopsOnceRemainingFramesCannotChangeWinner() {
+        var voter = new FrameVoter(3, earlyExit);
+        // 6 frames, mixed labels so the unanimous rule never applies
+        assertThat(voter.offer(A, 0.8f, 5)).isFalse();
+        assertThat(voter.offer(B, 0.8f, 4)).isFalse();
+        assertThat(voter.offer(A, 0.8f, 3)).isFalse();
+        assertThat(voter.offer(A, 0.8f, 2)).isFalse();
+        assertThat(voter.offer(A, 0.8f, 1)).isTrue();
+        assertThat(voter.winner()).isEqualTo(A);
+        assertThat(voter.framesSeen()).isEqualTo(5);
+    }
+
+    @Test
+    void stopsEarlyWhenFirstFramesAgreeWithHighConfidence() {
+        var voter = new FrameVoter(3, earlyExit);
+        assertThat(voter.offer(B, 0.95f, 29)).isFalse();
+        assertThat(voter.offer(B, 0.97f, 28)).isFalse();
+        assertThat(voter.offer(B, 0.93f, 27)).isTrue();
+        assertThat(voter.winner()).isEqualTo(B);
+    }
+
+    @Test
+    void keepsScoringWhenAgreementIsNotConfidentEnough() {
+        var voter = new FrameVoter(3, earlyExit);
+        voter.offer(B, 0.75f, 29);
+        voter.offer(B, 0.8f, 28);
+        assertThat(voter.offer(B, 0.8f, 27)).isFalse();
+    }
+}
@@ -0,0 +1,220 @@
+package com.capstone.vsl.recognition;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Scalar and SIMD kernels must agree with a double-precision reference forward pass
+ * (the computation sklearn performs) on a model shaped like the production classifier:
+ * 63 features, hidden layers 128/64, 29 classes.
+ *
+ * Odd layer widths are included so the scalar tails of the vector loops are exercised.
+ */
+class MlpKernelsEquivalenceTest {
+
+    private static final int[] LAYER_SIZES = {63, 128, 64, 29};
+    private static final int[] ODD_LAYER_SIZES = {63, 37, 29};
+    private static final int SAMPLES = 500;
+    private static final double TOLERANCE = 1e-4;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Random random = new Random(42);
+
+    private Map<String, Object> artifact;
+    private float[][] samples;
+
+    @BeforeEach
+    void setUp() {
+        samples = new float[SAMPLES][LAYER_SIZES[0]];
+        for (var sample : samples) {
+            for (int i = 0; i < sample.length; i++) {
+                sample[i] = (float) (random.nextGaussian() * 0.2);
+            }
+        }
+    }
+
+    @Test
+    void scalarKernelsMatchReference() throws IOException {
+        artifact = randomArtifact(LAYER_SIZES);
+        assertMatchesReference(new ScalarKernels());
+    }
+
+    @Test
+    void vectorKernelsMatchReference() throws IOException {
+        var kernels = MlpKernels.create(true);
+        assumeThat(kernels).isInstanceOf(VectorKernels.class);
+
+        artifact = randomArtifact(LAYER_SIZES);
+        assertMatchesReference(kernels);
+        artifact = randomArtifact(ODD_LAYER_SIZES);
+        assertMatchesReference(kernels);
+    }
+
+    @Test
+    void scalarFallbackWhenSimdDisabled() {
+        assertThat(MlpKernels.create(false)).isInstanceOf(ScalarKernels.class);
+    }
+
+    @Test
+    void vectorKernelsMatchScalarKernels() {
+        var vector = MlpKernels.create(true);
+        assumeThat(vector).isInstanceOf(VectorKernels.class);
+        var scalar = new ScalarKernels();
+
+        for (int trial = 0; trial < 200; trial++) {
+            var inputs = 1 + random.nextInt(200);
+            var outputs = 1 + random.nextInt(80);
+            var w = gaussian(inputs * outputs);
+            var b = gaussian(outputs);
+            var x = gaussian(inputs);
+
+            var expected = new float[outputs];
+            var actual = new float[outputs];
+            scalar.dense(w, b, x, expected, inputs, outputs);
+            vector.dense(w, b, x, actual, inputs, outputs);
+            for (int o = 0; o < outputs; o++) {
+                assertThat(actual[o]).isCloseTo(expected[o], within((float) (TOLERANCE * (1 + Math.abs(expected[o])))));
+            }
+
+            var best = scalar.argmax(expected, outputs);
+            assertThat(vector.argmax(expected, outputs)).isEqualTo(best);
+            assertThat(vector.softmaxOfMax(expected, outputs, best))
+                    .isCloseTo(scalar.softmaxOfMax(expected, outputs, best), within((float) TOLERANCE));
+
+            var reluScalar = expected.clone();
+            var reluVector = expected.clone();
+            scalar.relu(reluScalar, outputs);
+            vector.relu(reluVector, outputs);
+            assertThat(reluVector).containsExactly(reluScalar);
+        }
+    }
+
+    private void assertMatchesReference(MlpKernels kernels) throws IOException {
+        var model = MlpModel.read(
+                new ByteArrayInputStream(objectMapper.writeValueAsBytes(artifact)), objectMapper, kernels);
+        var workspace = model.newWorkspace();
+
+        var agreed = 0;
+        for (var sample : samples) {
+            var reference = referenceProbabilities(sample);
+            var expected = 0;
+            for (int c = 1; c < reference.length; c++) {
+                if (reference[c] > reference[expected]) {
+                    expected = c;
+                }
+            }
+
+            var predicted = model.predict(sample, workspace);
+            if (predicted == expected) {
+                agreed++;
+                assertThat((double) workspace.confidence()).isCloseTo(reference[expected], within(TOLERANCE));
+            } else {
+                // Only a near-tie may flip the arg-max
+                assertThat(Math.abs(reference[predicted] - reference[expected])).isLessThan(TOLERANCE);
+            }
+        }
+        assertThat(agreed).isGreaterThanOrEqualTo(SAMPLES - 1);
+    }
+
+    /**
+     * Double-precision StandardScaler + ReLU MLP + softmax, straight from the artifact.
+     */
+    @SuppressWarnings("unchecked")
+    private double[] referenceProbabilities(float[] features) {
+        var scaler = (Map<String, float[]>) artifact.get("scaler");
+        var x = new double[features.length];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = (features[i] - (double) scaler.get("mean")[i]) / scaler.get("scale")[i];
+        }
+
+        var layers = (List<Map<String, Object>>) artifact.get("layers");
+        for (int l = 0; l < layers.size(); l++) {
+            var layer = layers.get(l);
+            var inputs = (int) layer.get("inputs");
+            var outputs = (int) layer.get("outputs");
+            var w = (float[]) layer.get("weights");
+            var b = (float[]) layer.get("bias");
+            var out = new double[outputs];
+            for (int o = 0; o < outputs; o++) {
+                var acc = (double) b[o];
+                for (int i = 0; i < inputs; i++) {
+                    acc += (double) w[o * inputs + i] * x[i];
+                }
+                out[o] = l < layers.size() - 1 ? Math.max(acc, 0.0) : acc;
+            }
+            x = out;
+        }
+
+        var max = Double.NEGATIVE_INFINITY;
+        for (var z : x) {
+            max = Math.max(max, z);
+        }
+        var sum = 0.0;
+        for (int i = 0; i < x.length; i++) {
+            x[i] = Math.exp(x[i] - max);
+            sum += x[i];
+        }
+        for (int i = 0; i < x.length; i++) {
+            x[i] /= sum;
+        }
+        return x;
+    }
+
+    private Map<String, Object> randomArtifact(int[] sizes) {
+        var classes = new ArrayList<String>();
+        for (int c = 0; c < sizes[sizes.length - 1]; c++) {
+            classes.add(String.valueOf((char) ('a' + c % 26)) + (c / 26));
+        }
+
+        var scale = new float[sizes[0]];
+        for (int i = 0; i < scale.length; i++) {
+            scale[i] = 0.05f + random.nextFloat() * 0.3f;
+        }
+
+        var layers = new ArrayList<Map<String, Object>>();
+        for (int l = 0; l + 1 < sizes.length; l++) {
+            var weights = gaussian(sizes[l] * sizes[l + 1]);
+            var std = (float) Math.sqrt(2.0 / sizes[l]);
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] *= std;
+            }
+            var layer = new LinkedHashMap<String, Object>();
+            layer.put("inputs", sizes[l]);
+            layer.put("outputs", sizes[l + 1]);
+            layer.put("weights", weights);
+            layer.put("bias", gaussian(sizes[l + 1]));
+            layers.add(layer);
+        }
+
+        var result = new LinkedHashMap<String, Object>();
+        result.put("format", "vsl-mlp");
+        result.put("version", 1);
+        result.put("classes", classes);
+        result.put("scaler", Map.of("mean", gaussian(sizes[0]), "scale", scale));
+        result.put("hidden_activation", "relu");
+        result.put("output_activation", "softmax");
+        result.put("layers", layers);
+        return result;
+    }
+
+    private float[] gaussian(int n) {
+        var values = new float[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = (float) random.nextGaussian();
+        }
+        return values;
+    }
+}
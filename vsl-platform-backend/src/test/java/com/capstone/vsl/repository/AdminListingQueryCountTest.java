@@ -0,0 +1,117 @@
+package com.capstone.vsl.repository;
+
+import com.capstone.vsl.entity.Contribution;
+import com.capstone.vsl.entity.ContributionStatus;
+import com.capstone.vsl.entity.Dictionary;
+import com.capstone.vsl.entity.Report;
+import com.capstone.vsl.entity.ReportStatus;
+import com.capstone.vsl.entity.Role;
+import com.capstone.vsl.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Admin contribution/report listings must cost a fixed number of queries per page
+ * (content + count), independent of how many users or words the rows reference.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class AdminListingQueryCountTest {
+
+    private static final int ROWS = 30;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ContributionRepository contributionRepository;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        var users = new ArrayList<User>();
+        var words = new ArrayList<Dictionary>();
+        for (int i = 0; i < 10; i++) {
+            users.add(entityManager.persist(User.builder()
+                    .username("user" + i)
+                    .email("user" + i + "@example.com")
+                    .password("secret")
+                    .role(Role.USER)
+                    .build()));
+            words.add(entityManager.persist(Dictionary.builder()
+                    .word("word" + i)
+                    .videoUrl("https://example.com/" + i + ".mp4")
+                    .elasticSynced(false)
+                    .build()));
+        }
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(Contribution.builder()
+                    .user(users.get(i % users.size()))
+                    .stagingData("{\"word\":\"new" + i + "\"}")
+                    .status(ContributionStatus.PENDING)
+                    .build());
+            entityManager.persist(Report.builder()
+                    .user(users.get(i % users.size()))
+                    .dictionary(words.get(i % words.size()))
+                    .reason("reason " + i)
+                    .status(ReportStatus.OPEN)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void contributionPageUsesContentAndCountQueryOnly() {
+        var page = contributionRepository.findDtoPageByStatus(
+                ContributionStatus.PENDING, PageRequest.of(0, PAGE_SIZE));
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getTotalElements()).isEqualTo(ROWS);
+        assertThat(page.getContent()).allSatisfy(dto -> assertThat(dto.getUsername()).startsWith("user"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void reportPageUsesContentAndCountQueryOnly() {
+        var page = reportRepository.findDtoPageByStatus(ReportStatus.OPEN, PageRequest.of(0, PAGE_SIZE));
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getTotalElements()).isEqualTo(ROWS);
+        assertThat(page.getContent()).allSatisfy(dto -> assertThat(dto.getWord()).startsWith("word"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void allReportsPageUsesContentAndCountQueryOnly() {
+        var page = reportRepository.findDtoPage(PageRequest.of(0, PAGE_SIZE));
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getTotalElements()).isEqualTo(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,44 @@
+package com.capstone.vsl.security;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.net.InetAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Only strict literals are parsed (no DNS for names that look like hex), and the
+ * trusted-proxy ranges include IPv6 unique local addresses.
+ */
+class IpLiteralTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"cafe", "bad", "dead.beef", "127.1", "1.2.3", "1.2.3.4.5", "256.1.1.1",
+            "1..2.3", "", "example.com", "1:2:3:4:5:6:7", "1:2:3:4:5:6:7:8:9", "1::2::3", "::g",
+            "12345::", ":::", "1:2:3:4:5:6:7::8", "::1.2.3"})
+    void rejectsAnythingButAStrictLiteral(String text) {
+        assertThat(IpLiteral.parse(text)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"203.0.113.7", "0.0.0.0", "2001:db8::1", "::", "1:2:3:4:5:6:7:8",
+            "::ffff:203.0.113.7", "fe80::1%eth0", "2001:DB8:0:0:0:0:0:1"})
+    void parsesLiteralsLikeTheJdk(String text) throws Exception {
+        // The JDK parser is safe to call here: these are literals
+        assertThat(IpLiteral.parse(text)).isEqualTo(InetAddress.getByName(text));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"127.0.0.1", "::1", "10.1.2.3", "172.16.0.1", "192.168.1.1", "fd12:3456::1",
+            "fc00::1", "::ffff:10.0.0.1"})
+    void internalAddresses(String text) {
+        assertThat(IpLiteral.isInternal(IpLiteral.parse(text))).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"203.0.113.7", "2001:db8::1", "fe00::1", "172.32.0.1"})
+    void publicAddresses(String text) {
+        assertThat(IpLiteral.isInternal(IpLiteral.parse(text))).isFalse();
+    }
+}
@@ -0,0 +1,101 @@
+package com.capstone.vsl.security;
+
+import com.capstone.vsl.config.RateLimitConfig;
+import io.github.bucket4j.Bandwidth;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The jdbc backend against a real PostgreSQL: nodes share one bucket per key, the schema
+ * script is re-runnable, and idle rows are deleted while active ones are kept.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class JdbcRateLimitBackendTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final long SYNC_TOKENS = 1;
+    private static final Bandwidth TEN_PER_HOUR = Bandwidth.builder()
+            .capacity(10)
+            .refillGreedy(10, Duration.ofHours(1))
+            .build();
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        // Twice: every node runs the script on startup
+        RateLimitConfig.jdbcSchemaPopulator().execute(dataSource);
+        RateLimitConfig.jdbcSchemaPopulator().execute(dataSource);
+        jdbcTemplate.execute("TRUNCATE rate_limit_bucket");
+    }
+
+    @Test
+    void nodesShareOneBucketPerKey() {
+        var node1 = newBackend(Duration.ofMinutes(10)).createBucket("auth:1.2.3.4", TEN_PER_HOUR);
+        var node2 = newBackend(Duration.ofMinutes(10)).createBucket("auth:1.2.3.4", TEN_PER_HOUR);
+
+        var allowed = 0;
+        for (int i = 0; i < 20; i++) {
+            var bucket = i % 2 == 0 ? node1 : node2;
+            if (bucket.tryConsume(1)) {
+                allowed++;
+            }
+        }
+
+        // Each node may overshoot by the tokens it has not synchronised yet
+        assertThat(allowed).isBetween(10, (int) (10 + 2 * SYNC_TOKENS));
+        assertThat(rowCount()).isEqualTo(1);
+    }
+
+    @Test
+    void idleBucketsAreDeletedAndActiveOnesKept() {
+        var backend = newBackend(Duration.ofMinutes(10));
+        backend.createBucket("auth:idle", TEN_PER_HOUR).tryConsume(1);
+        backend.createBucket("auth:active", TEN_PER_HOUR).tryConsume(1);
+        jdbcTemplate.update("UPDATE rate_limit_bucket SET updated_at = now() - interval '1 hour'");
+
+        // Writing the active bucket again moves its updated_at (trigger)
+        var active = backend.createBucket("auth:active", TEN_PER_HOUR);
+        active.tryConsume(1);
+        active.tryConsume(1);
+
+        assertThat(backend.deleteIdleBuckets()).isEqualTo(1);
+        assertThat(rowCount()).isEqualTo(1);
+        assertThat(backend.deleteIdleBuckets()).isEqualTo(0);
+    }
+
+    @Test
+    void deletedBucketComesBackFull() {
+        var backend = newBackend(Duration.ofMillis(1));
+        var bucket = backend.createBucket("auth:5.6.7.8", TEN_PER_HOUR);
+        for (int i = 0; i < 10; i++) {
+            bucket.tryConsume(1);
+        }
+        jdbcTemplate.update("UPDATE rate_limit_bucket SET updated_at = now() - interval '1 second'");
+
+        assertThat(backend.deleteIdleBuckets()).isEqualTo(1);
+        assertThat(backend.createBucket("auth:5.6.7.8", TEN_PER_HOUR).getAvailableTokens()).isEqualTo(10L);
+    }
+
+    private JdbcRateLimitBackend newBackend(Duration idleTimeout) {
+        return new JdbcRateLimitBackend(dataSource, SYNC_TOKENS, Duration.ofMillis(100), idleTimeout);
+    }
+
+    private int rowCount() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM rate_limit_bucket", Integer.class);
+    }
+}
@@ -0,0 +1,59 @@
+package com.capstone.vsl.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Overlapping patterns are all returned, most specific first.
+ */
+class PathPatternTrieTest {
+
+    private final PathPatternTrie<String> trie = new PathPatternTrie<>();
+
+    @Test
+    void ordersOverlappingMatchesFromLiteralToRest() {
+        trie.insert("/**", "default");
+        trie.insert("/api/**", "api");
+        trie.insert("/api/vsl/*", "vsl-any");
+        trie.insert("/api/vsl/predict", "predict");
+
+        assertThat(trie.match("/api/vsl/predict")).containsExactly("predict", "vsl-any", "api", "default");
+        assertThat(trie.match("/api/vsl/fix-diacritics")).containsExactly("vsl-any", "api", "default");
+        assertThat(trie.match("/api/vsl/predict/extra")).containsExactly("api", "default");
+        assertThat(trie.match("/static/app.js")).containsExactly("default");
+    }
+
+    @Test
+    void restPatternMatchesItsOwnPrefixAndIgnoresRepeatedSlashes() {
+        trie.insert("/api/auth/**", "auth");
+
+        assertThat(trie.match("/api/auth")).containsExactly("auth");
+        assertThat(trie.match("//api//auth/login/")).containsExactly("auth");
+        assertThat(trie.match("/api/authx/login")).isEmpty();
+    }
+
+    @Test
+    void wildcardMatchesExactlyOneSegment() {
+        trie.insert("/api/*/process", "process");
+
+        assertThat(trie.match("/api/gesture/process")).containsExactly("process");
+        assertThat(trie.match("/api/process")).isEmpty();
+        assertThat(trie.match("/api/a/b/process")).isEmpty();
+    }
+
+    @Test
+    void keepsInsertionOrderOnTheSamePattern() {
+        trie.insert("/api/vsl/predict", "first");
+        trie.insert("/api/vsl/predict", "second");
+
+        assertThat(trie.match("/api/vsl/predict")).containsExactly("first", "second");
+    }
+
+    @Test
+    void rejectsRestPatternBeforeTheLastSegment() {
+        assertThatThrownBy(() -> trie.insert("/api/**/predict", "bad"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,102 @@
+package com.capstone.vsl.security;
+
+import com.capstone.vsl.config.RateLimitProperties;
+import com.capstone.vsl.config.RateLimitProperties.KeyType;
+import com.capstone.vsl.entity.Role;
+import com.capstone.vsl.integration.AiLoadMonitor;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.core.io.support.ResourcePropertySource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * The most specific pattern whose role filter accepts the caller wins; otherwise the
+ * request falls back to less specific patterns, down to a catch-all default.
+ */
+class RateLimitPolicyEngineTest {
+
+    private static final UserPrincipal USER = UserPrincipal.fromClaims(1L, "user", Role.USER);
+    private static final UserPrincipal ADMIN = UserPrincipal.fromClaims(2L, "admin", Role.ADMIN);
+
+    @Test
+    void mostSpecificPatternWins() {
+        var engine = engine(
+                policy("default", "/**", null),
+                policy("api", "/api/**", null),
+                policy("vsl", "/api/vsl/*", null),
+                policy("predict", "/api/vsl/predict", null));
+
+        assertThat(engine.resolve("/api/vsl/predict", USER).name()).isEqualTo("predict");
+        assertThat(engine.resolve("/api/vsl/fix-diacritics", USER).name()).isEqualTo("vsl");
+        assertThat(engine.resolve("/api/dictionary/search", USER).name()).isEqualTo("api");
+    }
+
+    @Test
+    void fallsBackToTheDefaultPolicy() {
+        var engine = engine(
+                policy("default", "/**", null),
+                policy("predict", "/api/vsl/predict", null));
+
+        assertThat(engine.resolve("/api/dictionary/search", null).name()).isEqualTo("default");
+        assertThat(engine.resolve("/", USER).name()).isEqualTo("default");
+    }
+
+    @Test
+    void roleFilterFallsThroughToTheNextMatch() {
+        var engine = engine(
+                policy("default", "/**", null),
+                policy("predict-anonymous", "/api/vsl/predict", "anonymous"),
+                policy("predict-admin", "/api/vsl/predict", "ADMIN"));
+
+        assertThat(engine.resolve("/api/vsl/predict", null).name()).isEqualTo("predict-anonymous");
+        assertThat(engine.resolve("/api/vsl/predict", ADMIN).name()).isEqualTo("predict-admin");
+        // No policy on the exact path accepts USER
+        assertThat(engine.resolve("/api/vsl/predict", USER).name()).isEqualTo("default");
+    }
+
+    @Test
+    void withoutADefaultUnmatchedPathsAreNotLimited() {
+        var engine = engine(policy("predict", "/api/vsl/predict", null));
+
+        assertThat(engine.resolve("/api/dictionary/search", USER)).isNull();
+    }
+
+    @Test
+    void rejectsDuplicateNames() {
+        assertThatThrownBy(() -> engine(policy("ai", "/api/vsl/predict", null), policy("ai", "/api/gesture/process", null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void configuredPoliciesCoverTheAiRoutes() throws IOException {
+        var source = new ResourcePropertySource("classpath:application.properties");
+        var properties = new Binder(ConfigurationPropertySources.from(source))
+                .bind("rate-limit", RateLimitProperties.class)
+                .get();
+        var engine = new RateLimitPolicyEngine(properties, mock(AiLoadMonitor.class));
+
+        assertThat(engine.resolve("/api/gesture/process", USER).name()).isEqualTo("ai-gesture-process");
+        assertThat(engine.resolve("/api/vsl/predict", USER).name()).isEqualTo("ai-predict");
+        assertThat(engine.resolve("/api/vsl/predict-sequence", USER).name()).isEqualTo("ai-predict-sequence");
+        assertThat(engine.resolve("/api/auth/login", null).name()).isEqualTo("auth");
+        assertThat(engine.resolve("/api/dictionary/search", USER)).isNull();
+    }
+
+    private static RateLimitPolicyEngine engine(RateLimitProperties.Policy... policies) {
+        var properties = new RateLimitProperties(List.of(policies),
+                new RateLimitProperties.Adaptive(true, Duration.ofSeconds(2), 20, 5));
+        return new RateLimitPolicyEngine(properties, mock(AiLoadMonitor.class));
+    }
+
+    private static RateLimitProperties.Policy policy(String name, String pattern, String role) {
+        return new RateLimitProperties.Policy(name, pattern, role, KeyType.USER, 10, 10, Duration.ofSeconds(1), false);
+    }
+}
@@ -0,0 +1,112 @@
+package com.capstone.vsl.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Toggles inside a transaction reach the cache only once the transaction commits, and a
+ * load that may have missed a toggle is not cached.
+ */
+class FavoriteStatusCacheTest {
+
+    private static final long USER_ID = 1L;
+
+    private FavoriteStatusCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new FavoriteStatusCache();
+        ReflectionTestUtils.setField(cache, "maxUsers", 100);
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofMinutes(5));
+        cache.favoritesOf(USER_ID, ignored -> List.of(3L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void updateOutsideATransactionIsAppliedAtOnce() {
+        cache.update(USER_ID, 7L, true);
+
+        assertThat(cached().get(7)).isTrue();
+    }
+
+    @Test
+    void updateIsAppliedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.update(USER_ID, 7L, true);
+        cache.update(USER_ID, 3L, false);
+
+        assertThat(cached().get(7)).isFalse();
+        assertThat(cached().get(3)).isTrue();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cached().get(7)).isTrue();
+        assertThat(cached().get(3)).isFalse();
+    }
+
+    @Test
+    void rolledBackUpdateIsDropped() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.update(USER_ID, 7L, true);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(cached().get(7)).isFalse();
+    }
+
+    @Test
+    void loadOverlappingAToggleIsNotCached() {
+        var loads = new AtomicInteger();
+        var other = 2L;
+
+        // The toggle commits while the load is reading: the load may have missed it
+        var loaded = cache.favoritesOf(other, ignored -> {
+            loads.incrementAndGet();
+            cache.update(other, 7L, true);
+            return List.of();
+        });
+        var reloaded = cache.favoritesOf(other, ignored -> {
+            loads.incrementAndGet();
+            return List.of(7L);
+        });
+
+        assertThat(loaded.get(7)).isFalse();
+        assertThat(reloaded.get(7)).isTrue();
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void toggleBeforeTheLoadDoesNotBlockCaching() {
+        var other = 2L;
+        cache.update(other, 7L, true);
+        cache.favoritesOf(other, ignored -> List.of(7L));
+
+        assertThat(cache.favoritesOf(other, ignored -> {
+            throw new AssertionError("user should be cached");
+        }).get(7)).isTrue();
+    }
+
+    private BitSet cached() {
+        return cache.favoritesOf(USER_ID, ignored -> {
+            throw new AssertionError("user should be cached");
+        });
+    }
+}
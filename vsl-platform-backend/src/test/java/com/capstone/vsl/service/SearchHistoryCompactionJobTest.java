@@ -0,0 +1,116 @@
+package com.capstone.vsl.service;
+
+import com.capstone.vsl.dto.SearchHistoryDTO;
+import com.capstone.vsl.entity.Dictionary;
+import com.capstone.vsl.entity.Role;
+import com.capstone.vsl.entity.SearchHistory;
+import com.capstone.vsl.entity.User;
+import com.capstone.vsl.repository.SearchHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compaction keeps exactly the newest search-history-retention rows of every user
+ * and leaves users below the cap alone.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class SearchHistoryCompactionJobTest {
+
+    private static final int RETENTION = 5;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SearchHistoryRepository searchHistoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SearchHistoryCompactionJob job;
+    private User heavyUser;
+    private User lightUser;
+    private final List<Long> heavyUserIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        heavyUser = persistUser("heavy");
+        lightUser = persistUser("light");
+        var word = entityManager.persist(Dictionary.builder()
+                .word("xin chao")
+                .videoUrl("https://example.com/xin-chao.mp4")
+                .elasticSynced(false)
+                .build());
+        for (int i = 0; i < 12; i++) {
+            // Interleaved, so the heavy user's rows are not one contiguous id range
+            heavyUserIds.add(persistHistory(heavyUser, word, "q" + i).getId());
+            if (i % 4 == 0) {
+                persistHistory(lightUser, word, "q" + i);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        job = new SearchHistoryCompactionJob(searchHistoryRepository, new TransactionTemplate(transactionManager),
+                mock(SearchHistoryWriter.class));
+        ReflectionTestUtils.setField(job, "retentionPerUser", RETENTION);
+    }
+
+    @Test
+    void keepsTheNewestRowsOfUsersBeyondTheCap() {
+        job.compact();
+
+        assertThat(historyIds(heavyUser)).containsExactlyElementsOf(
+                heavyUserIds.subList(heavyUserIds.size() - RETENTION, heavyUserIds.size()).reversed());
+        assertThat(historyIds(lightUser)).hasSize(3);
+    }
+
+    @Test
+    void secondRunDeletesNothing() {
+        job.compact();
+        job.compact();
+
+        assertThat(historyIds(heavyUser)).hasSize(RETENTION);
+        assertThat(searchHistoryRepository.findUserIdsBeyondRetention(RETENTION)).isEmpty();
+    }
+
+    private List<Long> historyIds(User user) {
+        return searchHistoryRepository.findPageByUserId(user.getId(), Long.MAX_VALUE, PageRequest.of(0, 100))
+                .stream()
+                .map(SearchHistoryDTO::getId)
+                .toList();
+    }
+
+    private User persistUser(String name) {
+        return entityManager.persist(User.builder()
+                .username(name)
+                .email(name + "@example.com")
+                .password("secret")
+                .role(Role.USER)
+                .build());
+    }
+
+    private SearchHistory persistHistory(User user, Dictionary word, String query) {
+        return entityManager.persist(SearchHistory.builder()
+                .user(user)
+                .dictionary(word)
+                .searchQuery(query)
+                .build());
+    }
+}
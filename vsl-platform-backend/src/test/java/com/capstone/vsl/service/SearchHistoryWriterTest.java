@@ -0,0 +1,96 @@
+package com.capstone.vsl.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Repeated lookups collapse only within the window, and a forgotten user's next lookup
+ * is always written.
+ */
+class SearchHistoryWriterTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final List<SearchHistoryWriter.SearchHistoryEvent> written = new ArrayList<>();
+    private SearchHistoryWriter writer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        var jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any()))
+                .thenAnswer(invocation -> {
+                    synchronized (written) {
+                        written.addAll(invocation.getArgument(1));
+                    }
+                    return new int[0][];
+                });
+        writer = new SearchHistoryWriter(jdbcTemplate, mock(WordPopularityService.class),
+                new SimpleMeterRegistry(), 100, 10, Duration.ofMinutes(5));
+        writer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.stop();
+    }
+
+    @Test
+    void repeatsCollapseOnlyWithinTheWindow() throws InterruptedException {
+        writer.enqueue(event(T0));
+        writer.enqueue(event(T0.plusMinutes(1)));
+        writer.enqueue(event(T0.plusMinutes(4)));
+        // Measured from the kept row (T0), not from the dropped repeats
+        writer.enqueue(event(T0.plusMinutes(6)));
+        writer.enqueue(event(T0.plusDays(3)));
+        writer.stop();
+
+        assertThat(written).extracting(SearchHistoryWriter.SearchHistoryEvent::searchedAt)
+                .containsExactly(T0, T0.plusMinutes(6), T0.plusDays(3));
+    }
+
+    @Test
+    void forgottenUserIsWrittenAgain() throws InterruptedException {
+        writer.enqueue(event(T0));
+        awaitWritten(1);
+
+        writer.forgetUser(1L);
+        writer.enqueue(event(T0.plusMinutes(1)));
+        writer.stop();
+
+        assertThat(written).hasSize(2);
+    }
+
+    private void awaitWritten(int count) throws InterruptedException {
+        var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            synchronized (written) {
+                if (written.size() >= count) {
+                    return;
+                }
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("not written in time");
+    }
+
+    private static SearchHistoryWriter.SearchHistoryEvent event(LocalDateTime searchedAt) {
+        return new SearchHistoryWriter.SearchHistoryEvent(1L, 42L, "xin chao", searchedAt);
+    }
+}
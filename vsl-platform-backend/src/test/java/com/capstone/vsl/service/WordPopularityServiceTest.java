@@ -0,0 +1,57 @@
+package com.capstone.vsl.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Popularity may only nudge search results: a bounded number of positions, and only
+ * for words in the top-k.
+ */
+class WordPopularityServiceTest {
+
+    private static final int TOP_K = 2;
+    private static final double MAX_BOOST = 2;
+
+    private WordPopularityService popularity;
+
+    @BeforeEach
+    void setUp() {
+        popularity = new WordPopularityService(null, null, TOP_K, Duration.ofHours(6), 4, 64, MAX_BOOST);
+    }
+
+    @Test
+    void mostPopularWordMovesUpAtMostMaxBoostPositions() {
+        popularity.recordLookups(Collections.nCopies(50, 6L));
+
+        // 6 ties with 4 and stays behind the more relevant result
+        assertThat(popularity.boostByPopularity(List.of(1L, 2L, 3L, 4L, 5L, 6L), Long::longValue))
+                .containsExactly(1L, 2L, 3L, 4L, 6L, 5L);
+    }
+
+    @Test
+    void lessPopularWordsMoveUpProportionally() {
+        popularity.recordLookups(Collections.nCopies(40, 4L));
+        popularity.recordLookups(Collections.nCopies(10, 3L));
+
+        // 4: boost 2 (top weight) passes 3; 3: boost 0.5 passes nothing
+        assertThat(popularity.boostByPopularity(List.of(1L, 2L, 3L, 4L), Long::longValue))
+                .containsExactly(1L, 2L, 4L, 3L);
+    }
+
+    @Test
+    void wordsOutsideTheTopKKeepRelevanceOrder() {
+        popularity.recordLookups(Collections.nCopies(30, 100L));
+        popularity.recordLookups(Collections.nCopies(30, 101L));
+        // Looked up, but pushed out of the top-2 by the words above
+        popularity.recordLookups(List.of(5L));
+
+        assertThat(popularity.boostByPopularity(List.of(1L, 2L, 3L, 4L, 5L), Long::longValue))
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+}
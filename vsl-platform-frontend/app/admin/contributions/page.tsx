@@ -14,7 +14,9 @@ import {
   CheckCircle,
   XCircle,
   User,
-  Flag
+  Flag,
+  ChevronLeft,
+  ChevronRight
 } from "lucide-react";
 import styles from "../../../styles/admin-contributions.module.css";
 import { adminApi, ContributionDTO } from "@/lib/admin-api-client";
@@ -68,6 +70,9 @@ export default function AdminContributionsPage() {
   const [contributions, setContributions] = useState<Contribution[]>([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
+  const [page, setPage] = useState(0);
+  const [totalPages, setTotalPages] = useState(0);
+  const [totalElements, setTotalElements] = useState(0);
 
   useEffect(() => {
     const updateTime = () => {
@@ -81,25 +86,31 @@ export default function AdminContributionsPage() {
     return () => clearInterval(timer);
   }, []);
 
-  // Load contributions từ API
-  useEffect(() => {
-    const loadContributions = async () => {
-      try {
-        setLoading(true);
-        setError(null);
-        const data = await adminApi.getContributions("PENDING");
-        const parsed = data.map(parseContribution);
-        setContributions(parsed);
-      } catch (err: any) {
-        console.error("Error loading contributions:", err);
-        setError(err.response?.data?.message || err.message || "Failed to load contributions");
-      } finally {
-        setLoading(false);
+  // Load một trang contributions từ API
+  const loadContributions = async () => {
+    try {
+      setLoading(true);
+      setError(null);
+      const data = await adminApi.getContributions("PENDING", page);
+      // Trang hiện tại trống sau khi approve/reject: lùi về trang trước
+      if (data.content.length === 0 && page > 0) {
+        setPage(page - 1);
+        return;
       }
-    };
+      setContributions(data.content.map(parseContribution));
+      setTotalPages(data.totalPages);
+      setTotalElements(data.totalElements);
+    } catch (err: any) {
+      console.error("Error loading contributions:", err);
+      setError(err.response?.data?.message || err.message || "Failed to load contributions");
+    } finally {
+      setLoading(false);
+    }
+  };
 
+  useEffect(() => {
     loadContributions();
-  }, []);
+  }, [page]);
 
   // Menu Config
   const menuItems = [
@@ -130,9 +141,7 @@ export default function AdminContributionsPage() {
     try {
       await adminApi.approveContribution(id);
       // Reload contributions sau khi approve
-      const data = await adminApi.getContributions("PENDING");
-      const parsed = data.map(parseContribution);
-      setContributions(parsed);
+      await loadContributions();
       alert(`Contribution #${id} approved and added to dictionary!`);
     } catch (err: any) {
       console.error("Error approving contribution:", err);
@@ -148,9 +157,7 @@ export default function AdminContributionsPage() {
     try {
       await adminApi.rejectContribution(id);
       // Reload contributions sau khi reject
-      const data = await adminApi.getContributions("PENDING");
-      const parsed = data.map(parseContribution);
-      setContributions(parsed);
+      await loadContributions();
       alert(`Contribution #${id} rejected!`);
     } catch (err: any) {
       console.error("Error rejecting contribution:", err);
@@ -294,6 +301,27 @@ export default function AdminContributionsPage() {
              <div>{">"} SYSTEM: ALL DATA PROCESSED. QUEUE EMPTY.</div>
           </div>
         )}
+
+        {/* Pagination */}
+        {!loading && totalPages > 1 && (
+          <div className={styles["pagination"]}>
+            <button
+              className={styles["filter-btn"]}
+              onClick={() => setPage(page - 1)}
+              disabled={page === 0}
+            >
+              <ChevronLeft size={14} />
+            </button>
+            <span>PAGE {page + 1} / {totalPages} ({totalElements} PENDING)</span>
+            <button
+              className={styles["filter-btn"]}
+              onClick={() => setPage(page + 1)}
+              disabled={page >= totalPages - 1}
+            >
+              <ChevronRight size={14} />
+            </button>
+          </div>
+        )}
       </main>
     </div>
   );
@@ -14,7 +14,9 @@ import {
   Check,
   Trash2,
   User,
-  Flag
+  Flag,
+  ChevronLeft,
+  ChevronRight
 } from "lucide-react";
 import styles from "../../../styles/admin-contributions.module.css";
 import { adminApi } from "@/lib/admin-api-client";
@@ -45,6 +47,9 @@ export default function AdminReportsPage() {
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
   const [filterStatus, setFilterStatus] = useState<"ALL" | "OPEN" | "RESOLVED">("OPEN");
+  const [page, setPage] = useState(0);
+  const [totalPages, setTotalPages] = useState(0);
+  const [totalElements, setTotalElements] = useState(0);
 
   useEffect(() => {
     const updateTime = () => {
@@ -58,25 +63,36 @@ export default function AdminReportsPage() {
     return () => clearInterval(timer);
   }, []);
 
-  // Load reports từ API
-  useEffect(() => {
-    const loadReports = async () => {
-      try {
-        setLoading(true);
-        setError(null);
-        const endpoint = filterStatus === "OPEN" ? "/admin/reports/open" : "/admin/reports";
-        const response = await adminApi.getReports(filterStatus);
-        setReports(response);
-      } catch (err: any) {
-        console.error("Error loading reports:", err);
-        setError(err.response?.data?.message || err.message || "Failed to load reports");
-      } finally {
-        setLoading(false);
+  // Load một trang reports từ API
+  const loadReports = async () => {
+    try {
+      setLoading(true);
+      setError(null);
+      const response = await adminApi.getReports(filterStatus, page);
+      // Trang hiện tại trống sau khi xoá/resolve: lùi về trang trước
+      if (response.content.length === 0 && page > 0) {
+        setPage(page - 1);
+        return;
       }
-    };
+      setReports(response.content);
+      setTotalPages(response.totalPages);
+      setTotalElements(response.totalElements);
+    } catch (err: any) {
+      console.error("Error loading reports:", err);
+      setError(err.response?.data?.message || err.message || "Failed to load reports");
+    } finally {
+      setLoading(false);
+    }
+  };
 
+  useEffect(() => {
     loadReports();
-  }, [filterStatus]);
+  }, [filterStatus, page]);
+
+  const changeFilter = (status: "ALL" | "OPEN" | "RESOLVED") => {
+    setFilterStatus(status);
+    setPage(0);
+  };
 
   const menuItems = [
     { label: "[DASHBOARD]", href: "/admin", icon: LayoutDashboard },
@@ -98,8 +114,7 @@ export default function AdminReportsPage() {
 
     try {
       await adminApi.resolveReport(id);
-      const response = await adminApi.getReports(filterStatus);
-      setReports(response);
+      await loadReports();
       alert("Report marked as resolved!");
     } catch (err: any) {
       console.error("Error resolving report:", err);
@@ -114,8 +129,7 @@ export default function AdminReportsPage() {
 
     try {
       await adminApi.deleteReport(id);
-      const response = await adminApi.getReports(filterStatus);
-      setReports(response);
+      await loadReports();
       alert("Report deleted!");
     } catch (err: any) {
       console.error("Error deleting report:", err);
@@ -184,7 +198,7 @@ export default function AdminReportsPage() {
             <button
               key={status}
               className={`${styles["filter-btn"]} ${filterStatus === status ? styles["active"] : ""}`}
-              onClick={() => setFilterStatus(status)}
+              onClick={() => changeFilter(status)}
             >
               {status}
             </button>
@@ -253,6 +267,27 @@ export default function AdminReportsPage() {
             </table>
           </div>
         )}
+
+        {/* Pagination */}
+        {!loading && !error && totalPages > 1 && (
+          <div className={styles["pagination"]}>
+            <button
+              className={styles["filter-btn"]}
+              onClick={() => setPage(page - 1)}
+              disabled={page === 0}
+            >
+              <ChevronLeft size={14} />
+            </button>
+            <span>PAGE {page + 1} / {totalPages} ({totalElements} REPORTS)</span>
+            <button
+              className={styles["filter-btn"]}
+              onClick={() => setPage(page + 1)}
+              disabled={page >= totalPages - 1}
+            >
+              <ChevronRight size={14} />
+            </button>
+          </div>
+        )}
       </div>
     </div>
   );
@@ -8,6 +8,10 @@ import { useAuthStore } from "@/stores/auth-store";
 import type { SearchHistoryDTO, FavoriteDTO, ApiResponse } from "@/types/api";
 import styles from "../../styles/dashboard.module.css";
 
+// X-Next-Cursor of a history page; absent on the last page
+const nextCursor = (header: unknown): string | null =>
+  typeof header === "string" && header !== "" ? header : null;
+
 export default function DashboardPage() {
   const router = useRouter();
   const { isAuthenticated, isGuest } = useAuthStore();
@@ -16,6 +20,9 @@ export default function DashboardPage() {
   const [searchHistory, setSearchHistory] = useState<SearchHistoryDTO[]>([]);
   const [isHistoryLoading, setIsHistoryLoading] = useState(false);
   const [historyError, setHistoryError] = useState<string | null>(null);
+  // Cursor of the next history page (X-Next-Cursor), null on the last page
+  const [historyCursor, setHistoryCursor] = useState<string | null>(null);
+  const [isHistoryLoadingMore, setIsHistoryLoadingMore] = useState(false);
 
   // Favorites state
   const [favorites, setFavorites] = useState<FavoriteDTO[]>([]);
@@ -47,6 +54,7 @@ export default function DashboardPage() {
             `[Dashboard] Success: Received ${history.length} history items`
           );
           setSearchHistory(history);
+          setHistoryCursor(nextCursor(response.headers["x-next-cursor"]));
         } else {
           throw new Error(
             response.data.message || "Failed to fetch search history"
@@ -65,6 +73,29 @@ export default function DashboardPage() {
     fetchSearchHistory();
   }, [isAuthenticated]);
 
+  // History is paged by the backend; append the next page on demand
+  const loadMoreHistory = async () => {
+    if (!historyCursor || isHistoryLoadingMore) {
+      return;
+    }
+    setIsHistoryLoadingMore(true);
+    try {
+      const response = await apiClient.get<ApiResponse<SearchHistoryDTO[]>>(
+        "/user/history",
+        { params: { cursor: historyCursor } }
+      );
+      setSearchHistory((previous) => [...previous, ...response.data.data]);
+      setHistoryCursor(nextCursor(response.headers["x-next-cursor"]));
+    } catch (err) {
+      const errorMsg =
+        err instanceof Error ? err.message : "Failed to load search history";
+      console.error("[Dashboard] Error loading more history:", errorMsg);
+      setHistoryError(errorMsg);
+    } finally {
+      setIsHistoryLoadingMore(false);
+    }
+  };
+
   // Fetch favorites (limited to 5 for dashboard)
   useEffect(() => {
     const fetchFavorites = async () => {
@@ -225,6 +256,16 @@ export default function DashboardPage() {
                         </div>
                       </div>
                     ))}
+                    {historyCursor && (
+                      <button
+                        type="button"
+                        className={styles["history-more"]}
+                        onClick={loadMoreHistory}
+                        disabled={isHistoryLoadingMore}
+                      >
+                        {isHistoryLoadingMore ? "Loading..." : "Load more"}
+                      </button>
+                    )}
                   </div>
                 )}
             </div>
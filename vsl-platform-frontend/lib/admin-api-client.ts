@@ -88,6 +88,39 @@ export interface AdminPasswordResetRequest {
   newPassword: string;
 }
 
+// ==================== Paged Listings ====================
+
+// Default page size of the paged admin listings (backend max: 100)
+export const LIST_PAGE_SIZE = 20;
+
+/**
+ * Fetch one page of a paged admin listing (?page=&size=, total in X-Total-Count)
+ * as a PageResponse, so the admin pages can render page controls.
+ */
+async function fetchPage<T>(
+  endpoint: string,
+  page: number,
+  size: number,
+  params: Record<string, unknown> = {}
+): Promise<PageResponse<T>> {
+  const response = await apiClient.get<ApiResponse<T[]>>(endpoint, {
+    params: { ...params, page, size }
+  });
+  const content = response.data.data ?? [];
+  const header = Number(response.headers['x-total-count']);
+  const totalElements = Number.isFinite(header) ? header : page * size + content.length;
+  const totalPages = Math.ceil(totalElements / size);
+  return {
+    content,
+    totalElements,
+    totalPages,
+    size,
+    number: page,
+    first: page === 0,
+    last: page >= totalPages - 1
+  };
+}
+
 // ==================== Admin API Client ====================
 
 export const adminApi = {
@@ -219,15 +252,16 @@ export const adminApi = {
   // ==================== Contribution Management ====================
 
   /**
-   * GET /api/admin/contributions?status=PENDING
-   * Lấy danh sách contributions theo status (PENDING, APPROVED, REJECTED)
+   * GET /api/admin/contributions?status=PENDING&page=0&size=20
+   * Lấy một trang contributions theo status (PENDING, APPROVED, REJECTED)
    */
-  getContributions: async (status: "PENDING" | "APPROVED" | "REJECTED" = "PENDING"): Promise<ContributionDTO[]> => {
+  getContributions: async (
+    status: "PENDING" | "APPROVED" | "REJECTED" = "PENDING",
+    page: number = 0,
+    size: number = LIST_PAGE_SIZE
+  ): Promise<PageResponse<ContributionDTO>> => {
     try {
-      const response = await apiClient.get<ApiResponse<ContributionDTO[]>>('/admin/contributions', {
-        params: { status }
-      });
-      return response.data.data ?? [];
+      return await fetchPage<ContributionDTO>('/admin/contributions', page, size, { status });
     } catch (error: any) {
       console.error('[Admin API] Error getting contributions:', error.response?.data || error.message);
       throw error;
@@ -381,15 +415,18 @@ export const adminApi = {
   // ==================== Report Management ====================
 
   /**
-   * GET /api/admin/reports
-   * Lấy tất cả reports
+   * GET /api/admin/reports?page=0&size=20
+   * Lấy một trang reports
    */
-  getReports: async (status: "ALL" | "OPEN" | "RESOLVED"): Promise<ReportDTO[]> => {
+  getReports: async (
+    status: "ALL" | "OPEN" | "RESOLVED",
+    page: number = 0,
+    size: number = LIST_PAGE_SIZE
+  ): Promise<PageResponse<ReportDTO>> => {
     try {
       const endpoint = status === "OPEN" ? "/admin/reports/open" : 
                       status === "RESOLVED" ? "/admin/reports" : "/admin/reports";
-      const response = await apiClient.get<ApiResponse<ReportDTO[]>>(endpoint);
-      return response.data.data ?? [];
+      return await fetchPage<ReportDTO>(endpoint, page, size);
     } catch (error: any) {
       console.error('[Admin API] Error getting reports:', error.response?.data || error.message);
       throw error;
@@ -397,13 +434,12 @@ export const adminApi = {
   },
 
   /**
-   * GET /api/admin/reports/open
-   * Lấy tất cả open reports
+   * GET /api/admin/reports/open?page=0&size=20
+   * Lấy một trang open reports
    */
-  getOpenReports: async (): Promise<ReportDTO[]> => {
+  getOpenReports: async (page: number = 0, size: number = LIST_PAGE_SIZE): Promise<PageResponse<ReportDTO>> => {
     try {
-      const response = await apiClient.get<ApiResponse<ReportDTO[]>>("/admin/reports/open");
-      return response.data.data ?? [];
+      return await fetchPage<ReportDTO>("/admin/reports/open", page, size);
     } catch (error: any) {
       console.error('[Admin API] Error getting open reports:', error.response?.data || error.message);
       throw error;